@@ -29,6 +29,8 @@ export interface ReplyResponseDto {
   userName?: string;
   createdAt: string;
   deleted: boolean;
+  replyCount?: number;
+  moreRepliesCursor?: string | null;
 }
 
 export interface CommentPage {
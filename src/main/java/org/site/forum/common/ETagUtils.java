@@ -0,0 +1,31 @@
+package org.site.forum.common;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.util.DigestUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ETagUtils {
+
+    private static final String SEPARATOR = "|";
+
+    public static String strongETag(Object... versionParts) {
+        String version = Arrays.stream(versionParts)
+                .map(part -> Objects.toString(part, ""))
+                .collect(Collectors.joining(SEPARATOR));
+
+        return "\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * For representations that also carry values outside the version parts, such as counters that move on every read.
+     */
+    public static String weakETag(Object... versionParts) {
+        return "W/" + strongETag(versionParts);
+    }
+
+}
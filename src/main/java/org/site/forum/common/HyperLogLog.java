@@ -0,0 +1,228 @@
+package org.site.forum.common;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog sketch with 2^12 registers. The estimate has a standard error of 1.04 / sqrt(4096), about 1.6%, so
+ * roughly 95% of estimates fall within 3.3% of the true count. Small counts are answered by linear counting and are
+ * close to exact. Not thread-safe.
+ * <p>
+ * A sketch starts sparse: a sorted list of the registers that are set, four bytes each, which is what most topics
+ * ever need. It switches to dense one-byte registers (4 KB) once the list would be as large. Both forms hold the same
+ * registers, so they estimate alike, and {@link #toBytes()} keeps whichever form the sketch is in.
+ */
+public class HyperLogLog {
+
+    public static final int PRECISION = 12;
+    public static final int REGISTERS = 1 << PRECISION;
+    public static final int MAX_SPARSE_ENTRIES = REGISTERS / Integer.BYTES - 1;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int[] NO_ENTRIES = new int[0];
+
+    private byte[] registers;
+    private int[] entries;
+    private int size;
+
+    public HyperLogLog() {
+        this.entries = NO_ENTRIES;
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    private HyperLogLog(int[] entries) {
+        this.entries = entries;
+        this.size = entries.length;
+    }
+
+    /**
+     * Reads {@link #REGISTERS} bytes as a dense sketch and anything shorter as the entries of a sparse one.
+     */
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes.length == REGISTERS) {
+            return new HyperLogLog(bytes.clone());
+        }
+        if (bytes.length % Integer.BYTES != 0 || bytes.length / Integer.BYTES > MAX_SPARSE_ENTRIES) {
+            throw new IllegalArgumentException("Expected " + REGISTERS + " registers or a sparse sketch, got "
+                    + bytes.length + " bytes");
+        }
+
+        IntBuffer buffer = ByteBuffer.wrap(bytes).asIntBuffer();
+        int[] entries = new int[buffer.remaining()];
+        buffer.get(entries);
+        for (int i = 0; i < entries.length; i++) {
+            if (rankOf(entries[i]) == 0 || indexOf(entries[i]) >= REGISTERS
+                    || (i > 0 && indexOf(entries[i]) <= indexOf(entries[i - 1]))) {
+                throw new IllegalArgumentException("Malformed sparse sketch entry at " + i);
+            }
+        }
+        return new HyperLogLog(entries);
+    }
+
+    public byte[] toBytes() {
+        if (registers != null) {
+            return registers.clone();
+        }
+
+        ByteBuffer bytes = ByteBuffer.allocate(size * Integer.BYTES);
+        bytes.asIntBuffer().put(entries, 0, size);
+        return bytes.array();
+    }
+
+    public boolean isSparse() {
+        return registers == null;
+    }
+
+    public void add(String value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+
+        set(index, rank);
+    }
+
+    public void merge(HyperLogLog other) {
+        if (other.registers == null) {
+            for (int i = 0; i < other.size; i++) {
+                set(indexOf(other.entries[i]), rankOf(other.entries[i]));
+            }
+            return;
+        }
+
+        densify();
+        for (int i = 0; i < REGISTERS; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        if (registers != null) {
+            for (byte register : registers) {
+                sum += 1.0 / (1L << register);
+                if (register == 0) {
+                    zeros++;
+                }
+            }
+        } else {
+            zeros = REGISTERS - size;
+            sum = zeros;
+            for (int i = 0; i < size; i++) {
+                sum += 1.0 / (1L << rankOf(entries[i]));
+            }
+        }
+
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+
+        return Math.round(estimate);
+    }
+
+    private void set(int index, int rank) {
+        if (registers != null) {
+            if (rank > registers[index]) {
+                registers[index] = (byte) rank;
+            }
+            return;
+        }
+
+        int position = find(index);
+        if (position >= 0) {
+            if (rank > rankOf(entries[position])) {
+                entries[position] = entry(index, rank);
+            }
+            return;
+        }
+
+        if (size == MAX_SPARSE_ENTRIES) {
+            densify();
+            registers[index] = (byte) rank;
+            return;
+        }
+
+        int insertion = -(position + 1);
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, Math.min(Math.max(4, size * 2), MAX_SPARSE_ENTRIES));
+        }
+        System.arraycopy(entries, insertion, entries, insertion + 1, size - insertion);
+        entries[insertion] = entry(index, rank);
+        size++;
+    }
+
+    /**
+     * Position of the entry for {@code index}, or {@code -(insertion point) - 1} like
+     * {@link Arrays#binarySearch(int[], int)}.
+     */
+    private int find(int index) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int current = indexOf(entries[middle]);
+            if (current < index) {
+                low = middle + 1;
+            } else if (current > index) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void densify() {
+        if (registers != null) {
+            return;
+        }
+
+        registers = new byte[REGISTERS];
+        for (int i = 0; i < size; i++) {
+            registers[indexOf(entries[i])] = (byte) rankOf(entries[i]);
+        }
+        entries = null;
+        size = 0;
+    }
+
+    private static int entry(int index, int rank) {
+        return index << Byte.SIZE | rank;
+    }
+
+    private static int indexOf(int entry) {
+        return entry >>> Byte.SIZE;
+    }
+
+    private static int rankOf(int entry) {
+        return entry & 0xff;
+    }
+
+    /**
+     * 64-bit FNV-1a followed by the MurmurHash3 finalizer, which spreads FNV's weak high bits over the whole word.
+     */
+    private static long hash(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -0,0 +1,42 @@
+package org.site.forum.common;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class KWayMerge {
+
+    /**
+     * The first {@code limit} items of streams that are each sorted by {@code order}, in that order. Items that
+     * compare equal are taken from the earlier stream first.
+     */
+    public static <T> List<T> merge(List<? extends List<? extends T>> streams, Comparator<? super T> order, int limit) {
+        PriorityQueue<int[]> heads = new PriorityQueue<>((left, right) -> {
+            int compared = order.compare(streams.get(left[0]).get(left[1]), streams.get(right[0]).get(right[1]));
+            return compared != 0 ? compared : Integer.compare(left[0], right[0]);
+        });
+        for (int stream = 0; stream < streams.size(); stream++) {
+            if (!streams.get(stream).isEmpty()) {
+                heads.add(new int[]{stream, 0});
+            }
+        }
+
+        List<T> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<? extends T> stream = streams.get(head[0]);
+            merged.add(stream.get(head[1]));
+
+            if (head[1] + 1 < stream.size()) {
+                heads.add(new int[]{head[0], head[1] + 1});
+            }
+        }
+
+        return merged;
+    }
+
+}
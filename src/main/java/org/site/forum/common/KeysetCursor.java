@@ -0,0 +1,49 @@
+package org.site.forum.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.site.forum.common.constant.PageConstant;
+import org.site.forum.common.exception.InvalidPageException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a keyset page, ordered by {@code (createdAt, id)}.
+ * Clients only see it as an opaque URL-safe token.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String SEPARATOR = ",";
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new InvalidPageException(PageConstant.ERROR_INVALID_CURSOR);
+            }
+
+            return new KeysetCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (java.lang.IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidPageException(PageConstant.ERROR_INVALID_CURSOR);
+        }
+    }
+
+}
@@ -0,0 +1,49 @@
+package org.site.forum.common;
+
+import lombok.AllArgsConstructor;
+import org.site.forum.common.constant.PageConstant;
+import org.site.forum.common.exception.InvalidPageException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Position in a page merged from several keyset streams: the {@link KeysetCursor} of the last row taken from each
+ * stream, or null for a stream nothing has been taken from yet. Clients only see it as an opaque URL-safe token.
+ */
+@AllArgsConstructor
+public class MergedKeysetCursor {
+
+    private static final String SEPARATOR = ".";
+
+    private final List<KeysetCursor> positions;
+
+    public KeysetCursor get(int stream) {
+        return positions.get(stream);
+    }
+
+    public String encode() {
+        return positions.stream()
+                .map(position -> position == null ? "" : position.encode())
+                .collect(Collectors.joining(SEPARATOR));
+    }
+
+    public static MergedKeysetCursor decode(String token, int streams) {
+        if (token == null || token.isBlank()) {
+            return new MergedKeysetCursor(Collections.nCopies(streams, null));
+        }
+
+        String[] parts = token.split("\\" + SEPARATOR, -1);
+        if (parts.length != streams) {
+            throw new InvalidPageException(PageConstant.ERROR_INVALID_CURSOR);
+        }
+
+        List<KeysetCursor> positions = new ArrayList<>(streams);
+        for (String part : parts) {
+            positions.add(KeysetCursor.decode(part));
+        }
+        return new MergedKeysetCursor(positions);
+    }
+
+}
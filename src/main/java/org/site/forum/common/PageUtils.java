@@ -24,7 +24,7 @@ public class PageUtils {
         return normalizedPage;
     }
 
-    private static int validatePageSize(Integer pageSize) {
+    public static int validatePageSize(Integer pageSize) {
         int normalizedPageSize = (pageSize == null) ? PageConstant.DEFAULT_PAGE_SIZE : pageSize;
         if (normalizedPageSize <= 0 || normalizedPageSize > PageConstant.MAX_PAGE_SIZE) {
             throw new InvalidPageSizeException(PageConstant.ERROR_INVALID_PAGE_SIZE, PageConstant.MAX_PAGE_SIZE);
@@ -0,0 +1,17 @@
+package org.site.forum.common.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentConstant {
+
+    public static final int DEFAULT_REPLY_TREE_DEPTH = 5;
+    public static final int MAX_REPLY_TREE_DEPTH = 50;
+    public static final int DEFAULT_REPLY_TREE_NODES = 200;
+    public static final int MAX_REPLY_TREE_NODES = 1000;
+
+    public static final String ERROR_INVALID_REPLY_TREE_DEPTH = "Max depth must be between 0 and " + MAX_REPLY_TREE_DEPTH;
+    public static final String ERROR_INVALID_REPLY_TREE_NODES = "Max nodes must be between 1 and " + MAX_REPLY_TREE_NODES;
+
+}
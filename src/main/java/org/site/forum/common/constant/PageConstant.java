@@ -9,8 +9,10 @@ public class PageConstant {
     public static final int DEFAULT_PAGE = 0;
     public static final int DEFAULT_PAGE_SIZE = 10;
     public static final int MAX_PAGE_SIZE = 50;
+    public static final int CONTENT_PREVIEW_LENGTH = 500;
 
     public static final String ERROR_INVALID_PAGE = "Page must be greater than or equal to 0";
     public static final String ERROR_INVALID_PAGE_SIZE = "Page size must be between 1 and " + MAX_PAGE_SIZE;
+    public static final String ERROR_INVALID_CURSOR = "Cursor is malformed";
 
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.site.forum.common.constant;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import java.util.Map;
 import java.util.Set;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -12,11 +13,45 @@ public class SearchConstant {
     public static final int MAX_LIMIT = 50;
     public static final String DEFAULT_SORT_BY = "rating";
     public static final String DEFAULT_SORT_DIRECTION = "ASC";
+    public static final String DEFAULT_RANKED_SORT_DIRECTION = "DESC";
+    public static final String SORT_BY_RANK = "ts_rank";
+    public static final String SORT_BY_SIMILARITY = "similarity";
+    public static final String SORT_BY_HOT = "hot";
+    public static final double DEFAULT_SIMILARITY_THRESHOLD = 0.3;
+    public static final int DEFAULT_SUGGEST_LIMIT = 10;
+    public static final int MAX_SUGGEST_LIMIT = 20;
 
-    public static final Set<String> ALLOWED_SORT_FIELDS = Set.of(DEFAULT_SORT_BY, "title");
+    public static final String SEARCH_MODE_LIKE = "like";
+    public static final String SEARCH_MODE_FULL_TEXT = "fulltext";
+    public static final String SEARCH_MODE_FUZZY = "fuzzy";
+    public static final String DEFAULT_SEARCH_MODE = SEARCH_MODE_LIKE;
+    public static final String TEXT_SEARCH_CONFIGURATION = "english";
+
+    public static final String TOTAL_EXACT = "exact";
+    public static final String TOTAL_ESTIMATED = "estimated";
+    public static final String TOTAL_CAPPED = "capped";
+    public static final String DEFAULT_TOTAL_MODE = TOTAL_EXACT;
+    public static final long MAX_COUNTED_TOTAL = 10_000;
+
+    public static final String SEARCH_ENGINE_DATABASE = "database";
+    public static final String SEARCH_ENGINE_INDEX = "index";
+
+    public static final Set<String> ALLOWED_SORT_FIELDS = Set.of(DEFAULT_SORT_BY, "title", SORT_BY_HOT, SORT_BY_RANK,
+            SORT_BY_SIMILARITY);
+    public static final Set<String> RANKED_SORT_FIELDS = Set.of(SORT_BY_HOT, SORT_BY_RANK, SORT_BY_SIMILARITY);
+    public static final Set<String> INDEX_SORT_FIELDS = Set.of(DEFAULT_SORT_BY, "title", SORT_BY_RANK, SORT_BY_SIMILARITY);
+    public static final Set<String> ALLOWED_SEARCH_MODES = Set.of(SEARCH_MODE_LIKE, SEARCH_MODE_FULL_TEXT, SEARCH_MODE_FUZZY);
+    public static final Set<String> ALLOWED_TOTAL_MODES = Set.of(TOTAL_EXACT, TOTAL_ESTIMATED, TOTAL_CAPPED);
+    public static final Map<String, Set<String>> SORT_FIELDS_BY_SEARCH_MODE = Map.of(
+            SEARCH_MODE_LIKE, Set.of(DEFAULT_SORT_BY, "title", SORT_BY_HOT),
+            SEARCH_MODE_FULL_TEXT, Set.of(DEFAULT_SORT_BY, "title", SORT_BY_HOT, SORT_BY_RANK),
+            SEARCH_MODE_FUZZY, Set.of(DEFAULT_SORT_BY, "title", SORT_BY_HOT, SORT_BY_SIMILARITY));
     public static final Set<String> ALLOWED_SORT_DIRECTIONS = Set.of("ASC", "DESC");
 
     public static final String ERROR_INVALID_OFFSET = "Offset must be greater than or equal to 0";
     public static final String ERROR_INVALID_LIMIT = "Limit must be between 1 and " + MAX_LIMIT;
+    public static final String ERROR_INVALID_SUGGEST_LIMIT = "Suggestion limit must be between 1 and " + MAX_SUGGEST_LIMIT;
+    public static final String ERROR_COMMUNITY_NOT_FOUND = "Community not found";
+    public static final String ERROR_INVALID_SIMILARITY_THRESHOLD = "Similarity threshold must be greater than 0 and at most 1";
 
 }
\ No newline at end of file
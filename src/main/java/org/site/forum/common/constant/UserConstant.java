@@ -0,0 +1,11 @@
+package org.site.forum.common.constant;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserConstant {
+
+    public static final int PROFILE_RECENT_ITEMS = 5;
+
+}
@@ -0,0 +1,9 @@
+package org.site.forum.common.exception;
+
+public class CommunityNotFoundException extends RuntimeException {
+
+    public CommunityNotFoundException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package org.site.forum.common.exception;
+
+public class InvalidSearchModeException extends IllegalArgumentException {
+
+    public InvalidSearchModeException(String invalidMode, Iterable<String> allowedModes) {
+        super("Invalid search mode: " + invalidMode + ". Allowed modes: " + String.join(", ", allowedModes));
+    }
+
+}
@@ -0,0 +1,9 @@
+package org.site.forum.common.exception;
+
+public class InvalidTotalModeException extends IllegalArgumentException {
+
+    public InvalidTotalModeException(String invalidTotalMode, Iterable<String> allowedTotalModes) {
+        super("Invalid total mode: " + invalidTotalMode + ". Allowed total modes: " + String.join(", ", allowedTotalModes));
+    }
+
+}
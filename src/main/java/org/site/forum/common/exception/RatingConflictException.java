@@ -0,0 +1,9 @@
+package org.site.forum.common.exception;
+
+public class RatingConflictException extends RuntimeException {
+
+    public RatingConflictException(String message) {
+        super(message);
+    }
+
+}
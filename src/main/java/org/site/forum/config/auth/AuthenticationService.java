@@ -2,12 +2,15 @@ package org.site.forum.config.auth;
 
 import lombok.AllArgsConstructor;
 import org.site.forum.common.exception.UserNotFoundException;
+import org.site.forum.domain.user.cache.KnownUserCache;
 import org.site.forum.domain.user.dao.UserDao;
 import org.site.forum.domain.user.entity.User;
 import org.site.forum.domain.user.mapper.UserMapper;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
+import java.util.Optional;
 
 @Service
 @AllArgsConstructor
@@ -15,19 +18,42 @@ public class AuthenticationService {
 
     private final UserMapper userMapper;
     private final UserDao userDao;
+    private final KnownUserCache knownUserCache;
 
     private static final String USER_NOT_FOUND = "User not found";
 
     public User getAuthenticatedUser() {
-        return userMapper.toUser((Jwt) SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof ForumAuthenticationToken token) {
+            return new User(token.getUserId(), token.getDisplayName(), null, null);
+        }
+
+        return userMapper.toUser((Jwt) authentication.getPrincipal());
+    }
+
+    /**
+     * Subject of the caller's token, or empty for anonymous callers of public endpoints.
+     */
+    public Optional<String> getAuthenticatedSubject() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+            return Optional.ofNullable(jwt.getSubject());
+        }
+
+        return Optional.empty();
     }
 
+    /**
+     * The caller as a stored user. Only users this instance has not yet stored under their current name reach the
+     * database.
+     */
     public User getAuthenticatedAndPersistedUser() {
         User user = getAuthenticatedUser();
         checkUser(user);
 
-        if (userDao.getUserById(user.getId()).isEmpty()) {
-            userDao.saveUser(user);
+        if (!knownUserCache.isKnown(user.getId(), user.getName())) {
+            userDao.upsertUser(user);
+            knownUserCache.remember(user.getId(), user.getName());
         }
 
         return user;
@@ -0,0 +1,35 @@
+package org.site.forum.config.auth;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * JWT authentication with the claims the services read on every request parsed once, when the token is converted.
+ */
+@Getter
+public class ForumAuthenticationToken extends JwtAuthenticationToken {
+
+    public static final int ROLE_ADMIN = 1;
+    public static final int ROLE_CLIENT_ADMIN = 1 << 1;
+
+    private final UUID userId;
+    private final String displayName;
+    private final int roles;
+
+    public ForumAuthenticationToken(Jwt jwt, Collection<? extends GrantedAuthority> authorities, String name,
+                                    UUID userId, String displayName, int roles) {
+        super(jwt, authorities, name);
+        this.userId = userId;
+        this.displayName = displayName;
+        this.roles = roles;
+    }
+
+    public boolean isAdmin() {
+        return (roles & (ROLE_ADMIN | ROLE_CLIENT_ADMIN)) != 0;
+    }
+
+}
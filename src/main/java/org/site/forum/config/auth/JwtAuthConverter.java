@@ -18,6 +18,8 @@ import java.util.stream.Stream;
 @Component
 public class JwtAuthConverter implements Converter<Jwt, AbstractAuthenticationToken> {
 
+    private static final String NAME_CLAIM = "name";
+
     private final JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
 
     @Value("${jwt.auth.converter.principle-attribute}")
@@ -34,13 +36,29 @@ public class JwtAuthConverter implements Converter<Jwt, AbstractAuthenticationTo
                 extractResourceRoles(jwt).stream()
         ).collect(Collectors.toSet());
 
-        return new JwtAuthenticationToken(
+        UUID userId = parseUserId(jwt);
+        if (userId == null) {
+            return new JwtAuthenticationToken(jwt, authorities, getPrincipleClaimName(jwt));
+        }
+
+        return new ForumAuthenticationToken(
                 jwt,
                 authorities,
-                getPrincipleClaimName(jwt)
+                getPrincipleClaimName(jwt),
+                userId,
+                jwt.getClaimAsString(NAME_CLAIM),
+                RoleUtils.roleBits(jwt, authorities)
         );
     }
 
+    private UUID parseUserId(Jwt jwt) {
+        try {
+            return jwt.getSubject() != null ? UUID.fromString(jwt.getSubject()) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     private String getPrincipleClaimName(Jwt jwt) {
         String claimName = (principleAttribute != null) ? principleAttribute : JwtClaimNames.SUB;
         return jwt.getClaim(claimName);
@@ -8,6 +8,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -28,6 +29,10 @@ public class RoleUtils {
             return false;
         }
 
+        if (authentication instanceof ForumAuthenticationToken token) {
+            return token.isAdmin();
+        }
+
         if (hasAuthority(authentication, ROLE_CLIENT_ADMIN, ROLE_ADMIN)) {
             return true;
         }
@@ -43,6 +48,24 @@ public class RoleUtils {
         return false;
     }
 
+    /**
+     * The admin roles granted by the token, as {@link ForumAuthenticationToken} role bits.
+     */
+    public static int roleBits(Jwt jwt, Collection<? extends GrantedAuthority> authorities) {
+        Set<String> granted = new HashSet<>();
+        authorities.forEach(authority -> granted.add(authority.getAuthority()));
+
+        int roles = 0;
+        if (granted.contains(ROLE_ADMIN) || hasRealmRole(jwt)) {
+            roles |= ForumAuthenticationToken.ROLE_ADMIN;
+        }
+        if (granted.contains(ROLE_CLIENT_ADMIN) || hasResourceRole(jwt)) {
+            roles |= ForumAuthenticationToken.ROLE_CLIENT_ADMIN;
+        }
+
+        return roles;
+    }
+
     private static boolean hasRealmRole(Jwt jwt) {
         Map<String, Object> realmAccess = jwt.getClaim(REALM_ACCESS);
         if (!(realmAccess != null && realmAccess.get(ROLES) instanceof Collection<?> roles)) {
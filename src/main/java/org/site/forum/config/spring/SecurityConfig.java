@@ -1,7 +1,18 @@
 package org.site.forum.config.spring;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jose.util.ResourceRetriever;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.site.forum.config.auth.CachingJwtDecoder;
 import org.site.forum.config.auth.JwtAuthConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -9,7 +20,12 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.web.SecurityFilterChain;
+import java.net.URL;
+import java.time.Duration;
 
 @Configuration
 @EnableWebSecurity
@@ -37,4 +53,46 @@ public class SecurityConfig {
                 .build();
     }
 
-}
\ No newline at end of file
+    @Bean
+    ResourceRetriever jwkSetRetriever() {
+        return new DefaultResourceRetriever(JWKSourceBuilder.DEFAULT_HTTP_CONNECT_TIMEOUT,
+                JWKSourceBuilder.DEFAULT_HTTP_READ_TIMEOUT, JWKSourceBuilder.DEFAULT_HTTP_SIZE_LIMIT);
+    }
+
+    /**
+     * Keycloak's signing keys, refreshed in the background ahead of expiry so that requests never wait on the
+     * JWK set endpoint unless they carry a key id that has not been seen yet. Refetches for unknown key ids are rate
+     * limited, so forged key ids cannot flood Keycloak.
+     */
+    @Bean
+    JWKSource<SecurityContext> jwkSource(
+            @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") URL jwkSetUri,
+            @Value("${forum.security.jwk-set.ttl}") Duration ttl,
+            @Value("${forum.security.jwk-set.refresh-timeout}") Duration refreshTimeout,
+            @Value("${forum.security.jwk-set.refresh-ahead}") Duration refreshAhead,
+            @Value("${forum.security.jwk-set.min-refresh-interval}") Duration minRefreshInterval,
+            ResourceRetriever jwkSetRetriever) {
+        return JWKSourceBuilder.<SecurityContext>create(jwkSetUri, jwkSetRetriever)
+                .cache(ttl.toMillis(), refreshTimeout.toMillis())
+                .refreshAheadCache(refreshAhead.toMillis(), true)
+                .rateLimited(minRefreshInterval.toMillis())
+                .build();
+    }
+
+    @Bean
+    JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource,
+                          @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri}") String issuerUri,
+                          @Value("${forum.cache.verified-tokens.maximum-size}") long maximumSize,
+                          MeterRegistry meterRegistry) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        NimbusJwtDecoder nimbusJwtDecoder = new NimbusJwtDecoder(jwtProcessor);
+        nimbusJwtDecoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuerUri));
+
+        return new CachingJwtDecoder(nimbusJwtDecoder, maximumSize, meterRegistry);
+    }
+
+}
@@ -7,6 +7,7 @@ import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import org.site.forum.common.PageUtils;
 import org.site.forum.domain.comment.dto.request.CommentRequestDto;
+import org.site.forum.domain.comment.dto.response.CursorPageResponseDto;
 import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
 import org.site.forum.domain.comment.dto.response.ReplyResponseDto;
 import org.site.forum.domain.comment.integrity.CommentDataIntegrity;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import java.util.UUID;
 
 @Tag(name = "Comment Controller", description = "Operations related to comment management")
@@ -51,14 +53,20 @@ public class CommentController {
     @GetMapping("/{commentId}")
     @Operation(
             summary = "Get comment by ID",
-            description = "Retrieve a specific comment by its ID"
+            description = "Retrieve a specific comment with its reply tree, loaded breadth-first up to the given depth and size. " +
+                    "Replies with fewer returned replies than their replyCount continue at /{commentId}/replies/cursor, " +
+                    "after their moreRepliesCursor when they carry one and from the start otherwise."
     )
     public ResponseEntity<ReplyResponseDto> getComment(
             @Parameter(description = "UUID of the comment", required = true)
-            @PathVariable UUID commentId) {
+            @PathVariable UUID commentId,
+            @Parameter(description = "Maximum number of reply levels below the comment")
+            @RequestParam(required = false) Integer maxDepth,
+            @Parameter(description = "Maximum number of comments in the returned tree")
+            @RequestParam(required = false) Integer maxNodes) {
 
         commentDataIntegrity.validateCommentId(commentId);
-        return ResponseEntity.status(HttpStatus.OK).body(commentService.getCommentByParent(commentId));
+        return ResponseEntity.status(HttpStatus.OK).body(commentService.getCommentByParent(commentId, maxDepth, maxNodes));
     }
 
     @DeleteMapping("/{commentId}")
@@ -77,7 +85,8 @@ public class CommentController {
     @GetMapping("/topics/{topicId}")
     @Operation(
             summary = "Get comments by topic",
-            description = "Retrieve all parent comments for a specific topic"
+            description = "Retrieve all parent comments for a specific topic. Responds with 304 Not Modified when the " +
+                    "If-None-Match header matches the current ETag of the topic's comments."
     )
     public ResponseEntity<Page<ParentCommentResponseDto>> getAllCommentsByTopic(
             @Parameter(description = "UUID of the topic", required = true)
@@ -85,11 +94,18 @@ public class CommentController {
             @Parameter(description = "Page number")
             @RequestParam(required = false) Integer page,
             @Parameter(description = "Number of items per page")
-            @RequestParam(required = false) Integer pageSize) {
+            @RequestParam(required = false) Integer pageSize,
+            WebRequest webRequest) {
 
         topicDataIntegrity.validateTopicId(topicId);
         PageRequest pageRequest = PageUtils.createValidPageRequest(page, pageSize);
-        return ResponseEntity.status(HttpStatus.OK)
+
+        String eTag = commentService.getTopicCommentsETag(topicId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag)
                 .body(commentService.getAllParentCommentsByTopic(topicId, pageRequest));
     }
 
@@ -112,4 +128,49 @@ public class CommentController {
                 .body(commentService.getAllRepliesByParent(commentId, pageRequest));
     }
 
+    @GetMapping("/topics/{topicId}/cursor")
+    @Operation(
+            summary = "Get comments by topic using a cursor",
+            description = "Retrieve parent comments for a specific topic in creation order, continuing after the given cursor. " +
+                    "Unlike the paged endpoint, no total count is computed. Supports If-None-Match like the paged endpoint."
+    )
+    public ResponseEntity<CursorPageResponseDto<ParentCommentResponseDto>> getCommentsByTopicAfter(
+            @Parameter(description = "UUID of the topic", required = true)
+            @PathVariable UUID topicId,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous request")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per page")
+            @RequestParam(required = false) Integer pageSize,
+            WebRequest webRequest) {
+
+        topicDataIntegrity.validateTopicId(topicId);
+
+        String eTag = commentService.getTopicCommentsETag(topicId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag)
+                .body(commentService.getParentCommentsByTopicAfter(topicId, after, pageSize));
+    }
+
+    @GetMapping("/{commentId}/replies/cursor")
+    @Operation(
+            summary = "Get replies to a comment using a cursor",
+            description = "Retrieve replies to a specific parent comment in creation order, continuing after the given cursor. " +
+                    "Unlike the paged endpoint, no total count is computed."
+    )
+    public ResponseEntity<CursorPageResponseDto<ReplyResponseDto>> getRepliesByParentAfter(
+            @Parameter(description = "UUID of the parent comment", required = true)
+            @PathVariable UUID commentId,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous request")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per page")
+            @RequestParam(required = false) Integer pageSize) {
+
+        commentDataIntegrity.validateCommentId(commentId);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(commentService.getRepliesByParentAfter(commentId, after, pageSize));
+    }
+
 }
\ No newline at end of file
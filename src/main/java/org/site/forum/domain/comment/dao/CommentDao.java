@@ -1,16 +1,30 @@
 package org.site.forum.domain.comment.dao;
 
+import org.site.forum.common.KeysetCursor;
+import org.site.forum.domain.comment.dto.projection.ReplyTreeRow;
+import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
 import org.site.forum.domain.comment.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface CommentDao {
 
     Comment saveComment(Comment comment);
     Comment getComment(UUID parentCommentId);
-    Page<Comment> getAllParentCommentsByTopic(UUID topicId, Pageable pageable);
+    Page<ParentCommentResponseDto> getAllParentCommentsByTopic(UUID topicId, Pageable pageable);
     Page<Comment> getAllRepliesByParent(UUID parentCommentId, Pageable pageable);
     Page<Comment> getAllCommentsByUserId(UUID userId, Pageable pageable);
+    List<ParentCommentResponseDto> getCommentsByUserIdBefore(UUID userId, KeysetCursor before, int limit);
+    Slice<Comment> getParentCommentsByTopicAfter(UUID topicId, KeysetCursor after, int limit);
+    Slice<Comment> getRepliesByParentAfter(UUID parentCommentId, KeysetCursor after, int limit);
+    List<ReplyTreeRow> getReplyTree(UUID rootCommentId, int maxDepth, int maxNodes);
+    void adjustReplyCount(UUID commentId, int delta);
+    boolean disableComment(UUID commentId, String text);
+    List<UUID> getCommentIdsAfter(UUID afterId, int limit);
+    int reconcileReplyCounts(Collection<UUID> commentIds);
 
 }
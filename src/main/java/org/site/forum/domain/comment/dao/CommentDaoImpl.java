@@ -1,16 +1,24 @@
 package org.site.forum.domain.comment.dao;
 
 import lombok.AllArgsConstructor;
+import org.site.forum.common.KeysetCursor;
 import org.site.forum.common.exception.InvalidCommentException;
 import org.site.forum.common.exception.InvalidTopicException;
 import org.site.forum.common.exception.InvalidUserIdException;
+import org.site.forum.domain.comment.dto.projection.ReplyTreeRow;
+import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
 import org.site.forum.domain.comment.entity.Comment;
 import org.site.forum.domain.comment.repository.CommentRepository;
 import org.site.forum.domain.topic.dao.TopicDaoImpl;
 import org.site.forum.domain.user.repository.UserRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -32,12 +40,12 @@ public class CommentDaoImpl implements CommentDao {
 
     @Override
     public Comment getComment(UUID parentCommentId) {
-        return commentRepository.findById(parentCommentId).orElseThrow(() ->
+        return commentRepository.findWithUserById(parentCommentId).orElseThrow(() ->
                 new InvalidCommentException(COMMENT_DOES_NOT_EXIST));
     }
 
     @Override
-    public Page<Comment> getAllParentCommentsByTopic(UUID topicId, Pageable pageable) {
+    public Page<ParentCommentResponseDto> getAllParentCommentsByTopic(UUID topicId, Pageable pageable) {
         checkIfTopicExists(topicId);
 
         return commentRepository.findAllParentCommentsByTopicId(topicId, pageable);
@@ -57,6 +65,79 @@ public class CommentDaoImpl implements CommentDao {
         return commentRepository.findAllCommentsByUserId(userId, pageable);
     }
 
+    /**
+     * The user's live comments, newest first, starting below {@code before} or at the newest when it is null.
+     */
+    @Override
+    public List<ParentCommentResponseDto> getCommentsByUserIdBefore(UUID userId, KeysetCursor before, int limit) {
+        return before == null
+                ? commentRepository.findFirstByUserId(userId, Limit.of(limit))
+                : commentRepository.findByUserIdBefore(userId, before.getCreatedAt(), before.getId(), Limit.of(limit));
+    }
+
+    @Override
+    public Slice<Comment> getParentCommentsByTopicAfter(UUID topicId, KeysetCursor after, int limit) {
+        checkIfTopicExists(topicId);
+
+        Pageable firstPage = PageRequest.ofSize(limit);
+        return after == null
+                ? commentRepository.findFirstParentCommentsByTopicId(topicId, firstPage)
+                : commentRepository.findParentCommentsByTopicIdAfter(topicId, after.getCreatedAt(), after.getId(), firstPage);
+    }
+
+    @Override
+    public Slice<Comment> getRepliesByParentAfter(UUID parentCommentId, KeysetCursor after, int limit) {
+        checkIfParentCommentExists(parentCommentId);
+
+        Pageable firstPage = PageRequest.ofSize(limit);
+        return after == null
+                ? commentRepository.findFirstRepliesByParentCommentId(parentCommentId, firstPage)
+                : commentRepository.findRepliesByParentCommentIdAfter(parentCommentId, after.getCreatedAt(), after.getId(), firstPage);
+    }
+
+    @Override
+    public List<ReplyTreeRow> getReplyTree(UUID rootCommentId, int maxDepth, int maxNodes) {
+        List<ReplyTreeRow> rows = commentRepository.findReplyTree(rootCommentId, maxDepth, maxNodes);
+        if (rows.isEmpty()) {
+            throw new InvalidCommentException(COMMENT_DOES_NOT_EXIST);
+        }
+
+        return rows;
+    }
+
+    @Override
+    public void adjustReplyCount(UUID commentId, int delta) {
+        commentRepository.adjustReplyCount(commentId, delta);
+    }
+
+    /**
+     * Disables the comment unless it already is, and reports whether this call did, so that concurrent deletes
+     * decrement the topic's comment count only once.
+     */
+    @Override
+    public boolean disableComment(UUID commentId, String text) {
+        return commentRepository.disableComment(commentId, text) == 1;
+    }
+
+    @Override
+    public List<UUID> getCommentIdsAfter(UUID afterId, int limit) {
+        return commentRepository.findIdsAfter(afterId, limit);
+    }
+
+    /**
+     * Locks the batch first, so that the recount reads every committed reply and concurrent adjustments wait for it
+     * instead of being overwritten by a count taken before they committed.
+     */
+    @Override
+    public int reconcileReplyCounts(Collection<UUID> commentIds) {
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+
+        commentRepository.lockByIds(commentIds);
+        return commentRepository.reconcileReplyCounts(commentIds);
+    }
+
     private void checkIfTopicExists(UUID topicId) {
         if(topicDao.getTopic(topicId) == null) {
             throw new InvalidTopicException(TOPIC_DOES_NOT_EXIST);
@@ -64,7 +145,7 @@ public class CommentDaoImpl implements CommentDao {
     }
 
     private void checkIfParentCommentExists(UUID parentCommentId) {
-        if (commentRepository.findById(parentCommentId).isEmpty()) {
+        if (!commentRepository.existsById(parentCommentId)) {
             throw new InvalidCommentException(COMMENT_DOES_NOT_EXIST);
         }
     }
@@ -0,0 +1,18 @@
+package org.site.forum.domain.comment.dto.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ReplyTreeRow {
+
+    UUID getId();
+    String getText();
+    LocalDateTime getCreatedAt();
+    Boolean getEnabled();
+    UUID getUserId();
+    String getUserName();
+    UUID getTopicId();
+    UUID getParentCommentId();
+    Integer getReplyCount();
+
+}
@@ -24,5 +24,6 @@ public class ParentCommentResponseDto {
     private UUID authorId;
     private String authorName;
     private UUID topicId;
+    private int replyCount;
 
 }
@@ -25,5 +25,7 @@ public class ReplyResponseDto {
     private UUID topicId;
     private UUID parentCommentId;
     private List<ReplyResponseDto> replies;
+    private Integer replyCount;
+    private String moreRepliesCursor;
 
 }
@@ -1,12 +1,16 @@
 package org.site.forum.domain.comment.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -21,6 +25,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@NamedEntityGraph(name = Comment.WITH_USER, attributeNodes = @NamedAttributeNode("user"))
 @Getter
 @Setter
 @AllArgsConstructor
@@ -29,6 +34,8 @@ import java.util.UUID;
 @Table(name = "comments")
 public class Comment {
 
+    public static final String WITH_USER = "Comment.withUser";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -39,14 +46,17 @@ public class Comment {
 
     private boolean isEnabled;
 
+    @Column(insertable = false, updatable = false)
+    private int replyCount;
+
     @JsonBackReference
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Topic topic;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "parent_comment_id")
     private Comment parentComment;
 
@@ -9,5 +9,7 @@ public interface CommentDataIntegrity {
     void validateComment(Comment comment);
     void validateCommentId(UUID commentId);
     void validateCommentRequestDto(CommentRequestDto commentRequestDto);
+    int validateReplyTreeDepth(Integer maxDepth);
+    int validateReplyTreeNodes(Integer maxNodes);
 
 }
@@ -9,6 +9,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import java.util.UUID;
 
+import static org.site.forum.common.constant.CommentConstant.*;
+
 @Service
 public class CommentDataIntegrityImpl implements CommentDataIntegrity {
 
@@ -57,4 +59,22 @@ public class CommentDataIntegrityImpl implements CommentDataIntegrity {
         }
     }
 
+    @Override
+    public int validateReplyTreeDepth(Integer maxDepth) {
+        int normalizedDepth = (maxDepth == null) ? DEFAULT_REPLY_TREE_DEPTH : maxDepth;
+        if (normalizedDepth < 0 || normalizedDepth > MAX_REPLY_TREE_DEPTH) {
+            throw new InvalidCommentRequestException(ERROR_INVALID_REPLY_TREE_DEPTH);
+        }
+        return normalizedDepth;
+    }
+
+    @Override
+    public int validateReplyTreeNodes(Integer maxNodes) {
+        int normalizedNodes = (maxNodes == null) ? DEFAULT_REPLY_TREE_NODES : maxNodes;
+        if (normalizedNodes <= 0 || normalizedNodes > MAX_REPLY_TREE_NODES) {
+            throw new InvalidCommentRequestException(ERROR_INVALID_REPLY_TREE_NODES);
+        }
+        return normalizedNodes;
+    }
+
 }
\ No newline at end of file
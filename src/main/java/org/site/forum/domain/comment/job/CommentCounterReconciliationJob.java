@@ -0,0 +1,36 @@
+package org.site.forum.domain.comment.job;
+
+import lombok.RequiredArgsConstructor;
+import org.site.forum.domain.comment.service.CommentCounterService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+@Component
+@RequiredArgsConstructor
+public class CommentCounterReconciliationJob {
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final CommentCounterService counterService;
+
+    @Value("${forum.counters.reconciliation.batch-size}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${forum.counters.reconciliation.interval}",
+            initialDelayString = "${forum.counters.reconciliation.interval}")
+    public void reconcile() {
+        reconcileInBatches(counterService::reconcileReplyCounts);
+        reconcileInBatches(counterService::reconcileTopicCommentCounts);
+    }
+
+    private void reconcileInBatches(BiFunction<UUID, Integer, UUID> batch) {
+        UUID afterId = FIRST_ID;
+        while (afterId != null) {
+            afterId = batch.apply(afterId, batchSize);
+        }
+    }
+
+}
@@ -1,18 +1,24 @@
 package org.site.forum.domain.comment.mapper;
 
-import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.site.forum.common.KeysetCursor;
+import org.site.forum.domain.comment.dto.projection.ReplyTreeRow;
 import org.site.forum.domain.comment.dto.request.CommentRequestDto;
+import org.site.forum.domain.comment.dto.response.CursorPageResponseDto;
 import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
 import org.site.forum.domain.comment.dto.response.ReplyResponseDto;
 import org.site.forum.domain.comment.entity.Comment;
 import org.site.forum.domain.topic.entity.Topic;
 import org.site.forum.domain.user.entity.User;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 @Component
 public class CommentMapper {
@@ -26,19 +32,78 @@ public class CommentMapper {
                 .authorId(comment.getUser().getId())
                 .authorName(comment.getUser().getName())
                 .topicId(comment.getTopic().getId())
+                .replyCount(comment.getReplyCount())
                 .build();
     }
 
     public ReplyResponseDto toReplyResponseDto(Comment comment) {
-        return ReplyResponseDto.builder()
+        ReplyResponseDto reply = ReplyResponseDto.builder()
                 .id(comment.getId())
                 .text(comment.getText())
                 .createdAt(comment.getCreatedAt())
+                .isEnabled(comment.isEnabled())
                 .userId(comment.getUser().getId())
                 .userName(comment.getUser().getName())
                 .topicId(comment.getTopic().getId())
                 .parentCommentId(getParentComment(comment))
-                .replies(getReplies(comment))
+                .replies(new ArrayList<>())
+                .build();
+
+        applyReplyCount(reply, comment.getReplyCount());
+        return reply;
+    }
+
+    public ReplyResponseDto toReplyTree(List<ReplyTreeRow> rows) {
+        Map<UUID, ReplyResponseDto> nodesById = new HashMap<>();
+        ReplyResponseDto root = null;
+
+        for (ReplyTreeRow row : rows) {
+            ReplyResponseDto node = toReplyResponseDto(row);
+            nodesById.put(node.getId(), node);
+
+            if (root == null) {
+                root = node;
+            } else {
+                nodesById.get(row.getParentCommentId()).getReplies().add(node);
+            }
+        }
+
+        for (ReplyTreeRow row : rows) {
+            applyReplyCount(nodesById.get(row.getId()), row.getReplyCount());
+        }
+
+        return root;
+    }
+
+    /**
+     * Sets the reply count and, when only some of the replies were returned, the keyset cursor of the last one, to be
+     * passed as {@code after} to the replies cursor endpoint. A reply with fewer returned replies than its count and
+     * no cursor continues from its first reply.
+     */
+    public void applyReplyCount(ReplyResponseDto reply, int replyCount) {
+        List<ReplyResponseDto> replies = reply.getReplies();
+        reply.setReplyCount(replyCount);
+
+        if (replies.isEmpty() || replies.size() >= replyCount) {
+            reply.setMoreRepliesCursor(null);
+            return;
+        }
+
+        ReplyResponseDto last = replies.get(replies.size() - 1);
+        reply.setMoreRepliesCursor(new KeysetCursor(last.getCreatedAt(), last.getId()).encode());
+    }
+
+    public <T> CursorPageResponseDto<T> toCursorPage(Slice<Comment> comments, Function<Comment, T> itemMapper) {
+        List<Comment> content = comments.getContent();
+        Comment last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return CursorPageResponseDto.<T>builder()
+                .content(content.stream().map(itemMapper).toList())
+                .size(content.size())
+                .hasNext(comments.hasNext())
+                .nextCursor(comments.hasNext() && last != null
+                        ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode()
+                        : null)
                 .build();
     }
 
@@ -53,11 +118,18 @@ public class CommentMapper {
                 .build();
     }
 
-    @NotNull
-    private List<ReplyResponseDto> getReplies(Comment comment) {
-        return comment.getReplies().stream()
-                .map(this::toReplyResponseDto)
-                .collect(Collectors.toList());
+    private ReplyResponseDto toReplyResponseDto(ReplyTreeRow row) {
+        return ReplyResponseDto.builder()
+                .id(row.getId())
+                .text(row.getText())
+                .createdAt(row.getCreatedAt())
+                .isEnabled(row.getEnabled())
+                .userId(row.getUserId())
+                .userName(row.getUserName())
+                .topicId(row.getTopicId())
+                .parentCommentId(row.getParentCommentId())
+                .replies(new ArrayList<>())
+                .build();
     }
 
     @Nullable
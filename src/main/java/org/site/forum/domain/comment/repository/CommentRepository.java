@@ -1,22 +1,148 @@
 package org.site.forum.domain.comment.repository;
 
+import org.site.forum.domain.comment.dto.projection.ReplyTreeRow;
+import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
 import org.site.forum.domain.comment.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
 
-    @Query("SELECT c FROM Comment c WHERE c.topic.id = :topicId AND c.parentComment IS NULL")
-    Page<Comment> findAllParentCommentsByTopicId(UUID topicId, Pageable pageable);
+    @EntityGraph(Comment.WITH_USER)
+    Optional<Comment> findWithUserById(UUID id);
 
+    @Query(value = "SELECT new org.site.forum.domain.comment.dto.response.ParentCommentResponseDto(c.id, c.text, " +
+            "c.createdAt, c.isEnabled, u.id, u.name, c.topic.id, c.replyCount) " +
+            "FROM Comment c JOIN c.user u WHERE c.topic.id = :topicId AND c.parentComment IS NULL",
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.topic.id = :topicId AND c.parentComment IS NULL")
+    Page<ParentCommentResponseDto> findAllParentCommentsByTopicId(UUID topicId, Pageable pageable);
+
+    @Query("SELECT new org.site.forum.domain.comment.dto.response.ParentCommentResponseDto(c.id, c.text, " +
+            "c.createdAt, c.isEnabled, u.id, u.name, c.topic.id, c.replyCount) " +
+            "FROM Comment c JOIN c.user u WHERE u.id = :userId AND c.isEnabled = true ORDER BY c.createdAt DESC, c.id DESC")
+    List<ParentCommentResponseDto> findFirstByUserId(UUID userId, Limit limit);
+
+    @Query("SELECT new org.site.forum.domain.comment.dto.response.ParentCommentResponseDto(c.id, c.text, " +
+            "c.createdAt, c.isEnabled, u.id, u.name, c.topic.id, c.replyCount) " +
+            "FROM Comment c JOIN c.user u WHERE u.id = :userId AND c.isEnabled = true " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ParentCommentResponseDto> findByUserIdBefore(UUID userId, LocalDateTime createdAt, UUID id, Limit limit);
+
+    @EntityGraph(Comment.WITH_USER)
     @Query("SELECT c FROM Comment c WHERE c.parentComment.id = :parentCommentId")
     Page<Comment> findAllRepliesByParentCommentId(UUID parentCommentId, Pageable pageable);
 
+    @EntityGraph(Comment.WITH_USER)
     Page<Comment> findAllCommentsByUserId(UUID userId, Pageable pageable);
 
+    @EntityGraph(Comment.WITH_USER)
+    @Query("SELECT c FROM Comment c WHERE c.topic.id = :topicId AND c.parentComment IS NULL " +
+            "ORDER BY c.createdAt, c.id")
+    Slice<Comment> findFirstParentCommentsByTopicId(UUID topicId, Pageable pageable);
+
+    @EntityGraph(Comment.WITH_USER)
+    @Query("SELECT c FROM Comment c WHERE c.topic.id = :topicId AND c.parentComment IS NULL " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    Slice<Comment> findParentCommentsByTopicIdAfter(UUID topicId, LocalDateTime createdAt, UUID id, Pageable pageable);
+
+    @EntityGraph(Comment.WITH_USER)
+    @Query("SELECT c FROM Comment c WHERE c.parentComment.id = :parentCommentId ORDER BY c.createdAt, c.id")
+    Slice<Comment> findFirstRepliesByParentCommentId(UUID parentCommentId, Pageable pageable);
+
+    @EntityGraph(Comment.WITH_USER)
+    @Query("SELECT c FROM Comment c WHERE c.parentComment.id = :parentCommentId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+            "ORDER BY c.createdAt, c.id")
+    Slice<Comment> findRepliesByParentCommentIdAfter(UUID parentCommentId, LocalDateTime createdAt, UUID id, Pageable pageable);
+
+    /**
+     * Loads the subtree rooted at {@code rootId} breadth-first, at most {@code maxDepth} levels below the root
+     * and at most {@code maxNodes} rows in total. Every parent row precedes its children.
+     * <p>
+     * The bound is applied inside the recursion: each level carries the number of rows emitted before it, only
+     * rows still within the budget are expanded, and each parent reads at most the remaining budget of children
+     * from the (parent_comment_id, created_at, id) index. A large thread therefore costs at most
+     * {@code maxNodes} expanded parents per level rather than the whole subtree.
+     */
+    @Query(value = """
+            WITH RECURSIVE reply_tree AS (
+                SELECT c.id, 0 AS depth, 0 AS emitted, CAST(1 AS BIGINT) AS level_position, CAST(1 AS BIGINT) AS level_size
+                FROM comments c
+                WHERE c.id = :rootId
+                UNION ALL
+                SELECT child.id,
+                       reply_tree.depth + 1,
+                       reply_tree.emitted + CAST(reply_tree.level_size AS INTEGER),
+                       row_number() OVER (ORDER BY child.created_at, child.id),
+                       count(*) OVER ()
+                FROM reply_tree
+                CROSS JOIN LATERAL (
+                    SELECT r.id, r.created_at
+                    FROM comments r
+                    WHERE r.parent_comment_id = reply_tree.id
+                    ORDER BY r.created_at, r.id
+                    LIMIT GREATEST(:maxNodes - reply_tree.emitted - reply_tree.level_size, 0)
+                ) child
+                WHERE reply_tree.depth < :maxDepth
+                  AND reply_tree.emitted + reply_tree.level_position <= :maxNodes
+                  AND reply_tree.emitted + reply_tree.level_size < :maxNodes
+            )
+            SELECT c.id AS "id",
+                   c.text AS "text",
+                   c.created_at AS "createdAt",
+                   c.is_enabled AS "enabled",
+                   c.user_id AS "userId",
+                   u.name AS "userName",
+                   c.topic_id AS "topicId",
+                   c.parent_comment_id AS "parentCommentId",
+                   c.reply_count AS "replyCount"
+            FROM reply_tree
+            JOIN comments c ON c.id = reply_tree.id
+            JOIN users u ON u.id = c.user_id
+            WHERE reply_tree.emitted + reply_tree.level_position <= :maxNodes
+            ORDER BY reply_tree.depth, reply_tree.level_position
+            """, nativeQuery = true)
+    List<ReplyTreeRow> findReplyTree(UUID rootId, int maxDepth, int maxNodes);
+
+    @Modifying
+    @Query(value = "UPDATE comments SET reply_count = reply_count + :delta WHERE id = :commentId", nativeQuery = true)
+    void adjustReplyCount(UUID commentId, int delta);
+
+    @Modifying
+    @Query(value = "UPDATE comments SET is_enabled = false, text = :text WHERE id = :commentId AND is_enabled",
+            nativeQuery = true)
+    int disableComment(UUID commentId, String text);
+
+    @Query(value = "SELECT id FROM comments WHERE id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<UUID> findIdsAfter(UUID afterId, int limit);
+
+    @Query(value = "SELECT id FROM comments WHERE id IN :commentIds ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<UUID> lockByIds(Collection<UUID> commentIds);
+
+    @Modifying
+    @Query(value = """
+            UPDATE comments c
+            SET reply_count = actual.reply_count
+            FROM (SELECT b.id, (SELECT COUNT(*) FROM comments r WHERE r.parent_comment_id = b.id) AS reply_count
+                  FROM comments b
+                  WHERE b.id IN :commentIds) actual
+            WHERE c.id = actual.id AND c.reply_count <> actual.reply_count
+            """, nativeQuery = true)
+    int reconcileReplyCounts(Collection<UUID> commentIds);
+
 }
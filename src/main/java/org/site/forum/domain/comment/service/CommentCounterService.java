@@ -0,0 +1,8 @@
+package org.site.forum.domain.comment.service;
+
+import java.util.UUID;
+
+public interface CommentCounterService {
+    UUID reconcileReplyCounts(UUID afterId, int batchSize);
+    UUID reconcileTopicCommentCounts(UUID afterId, int batchSize);
+}
@@ -0,0 +1,43 @@
+package org.site.forum.domain.comment.service;
+
+import lombok.AllArgsConstructor;
+import org.site.forum.domain.comment.dao.CommentDao;
+import org.site.forum.domain.topic.dao.TopicDao;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Recomputes the denormalized reply and comment counters one id range at a time. Each call returns the id to continue
+ * after, or {@code null} once the table has been walked.
+ */
+@Service
+@AllArgsConstructor
+@Transactional
+public class CommentCounterServiceImpl implements CommentCounterService {
+
+    private final CommentDao commentDao;
+    private final TopicDao topicDao;
+
+    @Override
+    public UUID reconcileReplyCounts(UUID afterId, int batchSize) {
+        List<UUID> commentIds = commentDao.getCommentIdsAfter(afterId, batchSize);
+        commentDao.reconcileReplyCounts(commentIds);
+
+        return nextAfterId(commentIds, batchSize);
+    }
+
+    @Override
+    public UUID reconcileTopicCommentCounts(UUID afterId, int batchSize) {
+        List<UUID> topicIds = topicDao.getTopicIdsAfter(afterId, batchSize);
+        topicDao.reconcileCommentCounts(topicIds);
+
+        return nextAfterId(topicIds, batchSize);
+    }
+
+    private UUID nextAfterId(List<UUID> ids, int batchSize) {
+        return ids.size() < batchSize ? null : ids.get(ids.size() - 1);
+    }
+
+}
@@ -1,6 +1,7 @@
 package org.site.forum.domain.comment.service;
 
 import org.site.forum.domain.comment.dto.request.CommentRequestDto;
+import org.site.forum.domain.comment.dto.response.CursorPageResponseDto;
 import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
 import org.site.forum.domain.comment.dto.response.ReplyResponseDto;
 import org.springframework.data.domain.Page;
@@ -9,8 +10,11 @@ import java.util.UUID;
 
 public interface CommentService {
     ParentCommentResponseDto saveComment(CommentRequestDto commentRequestDto);
-    ReplyResponseDto getCommentByParent(UUID parentCommentId);
+    ReplyResponseDto getCommentByParent(UUID parentCommentId, Integer maxDepth, Integer maxNodes);
     ParentCommentResponseDto deleteComment(UUID commentId);
+    String getTopicCommentsETag(UUID topicId);
     Page<ParentCommentResponseDto> getAllParentCommentsByTopic(UUID topicId, PageRequest pageRequest);
     Page<ReplyResponseDto> getAllRepliesByParent(UUID parentCommentId, PageRequest pageRequest);
+    CursorPageResponseDto<ParentCommentResponseDto> getParentCommentsByTopicAfter(UUID topicId, String after, Integer pageSize);
+    CursorPageResponseDto<ReplyResponseDto> getRepliesByParentAfter(UUID parentCommentId, String after, Integer pageSize);
 }
\ No newline at end of file
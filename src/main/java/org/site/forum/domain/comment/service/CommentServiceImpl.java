@@ -2,6 +2,7 @@ package org.site.forum.domain.comment.service;
 
 import lombok.AllArgsConstructor;
 import org.site.forum.domain.comment.dto.request.CommentRequestDto;
+import org.site.forum.domain.comment.dto.response.CursorPageResponseDto;
 import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
 import org.site.forum.domain.comment.dto.response.ReplyResponseDto;
 import org.site.forum.domain.comment.service.handler.CommentCommandHandler;
@@ -25,8 +26,8 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
-    public ReplyResponseDto getCommentByParent(UUID id) {
-        return queryHandler.getReply(id);
+    public ReplyResponseDto getCommentByParent(UUID id, Integer maxDepth, Integer maxNodes) {
+        return queryHandler.getReply(id, maxDepth, maxNodes);
     }
 
     @Override
@@ -34,6 +35,11 @@ public class CommentServiceImpl implements CommentService {
         return commandHandler.delete(id);
     }
 
+    @Override
+    public String getTopicCommentsETag(UUID topicId) {
+        return queryHandler.getTopicCommentsETag(topicId);
+    }
+
     @Override
     public Page<ParentCommentResponseDto> getAllParentCommentsByTopic(UUID topicId, PageRequest pageRequest) {
         return queryHandler.getParentComments(topicId, pageRequest);
@@ -43,4 +49,14 @@ public class CommentServiceImpl implements CommentService {
     public Page<ReplyResponseDto> getAllRepliesByParent(UUID parentId, PageRequest pageRequest) {
         return queryHandler.getReplies(parentId, pageRequest);
     }
+
+    @Override
+    public CursorPageResponseDto<ParentCommentResponseDto> getParentCommentsByTopicAfter(UUID topicId, String after, Integer pageSize) {
+        return queryHandler.getParentCommentsAfter(topicId, after, pageSize);
+    }
+
+    @Override
+    public CursorPageResponseDto<ReplyResponseDto> getRepliesByParentAfter(UUID parentId, String after, Integer pageSize) {
+        return queryHandler.getRepliesAfter(parentId, after, pageSize);
+    }
 }
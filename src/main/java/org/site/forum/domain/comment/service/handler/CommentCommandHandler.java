@@ -9,7 +9,9 @@ import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
 import org.site.forum.domain.comment.entity.Comment;
 import org.site.forum.domain.comment.integrity.CommentDataIntegrity;
 import org.site.forum.domain.comment.mapper.CommentMapper;
+import org.site.forum.domain.topic.cache.TopicCache;
 import org.site.forum.domain.topic.dao.TopicDao;
+import org.site.forum.domain.user.cache.UserProfileCache;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -26,6 +28,8 @@ public class CommentCommandHandler {
     private final AuthenticationService auth;
     private final CommentMapper mapper;
     private final CommentDataIntegrity integrity;
+    private final TopicCache topicCache;
+    private final UserProfileCache userProfileCache;
 
     public ParentCommentResponseDto save(CommentRequestDto dto) {
         integrity.validateCommentRequestDto(dto);
@@ -37,6 +41,13 @@ public class CommentCommandHandler {
         var entity = mapper.toEntity(dto, user, topic, parent);
         var saved = commentDao.saveComment(entity);
 
+        if (parent != null) {
+            commentDao.adjustReplyCount(parent.getId(), 1);
+        }
+        topicDao.adjustCommentCount(topic.getId(), 1);
+        topicCache.invalidate(topic.getId());
+        userProfileCache.invalidate(user.getId());
+
         return mapper.toParentCommentDto(saved);
     }
 
@@ -46,10 +57,17 @@ public class CommentCommandHandler {
         var comment = commentDao.getComment(commentId);
         validateOwnership(comment);
 
-        comment.setText(DELETED_COMMENT_TEXT);
-        comment.setEnabled(false);
+        if (commentDao.disableComment(commentId, DELETED_COMMENT_TEXT)) {
+            topicDao.adjustCommentCount(comment.getTopic().getId(), -1);
+            topicCache.invalidate(comment.getTopic().getId());
+        }
+
+        userProfileCache.invalidate(comment.getUser().getId());
 
-        return mapper.toParentCommentDto(commentDao.saveComment(comment));
+        var deleted = mapper.toParentCommentDto(comment);
+        deleted.setText(DELETED_COMMENT_TEXT);
+        deleted.setEnabled(false);
+        return deleted;
     }
 
     private void validateOwnership(Comment comment) {
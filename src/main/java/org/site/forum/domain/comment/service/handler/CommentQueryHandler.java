@@ -1,11 +1,16 @@
 package org.site.forum.domain.comment.service.handler;
 
 import lombok.AllArgsConstructor;
+import org.site.forum.common.ETagUtils;
+import org.site.forum.common.KeysetCursor;
+import org.site.forum.common.PageUtils;
 import org.site.forum.domain.comment.dao.CommentDao;
+import org.site.forum.domain.comment.dto.response.CursorPageResponseDto;
 import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
 import org.site.forum.domain.comment.dto.response.ReplyResponseDto;
 import org.site.forum.domain.comment.integrity.CommentDataIntegrity;
 import org.site.forum.domain.comment.mapper.CommentMapper;
+import org.site.forum.domain.topic.dao.TopicDao;
 import org.site.forum.domain.topic.integrity.TopicDataIntegrity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -17,19 +22,29 @@ import java.util.UUID;
 public class CommentQueryHandler {
 
     private final CommentDao commentDao;
+    private final TopicDao topicDao;
     private final CommentMapper mapper;
     private final CommentDataIntegrity commentIntegrity;
     private final TopicDataIntegrity topicIntegrity;
 
-    public ReplyResponseDto getReply(UUID parentId) {
+    public ReplyResponseDto getReply(UUID parentId, Integer maxDepth, Integer maxNodes) {
         commentIntegrity.validateCommentId(parentId);
-        return mapper.toReplyResponseDto(commentDao.getComment(parentId));
+        int depth = commentIntegrity.validateReplyTreeDepth(maxDepth);
+        int nodes = commentIntegrity.validateReplyTreeNodes(maxNodes);
+
+        return mapper.toReplyTree(commentDao.getReplyTree(parentId, depth, nodes));
+    }
+
+    public String getTopicCommentsETag(UUID topicId) {
+        topicIntegrity.validateTopicId(topicId);
+        return topicDao.getCommentWatermark(topicId)
+                .map(watermark -> ETagUtils.strongETag(topicId, watermark))
+                .orElse(null);
     }
 
     public Page<ParentCommentResponseDto> getParentComments(UUID topicId, PageRequest pageRequest) {
         topicIntegrity.validateTopicId(topicId);
-        return commentDao.getAllParentCommentsByTopic(topicId, pageRequest)
-                .map(mapper::toParentCommentDto);
+        return commentDao.getAllParentCommentsByTopic(topicId, pageRequest);
     }
 
     public Page<ReplyResponseDto> getReplies(UUID parentId, PageRequest pageRequest) {
@@ -37,4 +52,20 @@ public class CommentQueryHandler {
         return commentDao.getAllRepliesByParent(parentId, pageRequest)
                 .map(mapper::toReplyResponseDto);
     }
+
+    public CursorPageResponseDto<ParentCommentResponseDto> getParentCommentsAfter(UUID topicId, String after, Integer pageSize) {
+        topicIntegrity.validateTopicId(topicId);
+        var comments = commentDao.getParentCommentsByTopicAfter(topicId, KeysetCursor.decode(after),
+                PageUtils.validatePageSize(pageSize));
+
+        return mapper.toCursorPage(comments, mapper::toParentCommentDto);
+    }
+
+    public CursorPageResponseDto<ReplyResponseDto> getRepliesAfter(UUID parentId, String after, Integer pageSize) {
+        commentIntegrity.validateCommentId(parentId);
+        var replies = commentDao.getRepliesByParentAfter(parentId, KeysetCursor.decode(after),
+                PageUtils.validatePageSize(pageSize));
+
+        return mapper.toCursorPage(replies, mapper::toReplyResponseDto);
+    }
 }
@@ -1,13 +1,17 @@
 package org.site.forum.domain.file.dao;
 
+import org.site.forum.domain.file.dto.projection.FileRow;
 import org.site.forum.domain.file.entity.File;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface FileDao {
 
     void saveFile(File file);
     List<File> findFilesByTopicId(UUID topicId);
+    Map<UUID, List<FileRow>> findFilesByTopicIds(Collection<UUID> topicIds);
     File getFileById(UUID id);
     void deleteFile(UUID id);
     Boolean fileCountExceedsLimit(UUID topicId);
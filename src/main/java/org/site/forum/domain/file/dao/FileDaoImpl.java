@@ -2,12 +2,16 @@ package org.site.forum.domain.file.dao;
 
 import lombok.AllArgsConstructor;
 import org.site.forum.common.exception.FileNotFoundException;
+import org.site.forum.domain.file.dto.projection.FileRow;
 import org.site.forum.domain.file.entity.File;
 import org.site.forum.domain.file.integrity.FileDataIntegrity;
 import org.site.forum.domain.file.repository.FileRepository;
 import org.springframework.stereotype.Service;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -28,9 +32,18 @@ public class FileDaoImpl implements FileDao {
         return fileRepository.findFilesByTopicId(topicId);
     }
 
+    public Map<UUID, List<FileRow>> findFilesByTopicIds(Collection<UUID> topicIds) {
+        if (topicIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return fileRepository.findFileRowsByTopicIdIn(topicIds).stream()
+                .collect(Collectors.groupingBy(FileRow::getTopicId));
+    }
+
     public File getFileById(UUID id) {
         fileDataIntegrity.validateFileIdNotNull(id);
-        return fileRepository.findById(id).orElseThrow(() -> new FileNotFoundException("File not found"));
+        return fileRepository.findWithTopicById(id).orElseThrow(() -> new FileNotFoundException("File not found"));
     }
 
     public void deleteFile(UUID id) {
@@ -0,0 +1,16 @@
+package org.site.forum.domain.file.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class FileRow {
+
+    private final UUID id;
+    private final UUID topicId;
+    private final String minioObjectName;
+    private final String contentType;
+
+}
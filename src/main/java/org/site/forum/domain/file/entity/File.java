@@ -1,10 +1,13 @@
 package org.site.forum.domain.file.entity;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +18,7 @@ import org.site.forum.domain.topic.entity.Topic;
 import java.util.UUID;
 
 @Entity
+@NamedEntityGraph(name = File.WITH_TOPIC, attributeNodes = @NamedAttributeNode("topic"))
 @Builder
 @Getter
 @Setter
@@ -23,6 +27,8 @@ import java.util.UUID;
 @Table(name = "files")
 public class File {
 
+    public static final String WITH_TOPIC = "File.withTopic";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -30,7 +36,7 @@ public class File {
     private String minioObjectName;
     private String contentType;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Topic topic;
 
 }
@@ -1,5 +1,6 @@
 package org.site.forum.domain.file.mapper;
 
+import org.site.forum.domain.file.dto.projection.FileRow;
 import org.site.forum.domain.file.dto.response.FileResponseDto;
 import org.site.forum.domain.file.entity.File;
 import org.site.forum.domain.topic.entity.Topic;
@@ -29,4 +30,14 @@ public class FileMapper {
                 .collect(Collectors.toList());
     }
 
+    public List<FileResponseDto> toRowDto(List<FileRow> files) {
+        return files.stream()
+                .map(file -> FileResponseDto.builder()
+                        .id(file.getId())
+                        .minioObjectName(file.getMinioObjectName())
+                        .contentType(file.getContentType())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
 }
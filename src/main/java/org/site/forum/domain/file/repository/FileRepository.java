@@ -1,15 +1,26 @@
 package org.site.forum.domain.file.repository;
 
+import org.site.forum.domain.file.dto.projection.FileRow;
 import org.site.forum.domain.file.entity.File;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface FileRepository extends JpaRepository<File, UUID> {
 
+    @EntityGraph(File.WITH_TOPIC)
+    Optional<File> findWithTopicById(UUID id);
+
     List<File> findFilesByTopicId(UUID topicId);
 
+    @Query("SELECT new org.site.forum.domain.file.dto.projection.FileRow(f.id, f.topic.id, f.minioObjectName, " +
+            "f.contentType) FROM File f WHERE f.topic.id IN :topicIds")
+    List<FileRow> findFileRowsByTopicIdIn(Collection<UUID> topicIds);
+
     @Query("SELECT COUNT(f) FROM File f WHERE f.topic.id = :topicId")
     Integer countFilesByTopicId(UUID topicId);
 
@@ -11,6 +11,8 @@ import org.site.forum.domain.file.dao.FileDao;
 import org.site.forum.domain.file.entity.File;
 import org.site.forum.domain.file.integrity.FileDataIntegrity;
 import org.site.forum.domain.file.mapper.FileMapper;
+import org.site.forum.domain.search.cache.SearchResultCache;
+import org.site.forum.domain.topic.cache.TopicCache;
 import org.site.forum.domain.topic.entity.Topic;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -27,6 +29,8 @@ public class FileServiceImpl implements FileService {
     private final FileMapper fileMapper;
     private final FileDao fileDao;
     private final FileDataIntegrity fileDataIntegrity;
+    private final TopicCache topicCache;
+    private final SearchResultCache searchResultCache;
 
     @Value("${minio.bucket}")
     private String bucket;
@@ -40,6 +44,9 @@ public class FileServiceImpl implements FileService {
             uploadFile(file, generatedFileName);
             saveFile(file, topic, generatedFileName);
         }
+
+        topicCache.invalidate(topic.getId());
+        searchResultCache.invalidateCommunityOf(topic);
     }
 
     // The method deleteFile could be broken down into smaller methods for better readability.
@@ -53,6 +60,8 @@ public class FileServiceImpl implements FileService {
         checkAuthorization(topic);
         removeFileFromMinio(file.getMinioObjectName());
         fileDao.deleteFile(fileId);
+        topicCache.invalidate(topic.getId());
+        searchResultCache.invalidateCommunityOf(topic);
     }
 
     // The method checkAuthorization could be enhanced to include role-based access
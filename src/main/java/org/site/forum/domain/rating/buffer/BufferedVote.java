@@ -0,0 +1,15 @@
+package org.site.forum.domain.rating.buffer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class BufferedVote {
+
+    private final UUID topicId;
+    private final UUID userId;
+    private final int ratingValue;
+
+}
@@ -0,0 +1,118 @@
+package org.site.forum.domain.rating.buffer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory ledger of votes waiting to be written by {@link org.site.forum.domain.rating.job.RatingBufferFlushJob}.
+ * Each topic keeps one {@link VoteEffect} per user, folded as the votes arrive, because repeating a vote toggles it
+ * off again and the stored value it applies to is only read by the flush. An entry stays the same size however often
+ * the user votes, and drains as at most two votes that the flush replays against the stored value.
+ * Recording only takes the shared side of the lock; draining takes the exclusive side to swap the ledgers out.
+ */
+@Component
+public class RatingBuffer {
+
+    public static final String DEPTH_METRIC = "forum.ratings.buffer.depth";
+    public static final String VOTES_METRIC = "forum.ratings.buffer.votes";
+
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Map<UUID, TopicLedger> ledgers = new ConcurrentHashMap<>();
+
+    public RatingBuffer(@Value("${forum.ratings.buffer.enabled}") boolean enabled, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+
+        Gauge.builder(DEPTH_METRIC, this, RatingBuffer::depth)
+                .description("Distinct user votes waiting to be flushed")
+                .register(meterRegistry);
+        Gauge.builder(VOTES_METRIC, this, RatingBuffer::receivedVotes)
+                .description("Votes received since the last flush")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void record(UUID topicId, UUID userId, int ratingValue) {
+        lock.readLock().lock();
+        try {
+            TopicLedger ledger = ledgers.computeIfAbsent(topicId, id -> new TopicLedger());
+            ledger.votes.compute(userId, (id, effect) -> effect == null ? VoteEffect.of(ratingValue)
+                    : effect.then(ratingValue));
+            ledger.received.increment();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<BufferedVote> drain() {
+        Map<UUID, TopicLedger> drained;
+
+        lock.writeLock().lock();
+        try {
+            drained = ledgers;
+            ledgers = new ConcurrentHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<BufferedVote> votes = new ArrayList<>();
+        drained.forEach((topicId, ledger) -> ledger.votes.forEach((userId, effect) ->
+                effect.votes().forEach(value -> votes.add(new BufferedVote(topicId, userId, value)))));
+
+        return votes;
+    }
+
+    /**
+     * Puts back votes whose flush failed, folded ahead of any votes the same user has cast in the meantime.
+     */
+    public void restore(Collection<BufferedVote> votes) {
+        Map<UUID, Map<UUID, VoteEffect>> failed = new HashMap<>();
+        for (BufferedVote vote : votes) {
+            failed.computeIfAbsent(vote.getTopicId(), id -> new HashMap<>())
+                    .merge(vote.getUserId(), VoteEffect.of(vote.getRatingValue()),
+                            (effect, next) -> effect.then(vote.getRatingValue()));
+        }
+
+        lock.readLock().lock();
+        try {
+            failed.forEach((topicId, effectsByUserId) -> {
+                TopicLedger ledger = ledgers.computeIfAbsent(topicId, id -> new TopicLedger());
+                effectsByUserId.forEach((userId, effect) ->
+                        ledger.votes.merge(userId, effect, (newer, restored) -> restored.then(newer)));
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int depth() {
+        return ledgers.values().stream().mapToInt(ledger -> ledger.votes.size()).sum();
+    }
+
+    private long receivedVotes() {
+        return ledgers.values().stream().mapToLong(ledger -> ledger.received.sum()).sum();
+    }
+
+    private static class TopicLedger {
+
+        private final Map<UUID, VoteEffect> votes = new ConcurrentHashMap<>();
+        private final LongAdder received = new LongAdder();
+
+    }
+
+}
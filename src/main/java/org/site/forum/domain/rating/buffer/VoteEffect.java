@@ -0,0 +1,75 @@
+package org.site.forum.domain.rating.buffer;
+
+import java.util.List;
+
+/**
+ * Net effect of one user's votes on a topic, as the rating each stored value (-1, 0 or 1) ends up at after the votes
+ * are applied with the toggle rule: repeating the current value or voting 0 removes the rating, anything else replaces
+ * it. However many votes it folds, an effect is one of seven functions, each reproduced by at most two votes.
+ */
+final class VoteEffect {
+
+    private static final List<List<Integer>> CANONICAL_VOTES =
+            List.of(List.of(0), List.of(1), List.of(-1), List.of(1, 1), List.of(-1, -1), List.of(-1, 1), List.of(1, -1));
+
+    private final int fromDownvote;
+    private final int fromNone;
+    private final int fromUpvote;
+
+    private VoteEffect(int fromDownvote, int fromNone, int fromUpvote) {
+        this.fromDownvote = fromDownvote;
+        this.fromNone = fromNone;
+        this.fromUpvote = fromUpvote;
+    }
+
+    static VoteEffect of(int ratingValue) {
+        return new VoteEffect(toggle(-1, ratingValue), toggle(0, ratingValue), toggle(1, ratingValue));
+    }
+
+    static VoteEffect of(List<Integer> ratingValues) {
+        VoteEffect effect = of(ratingValues.get(0));
+        for (int i = 1; i < ratingValues.size(); i++) {
+            effect = effect.then(ratingValues.get(i));
+        }
+        return effect;
+    }
+
+    VoteEffect then(int ratingValue) {
+        return new VoteEffect(toggle(fromDownvote, ratingValue), toggle(fromNone, ratingValue),
+                toggle(fromUpvote, ratingValue));
+    }
+
+    VoteEffect then(VoteEffect next) {
+        return new VoteEffect(next.apply(fromDownvote), next.apply(fromNone), next.apply(fromUpvote));
+    }
+
+    int apply(int storedValue) {
+        return storedValue < 0 ? fromDownvote : storedValue > 0 ? fromUpvote : fromNone;
+    }
+
+    /**
+     * The shortest vote sequence with this effect, for the flush to replay.
+     */
+    List<Integer> votes() {
+        return CANONICAL_VOTES.stream()
+                .filter(votes -> of(votes).equals(this))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof VoteEffect effect && fromDownvote == effect.fromDownvote
+                && fromNone == effect.fromNone && fromUpvote == effect.fromUpvote;
+    }
+
+    @Override
+    public int hashCode() {
+        return 9 * (fromDownvote + 1) + 3 * (fromNone + 1) + fromUpvote + 1;
+    }
+
+    private static int toggle(int current, int requested) {
+        return (requested == 0 || requested == current) ? 0 : requested;
+    }
+
+}
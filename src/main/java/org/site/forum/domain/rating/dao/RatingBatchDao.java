@@ -0,0 +1,18 @@
+package org.site.forum.domain.rating.dao;
+
+import org.site.forum.domain.rating.buffer.BufferedVote;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface RatingBatchDao {
+
+    List<BufferedVote> retainExisting(List<BufferedVote> votes);
+    Map<UUID, Map<UUID, Integer>> findRatingValuesForUpdate(Collection<BufferedVote> votes);
+    void upsertRatings(List<BufferedVote> votes);
+    void deleteRatings(List<BufferedVote> votes);
+    void adjustTopicRatings(Map<UUID, Integer> deltasByTopicId);
+    TopicOwners findOwners(Collection<UUID> topicIds);
+
+}
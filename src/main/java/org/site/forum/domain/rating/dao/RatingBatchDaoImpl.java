@@ -0,0 +1,152 @@
+package org.site.forum.domain.rating.dao;
+
+import lombok.AllArgsConstructor;
+import org.site.forum.domain.rating.buffer.BufferedVote;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@AllArgsConstructor
+public class RatingBatchDaoImpl implements RatingBatchDao {
+
+    private static final String SELECT_FOR_UPDATE = """
+            SELECT r.topic_id, r.user_id, r.rating_value
+            FROM ratings r
+            JOIN unnest(?::uuid[], ?::uuid[]) AS v(topic_id, user_id)
+              ON r.topic_id = v.topic_id AND r.user_id = v.user_id
+            FOR UPDATE OF r
+            """;
+    private static final String SELECT_EXISTING_VOTES = """
+            SELECT v.topic_id, v.user_id
+            FROM unnest(?::uuid[], ?::uuid[]) AS v(topic_id, user_id)
+            JOIN topics t ON t.id = v.topic_id
+            JOIN users u ON u.id = v.user_id
+            FOR KEY SHARE OF t, u
+            """;
+    private static final String UPSERT = """
+            INSERT INTO ratings (id, topic_id, user_id, rating_value) VALUES (?, ?, ?, ?)
+            ON CONFLICT ON CONSTRAINT unique_rating_per_user_topic DO UPDATE SET rating_value = EXCLUDED.rating_value
+            """;
+    private static final String DELETE = "DELETE FROM ratings WHERE topic_id = ? AND user_id = ?";
+    private static final String ADJUST_TOPIC_RATING = "UPDATE topics SET rating = COALESCE(rating, 0) + ? WHERE id = ?";
+    private static final String SELECT_OWNERS = "SELECT community_id, author_id FROM topics WHERE id = ANY(?::uuid[])";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Keeps the votes whose topic and voter still have a row, and locks those rows against deletion until commit,
+     * so that no vote in the batch can fail its foreign keys.
+     */
+    @Override
+    public List<BufferedVote> retainExisting(List<BufferedVote> votes) {
+        if (votes.isEmpty()) {
+            return votes;
+        }
+
+        UUID[] topicIds = votes.stream().map(BufferedVote::getTopicId).toArray(UUID[]::new);
+        UUID[] userIds = votes.stream().map(BufferedVote::getUserId).toArray(UUID[]::new);
+        Map<UUID, Set<UUID>> existing = new HashMap<>();
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_EXISTING_VOTES);
+            statement.setArray(1, connection.createArrayOf("uuid", topicIds));
+            statement.setArray(2, connection.createArrayOf("uuid", userIds));
+            return statement;
+        }, (ResultSet rs) -> {
+            existing.computeIfAbsent(rs.getObject("topic_id", UUID.class), id -> new HashSet<>())
+                    .add(rs.getObject("user_id", UUID.class));
+        });
+
+        return votes.stream()
+                .filter(vote -> existing.getOrDefault(vote.getTopicId(), Set.of()).contains(vote.getUserId()))
+                .toList();
+    }
+
+    @Override
+    public Map<UUID, Map<UUID, Integer>> findRatingValuesForUpdate(Collection<BufferedVote> votes) {
+        Map<UUID, Map<UUID, Integer>> valuesByTopicId = new HashMap<>();
+        if (votes.isEmpty()) {
+            return valuesByTopicId;
+        }
+
+        UUID[] topicIds = votes.stream().map(BufferedVote::getTopicId).toArray(UUID[]::new);
+        UUID[] userIds = votes.stream().map(BufferedVote::getUserId).toArray(UUID[]::new);
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_FOR_UPDATE);
+            statement.setArray(1, connection.createArrayOf("uuid", topicIds));
+            statement.setArray(2, connection.createArrayOf("uuid", userIds));
+            return statement;
+        }, (ResultSet rs) -> {
+            valuesByTopicId.computeIfAbsent(rs.getObject("topic_id", UUID.class), id -> new HashMap<>())
+                    .put(rs.getObject("user_id", UUID.class), rs.getInt("rating_value"));
+        });
+
+        return valuesByTopicId;
+    }
+
+    @Override
+    public void upsertRatings(List<BufferedVote> votes) {
+        jdbcTemplate.batchUpdate(UPSERT, votes, votes.size(), (ps, vote) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, vote.getTopicId());
+            ps.setObject(3, vote.getUserId());
+            ps.setInt(4, vote.getRatingValue());
+        });
+    }
+
+    @Override
+    public void deleteRatings(List<BufferedVote> votes) {
+        jdbcTemplate.batchUpdate(DELETE, votes, votes.size(), (ps, vote) -> {
+            ps.setObject(1, vote.getTopicId());
+            ps.setObject(2, vote.getUserId());
+        });
+    }
+
+    @Override
+    public void adjustTopicRatings(Map<UUID, Integer> deltasByTopicId) {
+        List<Map.Entry<UUID, Integer>> deltas = new ArrayList<>(deltasByTopicId.entrySet());
+        jdbcTemplate.batchUpdate(ADJUST_TOPIC_RATING, deltas, deltas.size(), (ps, delta) -> {
+            ps.setInt(1, delta.getValue());
+            ps.setObject(2, delta.getKey());
+        });
+    }
+
+    @Override
+    public TopicOwners findOwners(Collection<UUID> topicIds) {
+        TopicOwners owners = new TopicOwners(new HashSet<>(), new HashSet<>());
+        if (topicIds.isEmpty()) {
+            return owners;
+        }
+
+        UUID[] ids = topicIds.toArray(UUID[]::new);
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_OWNERS);
+            statement.setArray(1, connection.createArrayOf("uuid", ids));
+            return statement;
+        }, (ResultSet rs) -> {
+            UUID communityId = rs.getObject("community_id", UUID.class);
+            UUID authorId = rs.getObject("author_id", UUID.class);
+            if (communityId != null) {
+                owners.getCommunityIds().add(communityId);
+            }
+            if (authorId != null) {
+                owners.getAuthorIds().add(authorId);
+            }
+        });
+
+        return owners;
+    }
+
+}
@@ -7,6 +7,8 @@ import java.util.UUID;
 public interface RatingDao {
 
     Optional<Rating> findByPostIdAndUserId(UUID postId, UUID userId);
+    Optional<Rating> findByPostIdAndUserIdForUpdate(UUID postId, UUID userId);
+    boolean saveIfAbsent(Rating rating);
     void save(Rating rating);
     void delete(Rating rating);
 
@@ -23,6 +23,19 @@ public class RatingDaoImpl implements RatingDao {
         return ratingRepository.findByTopicIdAndUserId(postId, userId);
     }
 
+    @Override
+    public Optional<Rating> findByPostIdAndUserIdForUpdate(UUID postId, UUID userId) {
+        ratingDataIntegrity.validatePostIdAndUserId(postId, userId);
+        return ratingRepository.findForUpdateByTopicIdAndUserId(postId, userId);
+    }
+
+    @Override
+    public boolean saveIfAbsent(Rating rating) {
+        ratingDataIntegrity.validateRatingEntity(rating);
+        return ratingRepository.insertIfAbsent(UUID.randomUUID(), rating.getTopic().getId(),
+                rating.getUser().getId(), rating.getRatingValue()) > 0;
+    }
+
     @Override
     public void save(Rating rating) {
         ratingDataIntegrity.validateRatingEntity(rating);
@@ -0,0 +1,18 @@
+package org.site.forum.domain.rating.dao;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Communities and authors of a set of topics, whose cached views change with the topics' ratings.
+ */
+@Getter
+@AllArgsConstructor
+public class TopicOwners {
+
+    private final Set<UUID> communityIds;
+    private final Set<UUID> authorIds;
+
+}
@@ -0,0 +1,52 @@
+package org.site.forum.domain.rating.job;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.site.forum.domain.rating.buffer.BufferedVote;
+import org.site.forum.domain.rating.buffer.RatingBuffer;
+import org.site.forum.domain.rating.service.RatingFlushService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "forum.ratings.buffer.enabled", havingValue = "true")
+public class RatingBufferFlushJob {
+
+    public static final String FLUSH_METRIC = "forum.ratings.buffer.flush";
+
+    private final RatingBuffer ratingBuffer;
+    private final RatingFlushService ratingFlushService;
+    private final Timer flushTimer;
+
+    public RatingBufferFlushJob(RatingBuffer ratingBuffer, RatingFlushService ratingFlushService, MeterRegistry meterRegistry) {
+        this.ratingBuffer = ratingBuffer;
+        this.ratingFlushService = ratingFlushService;
+        this.flushTimer = Timer.builder(FLUSH_METRIC)
+                .description("Time taken to write buffered votes")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${forum.ratings.buffer.flush-interval}")
+    public void flush() {
+        List<BufferedVote> votes = ratingBuffer.drain();
+        if (votes.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushTimer.record(() -> ratingFlushService.flush(votes));
+        } catch (RuntimeException e) {
+            ratingBuffer.restore(votes);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+}
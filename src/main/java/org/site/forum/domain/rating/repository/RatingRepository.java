@@ -1,7 +1,11 @@
 package org.site.forum.domain.rating.repository;
 
+import jakarta.persistence.LockModeType;
 import org.site.forum.domain.rating.entity.Rating;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,4 +15,16 @@ public interface RatingRepository extends JpaRepository<Rating, UUID> {
 
     Optional<Rating> findByTopicIdAndUserId(UUID postId, UUID userId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Rating r WHERE r.topic.id = :topicId AND r.user.id = :userId")
+    Optional<Rating> findForUpdateByTopicIdAndUserId(UUID topicId, UUID userId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO ratings (id, topic_id, user_id, rating_value)
+            VALUES (:id, :topicId, :userId, :ratingValue)
+            ON CONFLICT ON CONSTRAINT unique_rating_per_user_topic DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(UUID id, UUID topicId, UUID userId, int ratingValue);
+
 }
@@ -0,0 +1,8 @@
+package org.site.forum.domain.rating.service;
+
+import org.site.forum.domain.rating.buffer.BufferedVote;
+import java.util.List;
+
+public interface RatingFlushService {
+    void flush(List<BufferedVote> votes);
+}
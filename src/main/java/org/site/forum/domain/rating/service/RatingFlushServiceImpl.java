@@ -0,0 +1,104 @@
+package org.site.forum.domain.rating.service;
+
+import lombok.AllArgsConstructor;
+import org.site.forum.domain.rating.buffer.BufferedVote;
+import org.site.forum.domain.rating.dao.RatingBatchDao;
+import org.site.forum.domain.rating.dao.TopicOwners;
+import org.site.forum.domain.search.cache.SearchResultCache;
+import org.site.forum.domain.search.index.TopicSearchIndex;
+import org.site.forum.domain.search.suggest.TopicSuggestIndex;
+import org.site.forum.domain.topic.cache.TopicCache;
+import org.site.forum.domain.user.cache.UserProfileCache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes buffered votes with the same toggle rules as {@link RatingServiceImpl}: repeating the current value or voting
+ * 0 removes the rating, anything else replaces it. Each user's votes are replayed in order starting from the stored
+ * value, and only the outcome is written. The topic aggregate receives the net difference per topic.
+ * <p>
+ * Votes on a topic or by a voter that no longer has a row are dropped, otherwise the batch would fail its foreign
+ * keys on every retry and no vote would be written again.
+ */
+@Service
+@AllArgsConstructor
+@Transactional
+public class RatingFlushServiceImpl implements RatingFlushService {
+
+    private final RatingBatchDao ratingBatchDao;
+    private final TopicCache topicCache;
+    private final TopicSearchIndex topicSearchIndex;
+    private final TopicSuggestIndex topicSuggestIndex;
+    private final SearchResultCache searchResultCache;
+    private final UserProfileCache userProfileCache;
+
+    @Override
+    public void flush(List<BufferedVote> bufferedVotes) {
+        List<BufferedVote> votes = ratingBatchDao.retainExisting(bufferedVotes);
+        if (votes.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, Map<UUID, Integer>> storedValues = ratingBatchDao.findRatingValuesForUpdate(votes);
+        List<BufferedVote> upserts = new ArrayList<>();
+        List<BufferedVote> deletes = new ArrayList<>();
+        Map<UUID, Integer> deltasByTopicId = new HashMap<>();
+
+        replay(votes, storedValues).forEach((topicId, resultingValues) -> resultingValues.forEach((userId, resulting) -> {
+            int stored = storedValue(storedValues, topicId, userId);
+            if (resulting == stored) {
+                return;
+            }
+
+            if (resulting == 0) {
+                deletes.add(new BufferedVote(topicId, userId, 0));
+            } else {
+                upserts.add(new BufferedVote(topicId, userId, resulting));
+            }
+            deltasByTopicId.merge(topicId, resulting - stored, Integer::sum);
+        }));
+
+        if (!upserts.isEmpty()) {
+            ratingBatchDao.upsertRatings(upserts);
+        }
+        if (!deletes.isEmpty()) {
+            ratingBatchDao.deleteRatings(deletes);
+        }
+        deltasByTopicId.values().removeIf(delta -> delta == 0);
+        if (!deltasByTopicId.isEmpty()) {
+            ratingBatchDao.adjustTopicRatings(deltasByTopicId);
+            deltasByTopicId.keySet().forEach(topicCache::invalidate);
+            deltasByTopicId.forEach(topicSearchIndex::adjustRating);
+            deltasByTopicId.forEach(topicSuggestIndex::adjustRating);
+            TopicOwners owners = ratingBatchDao.findOwners(deltasByTopicId.keySet());
+            searchResultCache.invalidateCommunities(owners.getCommunityIds());
+            owners.getAuthorIds().forEach(userProfileCache::invalidate);
+        }
+    }
+
+    private Map<UUID, Map<UUID, Integer>> replay(List<BufferedVote> votes, Map<UUID, Map<UUID, Integer>> storedValues) {
+        Map<UUID, Map<UUID, Integer>> resultingValues = new LinkedHashMap<>();
+        for (BufferedVote vote : votes) {
+            resultingValues.computeIfAbsent(vote.getTopicId(), id -> new LinkedHashMap<>())
+                    .compute(vote.getUserId(), (userId, current) -> toggle(
+                            current != null ? current : storedValue(storedValues, vote.getTopicId(), userId),
+                            vote.getRatingValue()));
+        }
+        return resultingValues;
+    }
+
+    private static int toggle(int current, int requested) {
+        return (requested == 0 || requested == current) ? 0 : requested;
+    }
+
+    private static int storedValue(Map<UUID, Map<UUID, Integer>> storedValues, UUID topicId, UUID userId) {
+        return storedValues.getOrDefault(topicId, Map.of()).getOrDefault(userId, 0);
+    }
+
+}
@@ -1,26 +1,43 @@
 package org.site.forum.domain.rating.service;
 
 import lombok.AllArgsConstructor;
+import org.site.forum.common.exception.RatingConflictException;
 import org.site.forum.config.auth.AuthenticationService;
+import org.site.forum.domain.rating.buffer.RatingBuffer;
 import org.site.forum.domain.rating.dao.RatingDao;
 import org.site.forum.domain.rating.entity.Rating;
 import org.site.forum.domain.rating.integrity.RatingDataIntegrity;
 import org.site.forum.domain.rating.mapper.RatingMapper;
+import org.site.forum.domain.search.cache.SearchResultCache;
+import org.site.forum.domain.search.index.TopicSearchIndex;
+import org.site.forum.domain.search.suggest.TopicSuggestIndex;
+import org.site.forum.domain.topic.cache.TopicCache;
 import org.site.forum.domain.topic.dao.TopicDao;
 import org.site.forum.domain.topic.entity.Topic;
+import org.site.forum.domain.user.cache.UserProfileCache;
 import org.site.forum.domain.user.entity.User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.UUID;
 
 @Service
 @AllArgsConstructor
+@Transactional
 public class RatingServiceImpl implements RatingService {
 
+    private static final String RATING_CONFLICT = "The rating was changed concurrently, please try again";
+
     private final AuthenticationService authenticationService;
     private final RatingDao ratingDao;
     private final TopicDao topicDao;
     private final RatingMapper ratingMapper;
     private final RatingDataIntegrity ratingDataIntegrity;
+    private final RatingBuffer ratingBuffer;
+    private final TopicCache topicCache;
+    private final TopicSearchIndex topicSearchIndex;
+    private final TopicSuggestIndex topicSuggestIndex;
+    private final SearchResultCache searchResultCache;
+    private final UserProfileCache userProfileCache;
 
     @Override
     public Topic rateTopic(UUID topicId, Integer ratingValue) {
@@ -29,15 +46,32 @@ public class RatingServiceImpl implements RatingService {
         ratingDataIntegrity.validateUserExists(user);
 
         Topic topic = topicDao.getTopic(topicId);
-        Rating rating = ratingDao.findByPostIdAndUserId(topicId, user.getId()).orElse(null);
+
+        if (ratingBuffer.isEnabled()) {
+            ratingBuffer.record(topicId, user.getId(), ratingValue);
+            return topic;
+        }
+
+        // Votes on the topic queue on its row, which each of them updates anyway, so no concurrent vote can insert
+        // or delete this user's rating between the lookup and the write. Losing the insert means another writer
+        // bypassed that lock, which is reported rather than retried.
+        topicDao.lockTopic(topicId);
+        if (!applyRating(topicId, topic, user, ratingValue)) {
+            throw new RatingConflictException(RATING_CONFLICT);
+        }
+
+        return topic;
+    }
+
+    private boolean applyRating(UUID topicId, Topic topic, User user, Integer ratingValue) {
+        Rating rating = ratingDao.findByPostIdAndUserIdForUpdate(topicId, user.getId()).orElse(null);
 
         if (rating != null) {
             handleExistingRating(rating, ratingValue);
-        } else if (ratingValue != 0) {
-            createNewRating(topic, user, ratingValue);
+            return true;
         }
 
-        return topic;
+        return ratingValue == 0 || createNewRating(topic, user, ratingValue);
     }
 
     private void handleExistingRating(Rating rating, Integer newValue) {
@@ -48,10 +82,14 @@ public class RatingServiceImpl implements RatingService {
         }
     }
 
-    private void createNewRating(Topic topic, User user, Integer value) {
+    private boolean createNewRating(Topic topic, User user, Integer value) {
         Rating newRating = ratingMapper.toEntity(topic, user, value);
-        ratingDao.save(newRating);
+        if (!ratingDao.saveIfAbsent(newRating)) {
+            return false;
+        }
+
         adjustTopicRating(topic, value);
+        return true;
     }
 
     private void updateRating(Rating rating, Integer newValue) {
@@ -68,8 +106,13 @@ public class RatingServiceImpl implements RatingService {
     }
 
     private void adjustTopicRating(Topic topic, int change) {
-        topic.setRating(topic.getRating() + change);
-        topicDao.saveTopic(topic);
+        topic.setRating(topicDao.adjustRating(topic.getId(), change));
+        topicCache.invalidate(topic.getId());
+        topicSearchIndex.adjustRating(topic.getId(), change);
+        topicSuggestIndex.adjustRating(topic.getId(), change);
+        searchResultCache.invalidateCommunityOf(topic);
+        if (topic.getAuthor() != null) {
+            userProfileCache.invalidate(topic.getAuthor().getId());
+        }
     }
-
-}
\ No newline at end of file
+}
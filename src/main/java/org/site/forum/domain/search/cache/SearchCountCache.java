@@ -0,0 +1,40 @@
+package org.site.forum.domain.search.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.site.forum.domain.search.entity.SearchTotal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of search totals. Entries are not invalidated on writes, a total may lag behind by up to the
+ * configured ttl.
+ */
+@Component
+public class SearchCountCache {
+
+    public static final String CACHE_NAME = "search-counts";
+
+    private final Cache<SearchCountKey, SearchTotal> cache;
+
+    public SearchCountCache(@Value("${forum.cache.search-counts.maximum-size}") long maximumSize,
+                            @Value("${forum.cache.search-counts.ttl}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public SearchTotal get(SearchCountKey key, Supplier<SearchTotal> counter) {
+        return cache.get(key, ignored -> counter.get());
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.site.forum.domain.search.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.site.forum.domain.search.entity.TopicSearchCriteria;
+import java.util.UUID;
+
+/**
+ * The parts of a normalized search that decide its total. Paging and sorting are left out, so every page of the
+ * same search shares one cached count.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class SearchCountKey {
+
+    private final UUID communityId;
+    private final String mode;
+    private final String search;
+    private final Double similarityThreshold;
+    private final String totalMode;
+
+    public static SearchCountKey of(UUID communityId, TopicSearchCriteria criteria) {
+        return new SearchCountKey(communityId, criteria.getMode(), criteria.getSearch(),
+                criteria.getSimilarityThreshold(), criteria.getTotalMode());
+    }
+
+}
@@ -0,0 +1,85 @@
+package org.site.forum.domain.search.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.site.forum.common.AfterCommit;
+import org.site.forum.domain.search.dto.response.PaginatedResponseDto;
+import org.site.forum.domain.search.entity.TopicSearchCriteria;
+import org.site.forum.domain.topic.entity.Topic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of whole search responses per community. Instead of finding the entries a topic change affects, a change
+ * bumps the community's generation, which is part of every key. The bump is repeated after commit, so a search
+ * running concurrently with the write cannot keep its stale result under the current generation.
+ */
+@Component
+public class SearchResultCache {
+
+    public static final String CACHE_NAME = "search-results";
+    public static final String HIT_RATIO_METRIC = "forum.cache.search-results.hit-ratio";
+
+    private final Cache<SearchResultKey, PaginatedResponseDto> cache;
+    private final Map<UUID, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public SearchResultCache(@Value("${forum.cache.search-results.maximum-size}") long maximumSize,
+                             @Value("${forum.cache.search-results.ttl}") Duration ttl,
+                             MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(HIT_RATIO_METRIC, cache, cached -> cached.stats().hitRate())
+                .description("Share of searches answered from the result cache")
+                .register(meterRegistry);
+    }
+
+    public PaginatedResponseDto get(UUID communityId, TopicSearchCriteria criteria,
+                                    Supplier<PaginatedResponseDto> loader) {
+        if (communityId == null) {
+            return loader.get();
+        }
+
+        SearchResultKey key = SearchResultKey.of(communityId, generation(communityId).get(), criteria);
+        return cache.get(key, ignored -> loader.get());
+    }
+
+    public void invalidateCommunity(UUID communityId) {
+        if (communityId == null) {
+            return;
+        }
+
+        generation(communityId).incrementAndGet();
+
+        AfterCommit.run(() -> generation(communityId).incrementAndGet());
+    }
+
+    public void invalidateCommunityOf(Topic topic) {
+        if (topic != null && topic.getCommunity() != null) {
+            invalidateCommunity(topic.getCommunity().getId());
+        }
+    }
+
+    public void invalidateCommunities(Collection<UUID> communityIds) {
+        communityIds.forEach(this::invalidateCommunity);
+    }
+
+    private AtomicLong generation(UUID communityId) {
+        return generations.computeIfAbsent(communityId, id -> new AtomicLong());
+    }
+
+}
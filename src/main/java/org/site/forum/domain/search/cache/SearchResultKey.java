@@ -0,0 +1,35 @@
+package org.site.forum.domain.search.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.site.forum.domain.search.entity.TopicSearchCriteria;
+import java.util.UUID;
+
+/**
+ * A normalized search within one generation of its community. Bumping the generation makes every key of the
+ * previous one unreachable, those entries then age out of the cache on their own.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class SearchResultKey {
+
+    private final UUID communityId;
+    private final long generation;
+    private final String search;
+    private final Integer offset;
+    private final Integer limit;
+    private final String sortBy;
+    private final String sortDirection;
+    private final String mode;
+    private final Double similarityThreshold;
+    private final String totalMode;
+
+    public static SearchResultKey of(UUID communityId, long generation, TopicSearchCriteria criteria) {
+        return new SearchResultKey(communityId, generation, criteria.getSearch(), criteria.getOffset(),
+                criteria.getLimit(), criteria.getSortBy(), criteria.getSortDirection(), criteria.getMode(),
+                criteria.getSimilarityThreshold(), criteria.getTotalMode());
+    }
+
+}
@@ -5,12 +5,15 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
 import org.site.forum.domain.search.dto.response.PaginatedResponseDto;
+import org.site.forum.domain.search.dto.response.TopicSuggestionDto;
 import org.site.forum.domain.search.entity.TopicSearchCriteria;
 import org.site.forum.domain.search.service.SearchService;
+import org.site.forum.domain.search.service.SuggestService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Search Controller", description = "Operations related to searching forum topics")
@@ -21,6 +24,7 @@ import java.util.UUID;
 public class SearchController {
 
     private final SearchService searchService;
+    private final SuggestService suggestService;
 
     @GetMapping("/topics/{communityId}")
     @Operation(
@@ -39,14 +43,46 @@ public class SearchController {
             @Parameter(description = "Search term to filter topics")
             @RequestParam(required = false) String search,
 
-            @Parameter(description = "Field to sort results by")
+            @Parameter(description = "Field to sort results by: rating, title, ts_rank in fulltext mode or similarity in fuzzy mode")
             @RequestParam(required = false) String sortBy,
 
             @Parameter(description = "Sorting order (asc/desc)")
-            @RequestParam(required = false) String sortOrder) {
+            @RequestParam(required = false) String sortOrder,
+
+            @Parameter(description = "Search mode: like (substring match, default), fulltext (ranked word match " +
+                    "that accepts quoted phrases, OR and -exclusions) or fuzzy (typo tolerant, ordered by similarity)")
+            @RequestParam(required = false) String mode,
+
+            @Parameter(description = "Minimum similarity between 0 and 1 for fuzzy mode, defaults to 0.3")
+            @RequestParam(required = false) Double similarityThreshold,
+
+            @Parameter(description = "How the total is computed: exact (default), estimated (planner row estimate) " +
+                    "or capped (counts up to 10000, a larger total is reported as 10000 with totalMode capped)")
+            @RequestParam(required = false) String total) {
+        try {
+            UUID communityUUID = UUID.fromString(communityId);
+            return ResponseEntity.ok(searchService.searchTopics(communityUUID, new TopicSearchCriteria(search, offset, limit, sortBy, sortOrder, mode, similarityThreshold, total)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
+    @GetMapping("/suggest/{communityId}")
+    @Operation(
+            summary = "Suggest topic titles",
+            description = "Returns the highest rated topics of a community with a title word starting with the given prefix, for search-as-you-type"
+    )
+    public ResponseEntity<List<TopicSuggestionDto>> suggestTopics(
+            @PathVariable String communityId,
+
+            @Parameter(description = "Beginning of a word in the topic title, case insensitive")
+            @RequestParam(required = false) String prefix,
+
+            @Parameter(description = "Maximum number of suggestions to return, defaults to 10")
+            @RequestParam(required = false) Integer limit) {
         try {
             UUID communityUUID = UUID.fromString(communityId);
-            return ResponseEntity.ok(searchService.searchTopics(communityUUID, new TopicSearchCriteria(search, offset, limit, sortBy, sortOrder)));
+            return ResponseEntity.ok(suggestService.suggestTopics(communityUUID, prefix, limit));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(null);
         }
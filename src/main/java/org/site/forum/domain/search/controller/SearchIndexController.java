@@ -0,0 +1,36 @@
+package org.site.forum.domain.search.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.site.forum.domain.search.index.TopicSearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.site.forum.common.constant.SearchConstant.SEARCH_ENGINE_INDEX;
+
+@Tag(name = "Search Index Controller", description = "Maintenance of the embedded topic search index")
+@RestController
+@RequestMapping("/search/index")
+@AllArgsConstructor
+@ConditionalOnProperty(name = "forum.search.engine", havingValue = SEARCH_ENGINE_INDEX)
+public class SearchIndexController {
+
+    private final TopicSearchIndex topicSearchIndex;
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('client_admin')")
+    @Operation(
+            summary = "Rebuild the search index",
+            description = "Re-indexes every topic from the database. Searches keep being served from the current index until the rebuild completes. Requires client_admin role."
+    )
+    public ResponseEntity<Void> rebuild() {
+        topicSearchIndex.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
+}
@@ -0,0 +1,25 @@
+package org.site.forum.domain.search.dao;
+
+import org.site.forum.domain.search.entity.TopicSearchCriteria;
+import org.site.forum.domain.search.index.IndexedTopic;
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
+import org.springframework.data.domain.Pageable;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+public interface TopicSearchDao {
+
+    List<TopicSummary> findByLike(UUID communityId, String search, Pageable pageable);
+    List<TopicSummary> findByFullText(UUID communityId, String search, Pageable pageable);
+    List<TopicSummary> findBySimilarity(UUID communityId, String search, double threshold, Pageable pageable);
+    long countMatches(UUID communityId, TopicSearchCriteria criteria);
+    long countMatchesUpTo(UUID communityId, TopicSearchCriteria criteria, long limit);
+    long estimateMatches(UUID communityId, TopicSearchCriteria criteria);
+    List<TopicSummary> findAllInOrder(List<UUID> ids);
+    void streamIndexedTopics(Consumer<IndexedTopic> consumer);
+    void streamRatings(BiConsumer<UUID, Integer> consumer);
+    void streamIndexedTitles(UUID communityId, Consumer<IndexedTopic> consumer);
+
+}
@@ -0,0 +1,302 @@
+package org.site.forum.domain.search.dao;
+
+import lombok.AllArgsConstructor;
+import org.site.forum.domain.search.entity.TopicSearchCriteria;
+import org.site.forum.domain.search.index.IndexedTopic;
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.site.forum.common.constant.PageConstant.CONTENT_PREVIEW_LENGTH;
+import static org.site.forum.common.constant.SearchConstant.SEARCH_MODE_FULL_TEXT;
+import static org.site.forum.common.constant.SearchConstant.SEARCH_MODE_FUZZY;
+import static org.site.forum.common.constant.SearchConstant.SORT_BY_HOT;
+import static org.site.forum.common.constant.SearchConstant.SORT_BY_RANK;
+import static org.site.forum.common.constant.SearchConstant.SORT_BY_SIMILARITY;
+import static org.site.forum.common.constant.SearchConstant.TEXT_SEARCH_CONFIGURATION;
+
+/**
+ * Search paths that rely on PostgreSQL specific indexes. Pages are selected straight into {@link TopicSummary} rows
+ * with the author's name joined in, so that listing never hydrates entities. Totals are counted separately so that
+ * callers can cache, cap or estimate them.
+ */
+@Service
+@AllArgsConstructor
+public class TopicSearchDaoImpl implements TopicSearchDao {
+
+    private static final String TS_QUERY = "websearch_to_tsquery('" + TEXT_SEARCH_CONFIGURATION + "', :search)";
+    private static final String SET_SIMILARITY_THRESHOLDS = """
+            SELECT set_config('pg_trgm.similarity_threshold', :threshold, true),
+                   set_config('pg_trgm.word_similarity_threshold', :threshold, true)
+            """;
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "rating", "t.rating",
+            "title", "t.title",
+            SORT_BY_HOT, "t.hot_score",
+            SORT_BY_RANK, "score",
+            SORT_BY_SIMILARITY, "score");
+    private static final String SUMMARY_COLUMNS = """
+            t.id, t.title, left(t.content, %d) AS content, t.author_id, u.name AS author_name, t.created_at,
+            t.updated_at, t.deleted_at, t.is_enabled, t.rating, t.comment_count,
+            coalesce(v.views, 0) AS views, coalesce(v.readers, 0) AS readers""".formatted(CONTENT_PREVIEW_LENGTH);
+    private static final String SUMMARY_FROM = " FROM topics t LEFT JOIN users u ON u.id = t.author_id"
+            + " LEFT JOIN topic_views v ON v.topic_id = t.id";
+    private static final int STREAM_FETCH_SIZE = 1000;
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TopicSummary> findByLike(UUID communityId, String search, Pageable pageable) {
+        return findPage(communityId, likeMatch(search), pageable);
+    }
+
+    @Override
+    public List<TopicSummary> findByFullText(UUID communityId, String search, Pageable pageable) {
+        return findPage(communityId, fullTextMatch(search), pageable);
+    }
+
+    /**
+     * Matches titles similar to the search term, or content containing a word similar to it. The thresholds are set
+     * for the current transaction only, so that both operators can still be answered from the trigram indexes.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TopicSummary> findBySimilarity(UUID communityId, String search, double threshold, Pageable pageable) {
+        return findPage(communityId, similarityMatch(search, threshold), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countMatches(UUID communityId, TopicSearchCriteria criteria) {
+        Match match = match(communityId, criteria);
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM topics t" + match.where(), match.parameters, Long.class));
+    }
+
+    /**
+     * Counts at most {@code limit} matches, so that broad searches stop scanning once the cap is reached.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long countMatchesUpTo(UUID communityId, TopicSearchCriteria criteria, long limit) {
+        Match match = match(communityId, criteria);
+        match.parameters.addValue("countLimit", limit);
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM (SELECT 1 FROM topics t" + match.where() + " LIMIT :countLimit) matches",
+                match.parameters, Long.class));
+    }
+
+    /**
+     * Returns the planner's row estimate for the search, which costs no more than planning the query.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long estimateMatches(UUID communityId, TopicSearchCriteria criteria) {
+        Match match = match(communityId, criteria);
+        List<String> plan = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT 1 FROM topics t" + match.where(), match.parameters, String.class);
+
+        Matcher rows = PLAN_ROWS.matcher(plan.isEmpty() ? "" : plan.get(0));
+        return rows.find() ? Long.parseLong(rows.group(1)) : 0;
+    }
+
+    @Override
+    public List<TopicSummary> findAllInOrder(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, TopicSummary> topicsById = jdbcTemplate.query(
+                        "SELECT " + SUMMARY_COLUMNS + SUMMARY_FROM + " WHERE t.id IN (:ids)",
+                        new MapSqlParameterSource("ids", ids),
+                        this::toSummary).stream()
+                .collect(Collectors.toMap(TopicSummary::getId, Function.identity()));
+
+        return ids.stream().map(topicsById::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamIndexedTopics(Consumer<IndexedTopic> consumer) {
+        stream("SELECT id, community_id, title, content, rating FROM topics WHERE deleted_at IS NULL",
+                resultSet -> consumer.accept(new IndexedTopic(
+                        resultSet.getObject("id", UUID.class),
+                        resultSet.getObject("community_id", UUID.class),
+                        resultSet.getString("title"),
+                        resultSet.getString("content"),
+                        resultSet.getInt("rating"))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamRatings(BiConsumer<UUID, Integer> consumer) {
+        stream("SELECT id, rating FROM topics WHERE deleted_at IS NULL",
+                resultSet -> consumer.accept(resultSet.getObject("id", UUID.class), resultSet.getInt("rating")));
+    }
+
+    /**
+     * Same rows as {@link #streamIndexedTopics(Consumer)} for one community, without the content.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamIndexedTitles(UUID communityId, Consumer<IndexedTopic> consumer) {
+        jdbcTemplate.query("SELECT id, title, rating FROM topics WHERE community_id = :communityId AND deleted_at IS NULL",
+                new MapSqlParameterSource("communityId", communityId),
+                (RowCallbackHandler) resultSet -> consumer.accept(new IndexedTopic(
+                        resultSet.getObject("id", UUID.class),
+                        communityId,
+                        resultSet.getString("title"),
+                        null,
+                        resultSet.getInt("rating"))));
+    }
+
+    /**
+     * Reads the rows through a cursor instead of materializing them, PostgreSQL only honours the fetch size
+     * inside a transaction.
+     */
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.getJdbcTemplate().query(connection -> {
+            var statement = connection.prepareStatement(sql);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            return statement;
+        }, handler);
+    }
+
+    private Match match(UUID communityId, TopicSearchCriteria criteria) {
+        Match match = switch (criteria.getMode()) {
+            case SEARCH_MODE_FULL_TEXT -> fullTextMatch(criteria.getSearch());
+            case SEARCH_MODE_FUZZY -> similarityMatch(criteria.getSearch(), criteria.getSimilarityThreshold());
+            default -> likeMatch(criteria.getSearch());
+        };
+        return match.inCommunity(communityId);
+    }
+
+    /**
+     * Case insensitive substring match on title or content.
+     */
+    private Match likeMatch(String search) {
+        if (!StringUtils.hasText(search)) {
+            return Match.all();
+        }
+
+        return new Match("(lower(t.title) LIKE :pattern OR lower(t.content) LIKE :pattern)", "0",
+                new MapSqlParameterSource("pattern", "%" + search.toLowerCase() + "%"));
+    }
+
+    private Match fullTextMatch(String search) {
+        if (!StringUtils.hasText(search)) {
+            return Match.all();
+        }
+
+        return new Match("t.search_vector @@ " + TS_QUERY, "ts_rank(t.search_vector, " + TS_QUERY + ")",
+                new MapSqlParameterSource("search", search));
+    }
+
+    private Match similarityMatch(String search, double threshold) {
+        if (!StringUtils.hasText(search)) {
+            return Match.all();
+        }
+
+        jdbcTemplate.queryForList(SET_SIMILARITY_THRESHOLDS,
+                new MapSqlParameterSource("threshold", String.valueOf(threshold)));
+
+        return new Match("(t.title % :search OR :search <% t.content)",
+                "GREATEST(similarity(t.title, :search), word_similarity(:search, t.content))",
+                new MapSqlParameterSource("search", search));
+    }
+
+    private List<TopicSummary> findPage(UUID communityId, Match match, Pageable pageable) {
+        match.inCommunity(communityId).parameters
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        return jdbcTemplate.query(
+                "SELECT " + SUMMARY_COLUMNS + ", " + match.score + " AS score" + SUMMARY_FROM + match.where()
+                        + " ORDER BY " + toOrderBy(pageable.getSort()) + " LIMIT :limit OFFSET :offset",
+                match.parameters,
+                this::toSummary);
+    }
+
+    private String toOrderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column != null) {
+                orders.add(column + " " + order.getDirection().name());
+            }
+        }
+        orders.add("t.id");
+        return String.join(", ", orders);
+    }
+
+    private TopicSummary toSummary(ResultSet resultSet, int rowNum) throws SQLException {
+        return new TopicSummary(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getString("title"),
+                resultSet.getString("content"),
+                resultSet.getObject("author_id", UUID.class),
+                resultSet.getString("author_name"),
+                resultSet.getObject("created_at", LocalDateTime.class),
+                resultSet.getObject("updated_at", LocalDateTime.class),
+                resultSet.getObject("deleted_at", LocalDateTime.class),
+                resultSet.getObject("is_enabled", Boolean.class),
+                resultSet.getObject("rating", Integer.class),
+                resultSet.getInt("comment_count"),
+                resultSet.getLong("views"),
+                resultSet.getLong("readers"));
+    }
+
+    private static class Match {
+
+        private final List<String> conditions = new ArrayList<>();
+        private final String score;
+        private final MapSqlParameterSource parameters;
+
+        Match(String condition, String score, MapSqlParameterSource parameters) {
+            if (condition != null) {
+                conditions.add(condition);
+            }
+            this.score = score;
+            this.parameters = parameters;
+        }
+
+        static Match all() {
+            return new Match(null, "0", new MapSqlParameterSource());
+        }
+
+        Match inCommunity(UUID communityId) {
+            if (communityId != null && !parameters.hasValue("communityId")) {
+                parameters.addValue("communityId", communityId);
+                conditions.add("t.community_id = :communityId");
+            }
+            return this;
+        }
+
+        String where() {
+            return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        }
+
+    }
+
+}
@@ -17,5 +17,6 @@ public class PaginatedResponseDto {
     private Integer currentPage;
     private Integer totalPages;
     private Long totalItems;
+    private String totalMode;
 
 }
\ No newline at end of file
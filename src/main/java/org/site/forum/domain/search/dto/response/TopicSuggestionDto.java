@@ -0,0 +1,19 @@
+package org.site.forum.domain.search.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.util.UUID;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TopicSuggestionDto {
+
+    private UUID id;
+    private String title;
+    private Integer rating;
+
+}
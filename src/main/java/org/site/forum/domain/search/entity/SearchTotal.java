@@ -0,0 +1,17 @@
+package org.site.forum.domain.search.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Total number of topics matching a search, with the {@code totalMode} describing how far it can be trusted:
+ * exact, a planner estimate, or a lower bound when counting stopped at the cap.
+ */
+@Getter
+@AllArgsConstructor
+public class SearchTotal {
+
+    private final long count;
+    private final String totalMode;
+
+}
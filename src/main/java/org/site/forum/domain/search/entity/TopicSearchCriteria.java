@@ -18,5 +18,8 @@ public class TopicSearchCriteria {
     private Integer limit;
     private String sortBy;
     private String sortDirection;
+    private String mode;
+    private Double similarityThreshold;
+    private String totalMode;
 
 }
\ No newline at end of file
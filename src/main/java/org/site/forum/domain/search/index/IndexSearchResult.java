@@ -0,0 +1,15 @@
+package org.site.forum.domain.search.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class IndexSearchResult {
+
+    private final List<UUID> topicIds;
+    private final long totalHits;
+
+}
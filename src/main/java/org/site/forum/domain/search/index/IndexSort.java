@@ -0,0 +1,9 @@
+package org.site.forum.domain.search.index;
+
+public enum IndexSort {
+
+    RATING,
+    TITLE,
+    RELEVANCE
+
+}
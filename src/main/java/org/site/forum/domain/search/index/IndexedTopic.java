@@ -0,0 +1,17 @@
+package org.site.forum.domain.search.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class IndexedTopic {
+
+    private final UUID id;
+    private final UUID communityId;
+    private final String title;
+    private final String content;
+    private final int rating;
+
+}
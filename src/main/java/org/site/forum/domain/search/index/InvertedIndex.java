@@ -0,0 +1,706 @@
+package org.site.forum.domain.search.index;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Segmented inverted index over topic titles and content. Changes are collected in an in-memory segment that is
+ * searchable right away and periodically flushed to an immutable, memory-mapped segment file. A document is live
+ * only while the live map still points at its segment and ordinal, so updates and deletes never rewrite old
+ * segments, merges drop the stale copies.
+ */
+public class InvertedIndex implements AutoCloseable {
+
+    static final long MAX_MERGED_SEGMENT_BYTES = 1L << 30;
+
+    private final Path directory;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+    private final AtomicLong nextGeneration = new AtomicLong(1);
+
+    private final Map<UUID, DocumentRef> live = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<UUID>> communityTopics = new HashMap<>();
+    private List<MappedSegment> segments = new ArrayList<>();
+    private MemorySegment buffer = new MemorySegment();
+    private MemorySegment flushing;
+
+    private InvertedIndex(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Opens the index stored in {@code directory}, replaying segments oldest first: the tombstones of a segment
+     * remove topics indexed before it, its documents replace older versions of the same topics.
+     */
+    public static InvertedIndex open(Path directory) {
+        InvertedIndex index = new InvertedIndex(directory);
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    if (file.getFileName().toString().endsWith(".tmp")) {
+                        Files.delete(file);
+                    }
+                }
+            }
+
+            try (Stream<Path> files = Files.list(directory)) {
+                List<Path> segmentFiles = files
+                        .filter(file -> generationOf(file) > 0)
+                        .sorted(Comparator.comparingLong(InvertedIndex::generationOf))
+                        .toList();
+                for (Path file : segmentFiles) {
+                    index.load(MappedSegment.open(file));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open search index in " + directory, e);
+        }
+        return index;
+    }
+
+    public void upsert(IndexedTopic topic) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = buffer.add(topic);
+            putLive(topic.getId(), new DocumentRef(buffer, ordinal, topic.getCommunityId(), topic.getRating()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID topicId) {
+        lock.writeLock().lock();
+        try {
+            if (removeLive(topicId)) {
+                buffer.addTombstone(topicId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ratings change far more often than text, so they are kept in memory only. Segments store the rating a topic
+     * had when it was indexed and callers refresh them from the database after {@link #open(Path)}.
+     */
+    public void adjustRating(UUID topicId, int delta) {
+        DocumentRef ref = live.get(topicId);
+        if (ref != null) {
+            ref.rating.addAndGet(delta);
+        }
+    }
+
+    public void setRating(UUID topicId, int rating) {
+        DocumentRef ref = live.get(topicId);
+        if (ref != null) {
+            ref.rating.set(rating);
+        }
+    }
+
+    public int size() {
+        return live.size();
+    }
+
+    public int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int bufferedDocuments() {
+        lock.readLock().lock();
+        try {
+            return buffer.documentCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the buffered changes to a new segment. The buffer being written stays searchable until the mapped
+     * segment replaces it, writers keep going to a fresh buffer meanwhile.
+     */
+    public void flush() {
+        maintenanceLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes unless another maintenance task is running, used on the write path so that a long rebuild never
+     * blocks requests.
+     */
+    public boolean tryFlush() {
+        if (!maintenanceLock.tryLock()) {
+            return false;
+        }
+        try {
+            flushLocked();
+            return true;
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * Once there are more than {@code maxSegments}, merges the smallest segments until half of {@code maxSegments}
+     * remain, keeping only live documents. Large segments are only rewritten once small ones have grown to their size,
+     * and a merge never takes in more than {@value #MAX_MERGED_SEGMENT_BYTES} bytes of segment files, which keeps the
+     * merged file within the int offsets of the segment format.
+     */
+    public boolean mergeIfNeeded(int maxSegments) {
+        maintenanceLock.lock();
+        try {
+            List<MappedSegment> current = snapshotSegments();
+            if (current.size() <= maxSegments) {
+                return false;
+            }
+
+            List<MappedSegment> merged = smallestSegments(current, current.size() - maxSegments / 2);
+            if (merged.size() < 2) {
+                return false;
+            }
+
+            SegmentMerge merge = new SegmentMerge(merged);
+            for (int source = 0; source < merged.size(); source++) {
+                MappedSegment segment = merged.get(source);
+                for (int ordinal = 0; ordinal < segment.documentCount(); ordinal++) {
+                    UUID topicId = segment.topicId(ordinal);
+                    if (isLive(segment, ordinal, topicId)) {
+                        merge.add(source, ordinal, live.get(topicId).rating.get());
+                    }
+                }
+            }
+
+            // Segments left out of the merge may still hold older copies of topics deleted in the merged ones.
+            Set<UUID> tombstones = new LinkedHashSet<>();
+            if (merged.size() < current.size()) {
+                merged.forEach(segment -> segment.tombstones().stream()
+                        .filter(topicId -> !live.containsKey(topicId))
+                        .forEach(tombstones::add));
+            }
+
+            MappedSegment segment = writeSegment(nextGeneration.getAndIncrement(), merge.documents(), merge.terms(),
+                    merge::postings, tombstones);
+
+            lock.writeLock().lock();
+            try {
+                for (int ordinal = 0; ordinal < merge.documentCount(); ordinal++) {
+                    Segment source = merge.source(ordinal);
+                    int sourceOrdinal = merge.sourceOrdinal(ordinal);
+                    UUID topicId = source.topicId(sourceOrdinal);
+                    if (isLive(source, sourceOrdinal, topicId)) {
+                        live.put(topicId, live.get(topicId).moveTo(segment, ordinal));
+                    }
+                }
+                List<MappedSegment> remaining = new ArrayList<>(segments);
+                remaining.removeAll(merged);
+                remaining.add(segment);
+                segments = remaining;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            deleteSegments(merged);
+            return true;
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole index with the topics supplied by {@code source}, written in segments of
+     * {@code segmentSize} documents. Changes made while the rebuild runs land in the buffer and win over the
+     * rebuilt documents.
+     */
+    public void rebuild(Consumer<Consumer<IndexedTopic>> source, int segmentSize) {
+        maintenanceLock.lock();
+        try {
+            flushLocked();
+
+            List<MappedSegment> rebuilt = new ArrayList<>();
+            Map<UUID, DocumentRef> rebuiltLive = new HashMap<>();
+            MemorySegment[] current = {new MemorySegment()};
+
+            try {
+                source.accept(topic -> {
+                    current[0].add(topic);
+                    if (current[0].documentCount() >= segmentSize) {
+                        rebuilt.add(writeRebuiltSegment(current[0], rebuiltLive));
+                        current[0] = new MemorySegment();
+                    }
+                });
+                if (!current[0].isEmpty()) {
+                    rebuilt.add(writeRebuiltSegment(current[0], rebuiltLive));
+                }
+            } catch (RuntimeException e) {
+                deleteSegments(rebuilt);
+                throw e;
+            }
+
+            List<MappedSegment> previous;
+            lock.writeLock().lock();
+            try {
+                buffer.tombstones().forEach(rebuiltLive::remove);
+                live.forEach((topicId, ref) -> {
+                    if (ref.segment == buffer) {
+                        rebuiltLive.put(topicId, ref);
+                    }
+                });
+                live.clear();
+                communityTopics.clear();
+                rebuiltLive.forEach(this::putLive);
+                previous = segments;
+                segments = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            deleteSegments(previous);
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the live topics of {@code communityId} containing every term of {@code search}, or all of them when
+     * the search has no terms. Relevance is a tf-idf score where title terms weigh {@value MemorySegment#TITLE_WEIGHT}
+     * times as much as content terms, ties are broken by topic id. Only the first {@code offset + limit} hits are
+     * kept in order, the rest are just counted.
+     */
+    public IndexSearchResult search(UUID communityId, String search, IndexSort sort, boolean ascending,
+                                    long offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(TermTokenizer.tokenize(search)));
+
+        lock.readLock().lock();
+        try {
+            List<Segment> searchable = new ArrayList<>(segments);
+            if (flushing != null) {
+                searchable.add(flushing);
+            }
+            searchable.add(buffer);
+
+            TopHits hits = new TopHits(comparator(sort, ascending), offset + limit);
+            if (terms.isEmpty()) {
+                listAll(communityId, hits);
+            } else {
+                match(searchable, communityId, terms, hits);
+            }
+
+            return new IndexSearchResult(hits.page(offset, limit), hits.total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private void load(MappedSegment segment) {
+        segment.tombstones().forEach(this::removeLive);
+        for (int ordinal = 0; ordinal < segment.documentCount(); ordinal++) {
+            putLive(segment.topicId(ordinal),
+                    new DocumentRef(segment, ordinal, segment.communityId(ordinal), segment.rating(ordinal)));
+        }
+        segments.add(segment);
+        nextGeneration.set(Math.max(nextGeneration.get(), segment.generation() + 1));
+    }
+
+    private void flushLocked() {
+        MemorySegment snapshot;
+        long generation;
+        lock.writeLock().lock();
+        try {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            snapshot = buffer;
+            flushing = snapshot;
+            buffer = new MemorySegment();
+            generation = nextGeneration.getAndIncrement();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        MemorySegment compacted = new MemorySegment();
+        Map<UUID, Integer> ordinals = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            copyLiveDocuments(snapshot, compacted, ordinals);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        MappedSegment segment;
+        try {
+            segment = writeSegment(generation, compacted, snapshot.tombstones());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                flushing = null;
+                buffer = merge(snapshot, buffer);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            ordinals.forEach((topicId, ordinal) -> {
+                DocumentRef ref = live.get(topicId);
+                if (ref != null && ref.segment == snapshot) {
+                    live.put(topicId, ref.moveTo(segment, ordinal));
+                }
+            });
+            List<MappedSegment> updated = new ArrayList<>(segments);
+            updated.add(segment);
+            segments = updated;
+            flushing = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Puts a failed snapshot back in front of the buffer that collected changes while it was being written.
+     */
+    private MemorySegment merge(MemorySegment older, MemorySegment newer) {
+        MemorySegment merged = new MemorySegment();
+        older.tombstones().forEach(merged::addTombstone);
+        Map<UUID, Integer> ordinals = new HashMap<>();
+        copyLiveDocuments(older, merged, ordinals);
+        copyLiveDocuments(newer, merged, ordinals);
+        newer.tombstones().forEach(merged::addTombstone);
+
+        ordinals.forEach((topicId, ordinal) -> live.computeIfPresent(topicId, (id, ref) -> ref.moveTo(merged, ordinal)));
+        return merged;
+    }
+
+    /**
+     * Copies the documents of {@code source} that are still live into {@code target}, remapping their postings to
+     * the new ordinals recorded in {@code ordinals}.
+     */
+    private void copyLiveDocuments(Segment source, MemorySegment target, Map<UUID, Integer> ordinals) {
+        int[] remapped = new int[source.documentCount()];
+        for (int ordinal = 0; ordinal < source.documentCount(); ordinal++) {
+            UUID topicId = source.topicId(ordinal);
+            if (isLive(source, ordinal, topicId)) {
+                DocumentRef ref = live.get(topicId);
+                remapped[ordinal] = target.addDocument(new SegmentDocument(topicId, source.communityId(ordinal),
+                        ref.rating.get(), source.title(ordinal)));
+                ordinals.put(topicId, remapped[ordinal]);
+            } else {
+                remapped[ordinal] = -1;
+            }
+        }
+
+        for (String term : source.terms()) {
+            PostingList postings = source.postings(term);
+            for (int i = 0; i < postings.size(); i++) {
+                int ordinal = remapped[postings.getOrdinals()[i]];
+                if (ordinal >= 0) {
+                    target.addPosting(term, ordinal, postings.getFrequencies()[i]);
+                }
+            }
+        }
+    }
+
+    private MappedSegment writeRebuiltSegment(MemorySegment segment, Map<UUID, DocumentRef> rebuiltLive) {
+        MappedSegment written = writeSegment(nextGeneration.getAndIncrement(), segment, Set.of());
+        for (int ordinal = 0; ordinal < written.documentCount(); ordinal++) {
+            rebuiltLive.put(written.topicId(ordinal),
+                    new DocumentRef(written, ordinal, written.communityId(ordinal), written.rating(ordinal)));
+        }
+        return written;
+    }
+
+    private MappedSegment writeSegment(long generation, MemorySegment segment, Collection<UUID> tombstones) {
+        return writeSegment(generation, segment.documents(), segment.terms(), segment::postings, tombstones);
+    }
+
+    private MappedSegment writeSegment(long generation, List<SegmentDocument> documents, Iterable<String> terms,
+                                       Function<String, PostingList> postings, Collection<UUID> tombstones) {
+        try {
+            return MappedSegment.write(directory, generation, documents, terms, postings, tombstones);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write search index segment " + generation, e);
+        }
+    }
+
+    private void deleteSegments(Collection<MappedSegment> obsolete) {
+        for (MappedSegment segment : obsolete) {
+            try {
+                segment.delete();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not delete search index segment " + segment.generation(), e);
+            }
+        }
+    }
+
+    private List<MappedSegment> snapshotSegments() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(segments);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<MappedSegment> smallestSegments(List<MappedSegment> segments, int count) {
+        List<MappedSegment> bySize = new ArrayList<>(segments);
+        bySize.sort(Comparator.comparingLong(MappedSegment::fileSize));
+
+        List<MappedSegment> smallest = new ArrayList<>();
+        long bytes = 0;
+        for (MappedSegment segment : bySize) {
+            if (smallest.size() == count || bytes + segment.fileSize() > MAX_MERGED_SEGMENT_BYTES) {
+                break;
+            }
+            smallest.add(segment);
+            bytes += segment.fileSize();
+        }
+        return smallest;
+    }
+
+    private void listAll(UUID communityId, TopHits hits) {
+        Set<UUID> topicIds = communityId == null ? live.keySet() : communityTopics.getOrDefault(communityId, Set.of());
+        for (UUID topicId : topicIds) {
+            hits.add(new Hit(topicId, 0, live.get(topicId)));
+        }
+    }
+
+    private void match(List<Segment> searchable, UUID communityId, List<String> terms, TopHits hits) {
+        Map<Segment, List<PostingList>> postingsBySegment = new HashMap<>();
+        Map<String, Integer> documentFrequencies = new HashMap<>();
+
+        for (Segment segment : searchable) {
+            List<PostingList> postings = new ArrayList<>();
+            for (String term : terms) {
+                PostingList list = segment.postings(term);
+                if (list != null) {
+                    documentFrequencies.merge(term, list.size(), Integer::sum);
+                }
+                postings.add(list);
+            }
+            if (!postings.contains(null)) {
+                postingsBySegment.put(segment, postings);
+            }
+        }
+
+        int documentCount = Math.max(live.size(), 1);
+        double[] idf = terms.stream()
+                .mapToDouble(term -> Math.log(1 + (double) documentCount / documentFrequencies.getOrDefault(term, 1)))
+                .toArray();
+
+        postingsBySegment.forEach((segment, postings) -> intersect(segment, postings, idf, communityId, hits));
+    }
+
+    private void intersect(Segment segment, List<PostingList> postings, double[] idf, UUID communityId,
+                           TopHits hits) {
+        int shortest = 0;
+        for (int i = 1; i < postings.size(); i++) {
+            if (postings.get(i).size() < postings.get(shortest).size()) {
+                shortest = i;
+            }
+        }
+
+        int[] cursors = new int[postings.size()];
+        PostingList lead = postings.get(shortest);
+        candidates:
+        for (int i = 0; i < lead.size(); i++) {
+            int ordinal = lead.getOrdinals()[i];
+            double score = 0;
+            for (int t = 0; t < postings.size(); t++) {
+                PostingList list = postings.get(t);
+                int[] ordinals = list.getOrdinals();
+                while (cursors[t] < ordinals.length && ordinals[cursors[t]] < ordinal) {
+                    cursors[t]++;
+                }
+                if (cursors[t] == ordinals.length) {
+                    break candidates;
+                }
+                if (ordinals[cursors[t]] != ordinal) {
+                    continue candidates;
+                }
+                score += (1 + Math.log(list.getFrequencies()[cursors[t]])) * idf[t];
+            }
+            addIfLive(hits, segment, ordinal, communityId, score);
+        }
+    }
+
+    private void addIfLive(TopHits hits, Segment segment, int ordinal, UUID communityId, double score) {
+        UUID topicId = segment.topicId(ordinal);
+        if (!isLive(segment, ordinal, topicId)) {
+            return;
+        }
+        DocumentRef ref = live.get(topicId);
+        if (communityId == null || communityId.equals(ref.communityId)) {
+            hits.add(new Hit(topicId, score, ref));
+        }
+    }
+
+    /**
+     * Callers hold the write lock, or are still opening the index.
+     */
+    private void putLive(UUID topicId, DocumentRef ref) {
+        DocumentRef previous = live.put(topicId, ref);
+        if (previous != null && !Objects.equals(previous.communityId, ref.communityId)) {
+            unlistCommunityTopic(previous.communityId, topicId);
+        }
+        if (ref.communityId != null) {
+            communityTopics.computeIfAbsent(ref.communityId, id -> new HashSet<>()).add(topicId);
+        }
+    }
+
+    private boolean removeLive(UUID topicId) {
+        DocumentRef removed = live.remove(topicId);
+        if (removed == null) {
+            return false;
+        }
+        unlistCommunityTopic(removed.communityId, topicId);
+        return true;
+    }
+
+    private void unlistCommunityTopic(UUID communityId, UUID topicId) {
+        if (communityId != null) {
+            communityTopics.computeIfPresent(communityId, (id, topicIds) -> {
+                topicIds.remove(topicId);
+                return topicIds.isEmpty() ? null : topicIds;
+            });
+        }
+    }
+
+    private boolean isLive(Segment segment, int ordinal, UUID topicId) {
+        DocumentRef ref = live.get(topicId);
+        return ref != null && ref.segment == segment && ref.ordinal == ordinal;
+    }
+
+    private static Comparator<Hit> comparator(IndexSort sort, boolean ascending) {
+        Comparator<Hit> comparator = switch (sort) {
+            case RATING -> Comparator.comparingInt(hit -> hit.ref.rating.get());
+            case TITLE -> Comparator.comparing(hit -> hit.ref.title(), String.CASE_INSENSITIVE_ORDER);
+            case RELEVANCE -> Comparator.comparingDouble(hit -> hit.score);
+        };
+        if (!ascending) {
+            comparator = comparator.reversed();
+        }
+        return comparator.thenComparing(hit -> hit.topicId);
+    }
+
+    private static long generationOf(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.startsWith(MappedSegment.FILE_PREFIX) || !name.endsWith(MappedSegment.FILE_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(MappedSegment.FILE_PREFIX.length(),
+                    name.length() - MappedSegment.FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static class DocumentRef {
+
+        private final Segment segment;
+        private final int ordinal;
+        private final UUID communityId;
+        private final AtomicInteger rating;
+
+        DocumentRef(Segment segment, int ordinal, UUID communityId, int rating) {
+            this(segment, ordinal, communityId, new AtomicInteger(rating));
+        }
+
+        private DocumentRef(Segment segment, int ordinal, UUID communityId, AtomicInteger rating) {
+            this.segment = segment;
+            this.ordinal = ordinal;
+            this.communityId = communityId;
+            this.rating = rating;
+        }
+
+        DocumentRef moveTo(Segment target, int targetOrdinal) {
+            return new DocumentRef(target, targetOrdinal, communityId, rating);
+        }
+
+        String title() {
+            return segment.title(ordinal);
+        }
+
+    }
+
+    private record Hit(UUID topicId, double score, DocumentRef ref) {
+    }
+
+    /**
+     * Keeps the first {@code capacity} hits in a heap topped by the last of them, so a page costs one heap update per
+     * hit instead of sorting every hit.
+     */
+    private static class TopHits {
+
+        private final Comparator<Hit> order;
+        private final long capacity;
+        private final PriorityQueue<Hit> heap;
+        private long total;
+
+        TopHits(Comparator<Hit> order, long capacity) {
+            this.order = order;
+            this.capacity = capacity;
+            this.heap = new PriorityQueue<>(order.reversed());
+        }
+
+        void add(Hit hit) {
+            total++;
+            if (heap.size() < capacity) {
+                heap.add(hit);
+            } else if (capacity > 0 && order.compare(hit, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(hit);
+            }
+        }
+
+        List<UUID> page(long offset, int limit) {
+            List<Hit> first = new ArrayList<>(heap);
+            first.sort(order);
+            return first.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(Hit::topicId)
+                    .toList();
+        }
+
+    }
+
+}
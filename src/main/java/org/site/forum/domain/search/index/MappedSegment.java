@@ -0,0 +1,370 @@
+package org.site.forum.domain.search.index;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Immutable segment stored in one file and read through a memory mapping. Layout, all offsets in bytes:
+ * <pre>
+ * header      magic, version, generation, counts and section offsets ({@value #HEADER_SIZE} bytes)
+ * documents   topic id, community id, rating and title offset per ordinal ({@value #DOCUMENT_SIZE} bytes each)
+ * titles      length-prefixed UTF-8
+ * postings    per term: varint ordinal deltas, each followed by a varint weighted frequency
+ * terms       per term, sorted: length-prefixed UTF-8, document frequency, postings offset and length
+ * term index  offset of every term entry, for binary search
+ * tombstones  topic ids
+ * </pre>
+ */
+class MappedSegment implements Segment {
+
+    static final String FILE_PREFIX = "segment-";
+    static final String FILE_SUFFIX = ".idx";
+
+    private static final int MAGIC = 0x46534958;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int DOCUMENT_SIZE = 40;
+    private static final int TERM_ENTRY_FIXED_SIZE = 14;
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final long generation;
+    private final int documentCount;
+    private final int termCount;
+    private final int titlesOffset;
+    private final int postingsOffset;
+    private final int termsOffset;
+    private final int termIndexOffset;
+    private final Set<UUID> tombstones;
+
+    private MappedSegment(Path file, MappedByteBuffer buffer) {
+        this.file = file;
+        this.buffer = buffer;
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("Not a search index segment: " + file);
+        }
+        this.generation = buffer.getLong(8);
+        this.documentCount = buffer.getInt(16);
+        this.termCount = buffer.getInt(20);
+        int tombstoneCount = buffer.getInt(24);
+        this.titlesOffset = buffer.getInt(28);
+        this.postingsOffset = buffer.getInt(32);
+        this.termsOffset = buffer.getInt(36);
+        this.termIndexOffset = buffer.getInt(40);
+        int tombstonesOffset = buffer.getInt(44);
+
+        Set<UUID> deleted = new LinkedHashSet<>();
+        for (int i = 0; i < tombstoneCount; i++) {
+            int position = tombstonesOffset + i * 16;
+            deleted.add(new UUID(buffer.getLong(position), buffer.getLong(position + 8)));
+        }
+        this.tombstones = Collections.unmodifiableSet(deleted);
+    }
+
+    static Path fileName(Path directory, long generation) {
+        return directory.resolve(FILE_PREFIX + generation + FILE_SUFFIX);
+    }
+
+    static MappedSegment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new MappedSegment(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Writes a segment next to its final location and moves it into place, so a crash never leaves a partial
+     * segment behind under a segment file name.
+     */
+    static MappedSegment write(Path directory, long generation, List<SegmentDocument> documents,
+                               Iterable<String> sortedTerms, Function<String, PostingList> postings,
+                               Collection<UUID> tombstones) throws IOException {
+        Path target = fileName(directory, generation);
+        Path temporary = directory.resolve(target.getFileName() + ".tmp");
+
+        int[] header;
+        try (CountingOutput output = new CountingOutput(temporary)) {
+            output.skip(HEADER_SIZE);
+
+            int titlesOffset = HEADER_SIZE + documents.size() * DOCUMENT_SIZE;
+            int titlePosition = 0;
+            for (SegmentDocument document : documents) {
+                output.writeUuid(document.getTopicId());
+                output.writeUuid(document.getCommunityId());
+                output.writeInt(document.getRating());
+                output.writeInt(titlePosition);
+                titlePosition += 4 + utf8(document.getTitle()).length;
+            }
+            for (SegmentDocument document : documents) {
+                output.writeBytes(utf8(document.getTitle()));
+            }
+
+            int postingsOffset = output.position();
+            List<byte[]> termBytes = new ArrayList<>();
+            List<int[]> termEntries = new ArrayList<>();
+            for (String term : sortedTerms) {
+                PostingList list = postings.apply(term);
+                if (list == null || list.size() == 0) {
+                    continue;
+                }
+                int start = output.position();
+                int previous = 0;
+                for (int i = 0; i < list.size(); i++) {
+                    output.writeVarInt(list.getOrdinals()[i] - previous);
+                    output.writeVarInt(list.getFrequencies()[i]);
+                    previous = list.getOrdinals()[i];
+                }
+                termBytes.add(utf8(term));
+                termEntries.add(new int[]{list.size(), start - postingsOffset, output.position() - start});
+            }
+
+            int termsOffset = output.position();
+            int[] termPositions = new int[termBytes.size()];
+            for (int i = 0; i < termBytes.size(); i++) {
+                termPositions[i] = output.position() - termsOffset;
+                output.writeShort(termBytes.get(i).length);
+                output.writeRaw(termBytes.get(i));
+                output.writeInt(termEntries.get(i)[0]);
+                output.writeInt(termEntries.get(i)[1]);
+                output.writeInt(termEntries.get(i)[2]);
+            }
+
+            int termIndexOffset = output.position();
+            for (int termPosition : termPositions) {
+                output.writeInt(termPosition);
+            }
+
+            int tombstonesOffset = output.position();
+            for (UUID tombstone : tombstones) {
+                output.writeUuid(tombstone);
+            }
+
+            header = new int[]{documents.size(), termBytes.size(), tombstones.size(), titlesOffset, postingsOffset,
+                    termsOffset, termIndexOffset, tombstonesOffset};
+        }
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_SIZE);
+            headerBuffer.putInt(MAGIC).putInt(VERSION).putLong(generation);
+            for (int value : header) {
+                headerBuffer.putInt(value);
+            }
+            headerBuffer.rewind();
+            channel.write(headerBuffer, 0);
+            channel.force(true);
+        }
+
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return open(target);
+    }
+
+    void delete() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    long fileSize() {
+        return buffer.capacity();
+    }
+
+    @Override
+    public long generation() {
+        return generation;
+    }
+
+    @Override
+    public int documentCount() {
+        return documentCount;
+    }
+
+    @Override
+    public UUID topicId(int ordinal) {
+        int position = HEADER_SIZE + ordinal * DOCUMENT_SIZE;
+        return new UUID(buffer.getLong(position), buffer.getLong(position + 8));
+    }
+
+    @Override
+    public UUID communityId(int ordinal) {
+        int position = HEADER_SIZE + ordinal * DOCUMENT_SIZE + 16;
+        return new UUID(buffer.getLong(position), buffer.getLong(position + 8));
+    }
+
+    @Override
+    public int rating(int ordinal) {
+        return buffer.getInt(HEADER_SIZE + ordinal * DOCUMENT_SIZE + 32);
+    }
+
+    @Override
+    public String title(int ordinal) {
+        int position = titlesOffset + buffer.getInt(HEADER_SIZE + ordinal * DOCUMENT_SIZE + 36);
+        return readString(position + 4, buffer.getInt(position));
+    }
+
+    @Override
+    public PostingList postings(String term) {
+        int low = 0;
+        int high = termCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int entry = termEntry(middle);
+            int comparison = termAt(entry).compareTo(term);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return readPostings(entry);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Iterable<String> terms() {
+        return () -> new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < termCount;
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return termAt(termEntry(next++));
+            }
+        };
+    }
+
+    @Override
+    public Set<UUID> tombstones() {
+        return tombstones;
+    }
+
+    private int termEntry(int index) {
+        return termsOffset + buffer.getInt(termIndexOffset + index * 4);
+    }
+
+    private String termAt(int entry) {
+        return readString(entry + 2, Short.toUnsignedInt(buffer.getShort(entry)));
+    }
+
+    private PostingList readPostings(int entry) {
+        int length = Short.toUnsignedInt(buffer.getShort(entry));
+        int documentFrequency = buffer.getInt(entry + 2 + length);
+        int position = postingsOffset + buffer.getInt(entry + 6 + length);
+
+        int[] ordinals = new int[documentFrequency];
+        int[] frequencies = new int[documentFrequency];
+        int ordinal = 0;
+        for (int i = 0; i < documentFrequency; i++) {
+            int[] delta = readVarInt(position);
+            ordinal += delta[0];
+            int[] frequency = readVarInt(delta[1]);
+            ordinals[i] = ordinal;
+            frequencies[i] = frequency[0];
+            position = frequency[1];
+        }
+        return new PostingList(ordinals, frequencies);
+    }
+
+    private int[] readVarInt(int position) {
+        int value = 0;
+        int shift = 0;
+        byte current;
+        do {
+            current = buffer.get(position++);
+            value |= (current & 0x7F) << shift;
+            shift += 7;
+        } while ((current & 0x80) != 0);
+        return new int[]{value, position};
+    }
+
+    private String readString(int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] utf8(String value) {
+        return (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static class CountingOutput implements AutoCloseable {
+
+        private final DataOutputStream output;
+
+        CountingOutput(Path file) throws IOException {
+            this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        }
+
+        int position() {
+            if (output.size() == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Search index segment exceeds 2 GB");
+            }
+            return output.size();
+        }
+
+        void skip(int bytes) throws IOException {
+            output.write(new byte[bytes]);
+        }
+
+        void writeInt(int value) throws IOException {
+            output.writeInt(value);
+        }
+
+        void writeShort(int value) throws IOException {
+            output.writeShort(value);
+        }
+
+        void writeUuid(UUID value) throws IOException {
+            output.writeLong(value.getMostSignificantBits());
+            output.writeLong(value.getLeastSignificantBits());
+        }
+
+        void writeBytes(byte[] bytes) throws IOException {
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+
+        void writeRaw(byte[] bytes) throws IOException {
+            output.write(bytes);
+        }
+
+        void writeVarInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                output.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            output.writeByte(value);
+        }
+
+        @Override
+        public void close() throws IOException {
+            output.close();
+        }
+
+    }
+
+}
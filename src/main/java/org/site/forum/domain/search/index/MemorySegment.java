@@ -0,0 +1,128 @@
+package org.site.forum.domain.search.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Mutable segment collecting changes between two flushes. Callers serialize writes against reads.
+ */
+class MemorySegment implements Segment {
+
+    static final int TITLE_WEIGHT = 3;
+
+    private final List<SegmentDocument> documents = new ArrayList<>();
+    private final TreeMap<String, PostingsBuilder> postings = new TreeMap<>();
+    private final Set<UUID> tombstones = new LinkedHashSet<>();
+
+    int add(IndexedTopic topic) {
+        int ordinal = addDocument(
+                new SegmentDocument(topic.getId(), topic.getCommunityId(), topic.getRating(), topic.getTitle()));
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        TermTokenizer.tokenize(topic.getTitle()).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        TermTokenizer.tokenize(topic.getContent()).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        frequencies.forEach((term, frequency) -> addPosting(term, ordinal, frequency));
+
+        return ordinal;
+    }
+
+    int addDocument(SegmentDocument document) {
+        documents.add(document);
+        return documents.size() - 1;
+    }
+
+    /**
+     * Postings of a term must be added in ascending ordinal order.
+     */
+    void addPosting(String term, int ordinal, int frequency) {
+        postings.computeIfAbsent(term, key -> new PostingsBuilder()).add(ordinal, frequency);
+    }
+
+    void addTombstone(UUID topicId) {
+        tombstones.add(topicId);
+    }
+
+    boolean isEmpty() {
+        return documents.isEmpty() && tombstones.isEmpty();
+    }
+
+    List<SegmentDocument> documents() {
+        return documents;
+    }
+
+    @Override
+    public long generation() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int documentCount() {
+        return documents.size();
+    }
+
+    @Override
+    public UUID topicId(int ordinal) {
+        return documents.get(ordinal).getTopicId();
+    }
+
+    @Override
+    public UUID communityId(int ordinal) {
+        return documents.get(ordinal).getCommunityId();
+    }
+
+    @Override
+    public int rating(int ordinal) {
+        return documents.get(ordinal).getRating();
+    }
+
+    @Override
+    public String title(int ordinal) {
+        return documents.get(ordinal).getTitle();
+    }
+
+    @Override
+    public PostingList postings(String term) {
+        PostingsBuilder builder = postings.get(term);
+        return builder == null ? null : builder.build();
+    }
+
+    @Override
+    public Iterable<String> terms() {
+        return postings.keySet();
+    }
+
+    @Override
+    public Set<UUID> tombstones() {
+        return tombstones;
+    }
+
+    private static class PostingsBuilder {
+
+        private int[] ordinals = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int ordinal, int frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        PostingList build() {
+            return new PostingList(Arrays.copyOf(ordinals, size), Arrays.copyOf(frequencies, size));
+        }
+
+    }
+
+}
@@ -0,0 +1,20 @@
+package org.site.forum.domain.search.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Ordinals of the documents containing a term, in ascending order, with the weighted frequency of the term in each.
+ */
+@Getter
+@AllArgsConstructor
+class PostingList {
+
+    private final int[] ordinals;
+    private final int[] frequencies;
+
+    int size() {
+        return ordinals.length;
+    }
+
+}
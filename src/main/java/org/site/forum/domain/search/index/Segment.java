@@ -0,0 +1,22 @@
+package org.site.forum.domain.search.index;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A batch of indexed topics addressed by ordinal. Tombstones name topics deleted before this segment was written,
+ * they only apply to older segments.
+ */
+interface Segment {
+
+    long generation();
+    int documentCount();
+    UUID topicId(int ordinal);
+    UUID communityId(int ordinal);
+    int rating(int ordinal);
+    String title(int ordinal);
+    PostingList postings(String term);
+    Iterable<String> terms();
+    Set<UUID> tombstones();
+
+}
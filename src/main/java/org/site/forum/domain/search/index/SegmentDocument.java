@@ -0,0 +1,16 @@
+package org.site.forum.domain.search.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+class SegmentDocument {
+
+    private final UUID topicId;
+    private final UUID communityId;
+    private final int rating;
+    private final String title;
+
+}
@@ -0,0 +1,106 @@
+package org.site.forum.domain.search.index;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Live documents of several segments, numbered one source after the other. Documents and postings are read from the
+ * sources while {@link MappedSegment#write} streams them out, so a merge keeps a few ints per document in memory
+ * rather than a copy of the merged segment.
+ */
+class SegmentMerge {
+
+    private final List<? extends Segment> sources;
+    private final int[][] remapped;
+    private final int[] sourceOf;
+    private final int[] ordinalOf;
+    private final int[] ratingOf;
+    private int documentCount;
+
+    SegmentMerge(List<? extends Segment> sources) {
+        this.sources = sources;
+        this.remapped = new int[sources.size()][];
+        int capacity = 0;
+        for (int source = 0; source < sources.size(); source++) {
+            remapped[source] = new int[sources.get(source).documentCount()];
+            Arrays.fill(remapped[source], -1);
+            capacity += remapped[source].length;
+        }
+        this.sourceOf = new int[capacity];
+        this.ordinalOf = new int[capacity];
+        this.ratingOf = new int[capacity];
+    }
+
+    /**
+     * Keeps a document with its current rating. Documents must be added source by source in ascending ordinal order.
+     */
+    void add(int source, int ordinal, int rating) {
+        remapped[source][ordinal] = documentCount;
+        sourceOf[documentCount] = source;
+        ordinalOf[documentCount] = ordinal;
+        ratingOf[documentCount] = rating;
+        documentCount++;
+    }
+
+    int documentCount() {
+        return documentCount;
+    }
+
+    Segment source(int mergedOrdinal) {
+        return sources.get(sourceOf[mergedOrdinal]);
+    }
+
+    int sourceOrdinal(int mergedOrdinal) {
+        return ordinalOf[mergedOrdinal];
+    }
+
+    List<SegmentDocument> documents() {
+        return new AbstractList<>() {
+            @Override
+            public SegmentDocument get(int mergedOrdinal) {
+                Segment source = source(mergedOrdinal);
+                int ordinal = ordinalOf[mergedOrdinal];
+                return new SegmentDocument(source.topicId(ordinal), source.communityId(ordinal),
+                        ratingOf[mergedOrdinal], source.title(ordinal));
+            }
+
+            @Override
+            public int size() {
+                return documentCount;
+            }
+        };
+    }
+
+    Iterable<String> terms() {
+        TreeSet<String> terms = new TreeSet<>();
+        sources.forEach(source -> source.terms().forEach(terms::add));
+        return terms;
+    }
+
+    PostingList postings(String term) {
+        int[] ordinals = new int[0];
+        int[] frequencies = new int[0];
+        int size = 0;
+        for (int source = 0; source < sources.size(); source++) {
+            PostingList postings = sources.get(source).postings(term);
+            if (postings == null) {
+                continue;
+            }
+            ordinals = Arrays.copyOf(ordinals, size + postings.size());
+            frequencies = Arrays.copyOf(frequencies, size + postings.size());
+            for (int i = 0; i < postings.size(); i++) {
+                int ordinal = remapped[source][postings.getOrdinals()[i]];
+                if (ordinal >= 0) {
+                    ordinals[size] = ordinal;
+                    frequencies[size] = postings.getFrequencies()[i];
+                    size++;
+                }
+            }
+        }
+        return size == 0 ? null : new PostingList(Arrays.copyOf(ordinals, size), Arrays.copyOf(frequencies, size));
+    }
+
+}
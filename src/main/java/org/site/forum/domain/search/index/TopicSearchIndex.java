@@ -0,0 +1,140 @@
+package org.site.forum.domain.search.index;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.site.forum.common.AfterCommit;
+import org.site.forum.domain.search.dao.TopicSearchDao;
+import org.site.forum.domain.topic.entity.Topic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.site.forum.common.constant.SearchConstant.SEARCH_ENGINE_INDEX;
+
+/**
+ * Keeps the embedded {@link InvertedIndex} in step with topic writes when {@code forum.search.engine} is
+ * {@value org.site.forum.common.constant.SearchConstant#SEARCH_ENGINE_INDEX}, and does nothing otherwise. Changes
+ * made inside a transaction are applied after commit, so a rolled back write never becomes searchable.
+ */
+@Component
+public class TopicSearchIndex {
+
+    public static final String DOCUMENTS_METRIC = "forum.search.index.documents";
+    public static final String SEGMENTS_METRIC = "forum.search.index.segments";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int maxBufferedDocuments;
+    private final int maxSegments;
+    private final int rebuildSegmentSize;
+    private final TopicSearchDao topicSearchDao;
+    private final MeterRegistry meterRegistry;
+    private volatile InvertedIndex index;
+
+    public TopicSearchIndex(@Value("${forum.search.engine}") String engine,
+                            @Value("${forum.search.index.directory}") String directory,
+                            @Value("${forum.search.index.max-buffered-documents}") int maxBufferedDocuments,
+                            @Value("${forum.search.index.max-segments}") int maxSegments,
+                            @Value("${forum.search.index.rebuild-segment-size}") int rebuildSegmentSize,
+                            TopicSearchDao topicSearchDao,
+                            MeterRegistry meterRegistry) {
+        this.enabled = SEARCH_ENGINE_INDEX.equals(engine);
+        this.directory = Path.of(directory);
+        this.maxBufferedDocuments = maxBufferedDocuments;
+        this.maxSegments = maxSegments;
+        this.rebuildSegmentSize = rebuildSegmentSize;
+        this.topicSearchDao = topicSearchDao;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Opens the index left by the previous run, or builds it from the database on first start. Ratings are not
+     * persisted with every vote, so they are refreshed from the database either way.
+     */
+    @PostConstruct
+    public void open() {
+        if (!enabled) {
+            return;
+        }
+
+        index = InvertedIndex.open(directory);
+        if (index.size() == 0) {
+            rebuild();
+        } else {
+            topicSearchDao.streamRatings(index::setRating);
+        }
+
+        Gauge.builder(DOCUMENTS_METRIC, index, InvertedIndex::size)
+                .description("Topics in the search index")
+                .register(meterRegistry);
+        Gauge.builder(SEGMENTS_METRIC, index, InvertedIndex::segmentCount)
+                .description("Segment files of the search index")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void index(Topic topic) {
+        if (!enabled) {
+            return;
+        }
+
+        IndexedTopic indexed = new IndexedTopic(topic.getId(),
+                topic.getCommunity() != null ? topic.getCommunity().getId() : null,
+                topic.getTitle(), topic.getContent(), topic.getRating() != null ? topic.getRating() : 0);
+        AfterCommit.run(() -> {
+            index.upsert(indexed);
+            if (index.bufferedDocuments() >= maxBufferedDocuments) {
+                index.tryFlush();
+            }
+        });
+    }
+
+    public void remove(UUID topicId) {
+        if (enabled) {
+            AfterCommit.run(() -> index.remove(topicId));
+        }
+    }
+
+    public void adjustRating(UUID topicId, int delta) {
+        if (enabled) {
+            AfterCommit.run(() -> index.adjustRating(topicId, delta));
+        }
+    }
+
+    public IndexSearchResult search(UUID communityId, String search, IndexSort sort, boolean ascending,
+                                    long offset, int limit) {
+        return index.search(communityId, search, sort, ascending, offset, limit);
+    }
+
+    public void flush() {
+        if (enabled) {
+            index.flush();
+        }
+    }
+
+    public void merge() {
+        if (enabled) {
+            index.mergeIfNeeded(maxSegments);
+        }
+    }
+
+    public void rebuild() {
+        if (enabled) {
+            index.rebuild(topicSearchDao::streamIndexedTopics, rebuildSegmentSize);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (enabled) {
+            index.close();
+        }
+    }
+
+}
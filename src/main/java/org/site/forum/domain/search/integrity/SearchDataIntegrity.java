@@ -1,6 +1,7 @@
 package org.site.forum.domain.search.integrity;
 
 import org.site.forum.domain.search.entity.TopicSearchCriteria;
+import java.util.UUID;
 
 public interface SearchDataIntegrity {
 
@@ -8,6 +9,11 @@ public interface SearchDataIntegrity {
     String validateSortDirection(String sortDirection);
     int validateOffset(Integer offset);
     int validateLimit(Integer limit);
+    int validateSuggestLimit(Integer limit);
+    void validateCommunityExists(UUID communityId);
+    String validateSearchMode(String mode);
+    double validateSimilarityThreshold(Double similarityThreshold);
+    String validateTotalMode(String totalMode);
     TopicSearchCriteria validateAndNormalizeSearchCriteria(TopicSearchCriteria criteria);
 
 }
@@ -1,10 +1,15 @@
 package org.site.forum.domain.search.integrity;
 
 import lombok.RequiredArgsConstructor;
+import org.site.forum.common.exception.CommunityNotFoundException;
+import org.site.forum.common.exception.InvalidSearchModeException;
 import org.site.forum.common.exception.InvalidSortDirectionException;
 import org.site.forum.common.exception.InvalidSortFieldException;
+import org.site.forum.common.exception.InvalidTotalModeException;
+import org.site.forum.domain.community.repository.CommunityRepository;
 import org.site.forum.domain.search.entity.TopicSearchCriteria;
 import org.springframework.stereotype.Service;
+import java.util.UUID;
 
 import static org.site.forum.common.constant.SearchConstant.*;
 
@@ -12,6 +17,8 @@ import static org.site.forum.common.constant.SearchConstant.*;
 @RequiredArgsConstructor
 public class SearchDataIntegrityImpl implements SearchDataIntegrity {
 
+    private final CommunityRepository communityRepository;
+
     @Override
     public String validateSortBy(String sortBy) {
         if (sortBy == null) {
@@ -56,14 +63,82 @@ public class SearchDataIntegrityImpl implements SearchDataIntegrity {
         return normalizedLimit;
     }
 
+    @Override
+    public int validateSuggestLimit(Integer limit) {
+        int normalizedLimit = (limit == null) ? DEFAULT_SUGGEST_LIMIT : limit;
+        if (normalizedLimit <= 0 || normalizedLimit > MAX_SUGGEST_LIMIT) {
+            throw new IllegalArgumentException(ERROR_INVALID_SUGGEST_LIMIT);
+        }
+        return normalizedLimit;
+    }
+
+    @Override
+    public void validateCommunityExists(UUID communityId) {
+        if (communityId == null || !communityRepository.existsById(communityId)) {
+            throw new CommunityNotFoundException(ERROR_COMMUNITY_NOT_FOUND);
+        }
+    }
+
+    @Override
+    public String validateSearchMode(String mode) {
+        if (mode == null) {
+            return DEFAULT_SEARCH_MODE;
+        }
+
+        String normalizedMode = mode.toLowerCase();
+        if (!ALLOWED_SEARCH_MODES.contains(normalizedMode)) {
+            throw new InvalidSearchModeException(mode, ALLOWED_SEARCH_MODES);
+        }
+        return normalizedMode;
+    }
+
+    @Override
+    public double validateSimilarityThreshold(Double similarityThreshold) {
+        double normalizedThreshold = (similarityThreshold == null) ? DEFAULT_SIMILARITY_THRESHOLD : similarityThreshold;
+        if (!(normalizedThreshold > 0 && normalizedThreshold <= 1)) {
+            throw new IllegalArgumentException(ERROR_INVALID_SIMILARITY_THRESHOLD);
+        }
+        return normalizedThreshold;
+    }
+
+    @Override
+    public String validateTotalMode(String totalMode) {
+        if (totalMode == null) {
+            return DEFAULT_TOTAL_MODE;
+        }
+
+        String normalizedTotalMode = totalMode.toLowerCase();
+        if (!ALLOWED_TOTAL_MODES.contains(normalizedTotalMode)) {
+            throw new InvalidTotalModeException(totalMode, ALLOWED_TOTAL_MODES);
+        }
+        return normalizedTotalMode;
+    }
+
     @Override
     public TopicSearchCriteria validateAndNormalizeSearchCriteria(TopicSearchCriteria criteria) {
+        String mode = validateSearchMode(criteria.getMode());
+        boolean similarityOrdered = SEARCH_MODE_FUZZY.equals(mode) && criteria.getSortBy() == null;
+
+        String sortBy = similarityOrdered ? SORT_BY_SIMILARITY : validateSortBy(criteria.getSortBy());
+        if (!SORT_FIELDS_BY_SEARCH_MODE.get(mode).contains(sortBy)) {
+            throw new InvalidSortFieldException(sortBy, SORT_FIELDS_BY_SEARCH_MODE.get(mode));
+        }
+
+        String sortDirection = RANKED_SORT_FIELDS.contains(sortBy) && criteria.getSortDirection() == null
+                ? DEFAULT_RANKED_SORT_DIRECTION
+                : validateSortDirection(criteria.getSortDirection());
+
         return TopicSearchCriteria.builder()
                 .search(criteria.getSearch())
                 .offset(validateOffset(criteria.getOffset()))
                 .limit(validateLimit(criteria.getLimit()))
-                .sortBy(validateSortBy(criteria.getSortBy()))
-                .sortDirection(validateSortDirection(criteria.getSortDirection()))
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .mode(mode)
+                .similarityThreshold(SEARCH_MODE_FUZZY.equals(mode)
+                        ? validateSimilarityThreshold(criteria.getSimilarityThreshold())
+                        : null)
+                .totalMode(validateTotalMode(criteria.getTotalMode()))
                 .build();
     }
 
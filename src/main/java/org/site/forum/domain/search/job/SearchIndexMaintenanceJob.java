@@ -0,0 +1,30 @@
+package org.site.forum.domain.search.job;
+
+import lombok.RequiredArgsConstructor;
+import org.site.forum.domain.search.index.TopicSearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static org.site.forum.common.constant.SearchConstant.SEARCH_ENGINE_INDEX;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "forum.search.engine", havingValue = SEARCH_ENGINE_INDEX)
+public class SearchIndexMaintenanceJob {
+
+    private final TopicSearchIndex topicSearchIndex;
+
+    @Scheduled(fixedDelayString = "${forum.search.index.flush-interval}",
+            initialDelayString = "${forum.search.index.flush-interval}")
+    public void flush() {
+        topicSearchIndex.flush();
+    }
+
+    @Scheduled(fixedDelayString = "${forum.search.index.merge-interval}",
+            initialDelayString = "${forum.search.index.merge-interval}")
+    public void merge() {
+        topicSearchIndex.merge();
+    }
+
+}
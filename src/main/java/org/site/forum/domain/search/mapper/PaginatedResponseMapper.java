@@ -2,13 +2,18 @@ package org.site.forum.domain.search.mapper;
 
 import lombok.AllArgsConstructor;
 import org.site.forum.domain.file.dao.FileDao;
+import org.site.forum.domain.file.dto.projection.FileRow;
 import org.site.forum.domain.search.dto.response.PaginatedResponseDto;
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
 import org.site.forum.domain.topic.dto.response.TopicResponseDto;
-import org.site.forum.domain.topic.entity.Topic;
 import org.site.forum.domain.topic.mapper.TopicMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.site.forum.common.constant.SearchConstant.TOTAL_EXACT;
 
 @Component
 @AllArgsConstructor
@@ -17,19 +22,23 @@ public class PaginatedResponseMapper {
     private final TopicMapper topicMapper;
     private final FileDao fileDao;
 
-    public PaginatedResponseDto toDto(Page<Topic> topicPage) {
+    public PaginatedResponseDto toDto(Page<TopicSummary> topicPage) {
+        return toDto(topicPage, TOTAL_EXACT);
+    }
+
+    public PaginatedResponseDto toDto(Page<TopicSummary> topicPage, String totalMode) {
         List<TopicResponseDto> items = mapTopicsToResponseDto(topicPage);
-        return new PaginatedResponseDto(items, topicPage.getNumber(), topicPage.getTotalPages(), topicPage.getTotalElements());
+        return new PaginatedResponseDto(items, topicPage.getNumber(), topicPage.getTotalPages(),
+                topicPage.getTotalElements(), totalMode);
     }
 
-    private List<TopicResponseDto> mapTopicsToResponseDto(Page<Topic> topicPage) {
+    private List<TopicResponseDto> mapTopicsToResponseDto(Page<TopicSummary> topicPage) {
+        Map<UUID, List<FileRow>> filesByTopicId = fileDao.findFilesByTopicIds(
+                topicPage.getContent().stream().map(TopicSummary::getId).toList());
+
         return topicPage.getContent().stream()
-                .map(this::mapTopicToResponseDto)
+                .map(topic -> topicMapper.toSummaryDto(topic, filesByTopicId.getOrDefault(topic.getId(), List.of())))
                 .toList();
     }
 
-    private TopicResponseDto mapTopicToResponseDto(Topic topic) {
-        return topicMapper.toDto(topic, fileDao.findFilesByTopicId(topic.getId()));
-    }
-
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package org.site.forum.domain.search.mapper;
+
+import org.site.forum.domain.search.dto.response.TopicSuggestionDto;
+import org.site.forum.domain.search.suggest.Suggestion;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SuggestionMapper {
+
+    public TopicSuggestionDto toDto(Suggestion suggestion) {
+        return new TopicSuggestionDto(suggestion.getTopicId(), suggestion.getTitle(), suggestion.getRating());
+    }
+
+}
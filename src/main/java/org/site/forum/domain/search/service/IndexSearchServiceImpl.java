@@ -0,0 +1,68 @@
+package org.site.forum.domain.search.service;
+
+import lombok.RequiredArgsConstructor;
+import org.site.forum.common.exception.InvalidSortFieldException;
+import org.site.forum.domain.search.dao.TopicSearchDao;
+import org.site.forum.domain.search.dto.response.PaginatedResponseDto;
+import org.site.forum.domain.search.entity.TopicSearchCriteria;
+import org.site.forum.domain.search.index.IndexSearchResult;
+import org.site.forum.domain.search.index.IndexSort;
+import org.site.forum.domain.search.index.TopicSearchIndex;
+import org.site.forum.domain.search.integrity.SearchDataIntegrity;
+import org.site.forum.domain.search.mapper.PaginatedResponseMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.site.forum.common.constant.SearchConstant.INDEX_SORT_FIELDS;
+import static org.site.forum.common.constant.SearchConstant.SEARCH_ENGINE_INDEX;
+import static org.site.forum.common.constant.SearchConstant.SORT_BY_HOT;
+import static org.site.forum.common.constant.SearchConstant.SORT_BY_RANK;
+import static org.site.forum.common.constant.SearchConstant.SORT_BY_SIMILARITY;
+
+/**
+ * Answers searches from the embedded index instead of the database. Every mode matches whole words and ranks by
+ * the index's own relevance score, only the page of topics is loaded from the database.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "forum.search.engine", havingValue = SEARCH_ENGINE_INDEX)
+public class IndexSearchServiceImpl implements SearchService {
+
+    private final TopicSearchIndex topicSearchIndex;
+    private final TopicSearchDao topicSearchDao;
+    private final PaginatedResponseMapper paginatedResponseMapper;
+    private final SearchDataIntegrity searchDataIntegrity;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponseDto searchTopics(UUID communityId, TopicSearchCriteria criteria) {
+        criteria = searchDataIntegrity.validateAndNormalizeSearchCriteria(criteria);
+
+        Sort.Direction direction = Sort.Direction.fromString(criteria.getSortDirection());
+        IndexSearchResult result = topicSearchIndex.search(communityId, criteria.getSearch(),
+                toIndexSort(criteria.getSortBy()), direction.isAscending(),
+                (long) criteria.getOffset() * criteria.getLimit(), criteria.getLimit());
+
+        PageRequest pageable = PageRequest.of(criteria.getOffset(), criteria.getLimit(),
+                Sort.by(direction, criteria.getSortBy()));
+        return paginatedResponseMapper.toDto(new PageImpl<>(topicSearchDao.findAllInOrder(result.getTopicIds()),
+                pageable, result.getTotalHits()));
+    }
+
+    private IndexSort toIndexSort(String sortBy) {
+        return switch (sortBy) {
+            case SORT_BY_RANK, SORT_BY_SIMILARITY -> IndexSort.RELEVANCE;
+            case "title" -> IndexSort.TITLE;
+            // Hotness lives in a database column, the index only keeps ratings.
+            case SORT_BY_HOT -> throw new InvalidSortFieldException(sortBy, INDEX_SORT_FIELDS);
+            default -> IndexSort.RATING;
+        };
+    }
+
+}
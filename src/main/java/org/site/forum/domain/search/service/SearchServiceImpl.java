@@ -1,34 +1,69 @@
 package org.site.forum.domain.search.service;
 
-import lombok.RequiredArgsConstructor;
+import org.site.forum.domain.search.cache.SearchCountCache;
+import org.site.forum.domain.search.cache.SearchCountKey;
+import org.site.forum.domain.search.cache.SearchResultCache;
+import org.site.forum.domain.search.dao.TopicSearchDao;
 import org.site.forum.domain.search.dto.response.PaginatedResponseDto;
+import org.site.forum.domain.search.entity.SearchTotal;
 import org.site.forum.domain.search.entity.TopicSearchCriteria;
 import org.site.forum.domain.search.integrity.SearchDataIntegrity;
 import org.site.forum.domain.search.mapper.PaginatedResponseMapper;
-import org.site.forum.domain.search.util.TopicSpecification;
-import org.site.forum.domain.topic.entity.Topic;
-import org.site.forum.domain.topic.repository.TopicRepository;
-import org.springframework.data.domain.Page;
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
 import java.util.UUID;
 
+import static org.site.forum.common.constant.SearchConstant.MAX_COUNTED_TOTAL;
+import static org.site.forum.common.constant.SearchConstant.SEARCH_ENGINE_DATABASE;
+import static org.site.forum.common.constant.SearchConstant.SEARCH_MODE_FULL_TEXT;
+import static org.site.forum.common.constant.SearchConstant.SEARCH_MODE_FUZZY;
+import static org.site.forum.common.constant.SearchConstant.TOTAL_CAPPED;
+import static org.site.forum.common.constant.SearchConstant.TOTAL_ESTIMATED;
+import static org.site.forum.common.constant.SearchConstant.TOTAL_EXACT;
+
 @Service
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "forum.search.engine", havingValue = SEARCH_ENGINE_DATABASE, matchIfMissing = true)
 public class SearchServiceImpl implements SearchService {
-    private final TopicRepository topicRepository;
     private final PaginatedResponseMapper paginatedResponseMapper;
-    private final TopicSpecification topicSpecification;
     private final SearchDataIntegrity searchDataIntegrity;
+    private final TopicSearchDao topicSearchDao;
+    private final SearchCountCache searchCountCache;
+    private final SearchResultCache searchResultCache;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public SearchServiceImpl(PaginatedResponseMapper paginatedResponseMapper, SearchDataIntegrity searchDataIntegrity,
+                             TopicSearchDao topicSearchDao, SearchCountCache searchCountCache,
+                             SearchResultCache searchResultCache, PlatformTransactionManager transactionManager) {
+        this.paginatedResponseMapper = paginatedResponseMapper;
+        this.searchDataIntegrity = searchDataIntegrity;
+        this.topicSearchDao = topicSearchDao;
+        this.searchCountCache = searchCountCache;
+        this.searchResultCache = searchResultCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
+    /**
+     * Only a cache miss opens a transaction, a cached response is returned without taking a connection.
+     */
     @Override
     public PaginatedResponseDto searchTopics(UUID communityId, TopicSearchCriteria criteria) {
-        criteria = searchDataIntegrity.validateAndNormalizeSearchCriteria(criteria);
+        TopicSearchCriteria normalized = searchDataIntegrity.validateAndNormalizeSearchCriteria(criteria);
 
+        return searchResultCache.get(communityId, normalized,
+                () -> readOnlyTransaction.execute(status -> loadTopics(communityId, normalized)));
+    }
+
+    private PaginatedResponseDto loadTopics(UUID communityId, TopicSearchCriteria criteria) {
         Pageable pageable = createPageable(
                 criteria.getOffset(),
                 criteria.getLimit(),
@@ -36,22 +71,53 @@ public class SearchServiceImpl implements SearchService {
                 criteria.getSortDirection()
         );
 
-        Specification<Topic> specification = topicSpecification.withCriteria(criteria);
+        List<TopicSummary> topics = findTopics(communityId, criteria, pageable);
+        SearchTotal total = resolveTotal(communityId, criteria, pageable, topics);
+
+        return paginatedResponseMapper.toDto(new PageImpl<>(topics, pageable, total.getCount()), total.getTotalMode());
+    }
 
-        if (communityId != null) {
-            specification = specification.and((root, query, cb) ->
-                    cb.equal(root.get("community").get("id"), communityId));
+    private List<TopicSummary> findTopics(UUID communityId, TopicSearchCriteria criteria, Pageable pageable) {
+        if (SEARCH_MODE_FULL_TEXT.equals(criteria.getMode())) {
+            return topicSearchDao.findByFullText(communityId, criteria.getSearch(), pageable);
+        }
+        if (SEARCH_MODE_FUZZY.equals(criteria.getMode())) {
+            return topicSearchDao.findBySimilarity(
+                    communityId, criteria.getSearch(), criteria.getSimilarityThreshold(), pageable);
         }
 
-        Page<Topic> topicPage = topicRepository.findAll(specification, pageable);
+        return topicSearchDao.findByLike(communityId, criteria.getSearch(), pageable);
+    }
+
+    /**
+     * A short page tells the total without counting. Otherwise the total comes from the count cache, so that
+     * paging through the same search counts once per cache lifetime.
+     */
+    private SearchTotal resolveTotal(UUID communityId, TopicSearchCriteria criteria, Pageable pageable,
+                                     List<TopicSummary> topics) {
+        if (topics.size() < pageable.getPageSize() && (pageable.getOffset() == 0 || !topics.isEmpty())) {
+            return new SearchTotal(pageable.getOffset() + topics.size(), TOTAL_EXACT);
+        }
 
-        return paginatedResponseMapper.toDto(topicPage);
+        return searchCountCache.get(SearchCountKey.of(communityId, criteria), () -> countTopics(communityId, criteria));
     }
 
+    private SearchTotal countTopics(UUID communityId, TopicSearchCriteria criteria) {
+        return switch (criteria.getTotalMode()) {
+            case TOTAL_ESTIMATED -> new SearchTotal(topicSearchDao.estimateMatches(communityId, criteria), TOTAL_ESTIMATED);
+            case TOTAL_CAPPED -> {
+                long count = topicSearchDao.countMatchesUpTo(communityId, criteria, MAX_COUNTED_TOTAL + 1);
+                yield count > MAX_COUNTED_TOTAL
+                        ? new SearchTotal(MAX_COUNTED_TOTAL, TOTAL_CAPPED)
+                        : new SearchTotal(count, TOTAL_EXACT);
+            }
+            default -> new SearchTotal(topicSearchDao.countMatches(communityId, criteria), TOTAL_EXACT);
+        };
+    }
 
     private Pageable createPageable(int offset, int limit, String sortBy, String sortOrder) {
         Sort.Direction direction = Sort.Direction.fromString(sortOrder);
         return PageRequest.of(offset, limit, Sort.by(direction, sortBy));
     }
 
-}
\ No newline at end of file
+}
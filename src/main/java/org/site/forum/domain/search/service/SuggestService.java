@@ -0,0 +1,12 @@
+package org.site.forum.domain.search.service;
+
+import org.site.forum.domain.search.dto.response.TopicSuggestionDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface SuggestService {
+
+    List<TopicSuggestionDto> suggestTopics(UUID communityId, String prefix, Integer limit);
+
+}
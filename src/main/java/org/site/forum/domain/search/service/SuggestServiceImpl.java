@@ -0,0 +1,34 @@
+package org.site.forum.domain.search.service;
+
+import lombok.RequiredArgsConstructor;
+import org.site.forum.domain.search.dto.response.TopicSuggestionDto;
+import org.site.forum.domain.search.integrity.SearchDataIntegrity;
+import org.site.forum.domain.search.mapper.SuggestionMapper;
+import org.site.forum.domain.search.suggest.TopicSuggestIndex;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class SuggestServiceImpl implements SuggestService {
+
+    private final TopicSuggestIndex topicSuggestIndex;
+    private final SuggestionMapper suggestionMapper;
+    private final SearchDataIntegrity searchDataIntegrity;
+
+    @Override
+    public List<TopicSuggestionDto> suggestTopics(UUID communityId, String prefix, Integer limit) {
+        int normalizedLimit = searchDataIntegrity.validateSuggestLimit(limit);
+        // A cached trie was loaded for an existing community, so only the first request of a community is checked.
+        if (!topicSuggestIndex.isCached(communityId)) {
+            searchDataIntegrity.validateCommunityExists(communityId);
+        }
+
+        return topicSuggestIndex.suggest(communityId, prefix, normalizedLimit).stream()
+                .map(suggestionMapper::toDto)
+                .toList();
+    }
+
+}
@@ -0,0 +1,15 @@
+package org.site.forum.domain.search.suggest;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class Suggestion {
+
+    private final UUID topicId;
+    private final String title;
+    private final int rating;
+
+}
@@ -0,0 +1,330 @@
+package org.site.forum.domain.search.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Trie of the topic titles of one community. Every title is inserted once per word, starting at that word, so a
+ * prefix matches the beginning of any word. Each node remembers the highest rating below it, which lets
+ * {@link #suggest(String, int)} walk the best branches first and stop after {@code limit} topics instead of
+ * collecting every completion.
+ */
+class TitleTrie {
+
+    static final int MAX_KEY_LENGTH = 100;
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<UUID, Suggestion> topics = new HashMap<>();
+    private Set<UUID> removedWhileLoading = new HashSet<>();
+    private volatile boolean loaded;
+
+    /**
+     * Fills the trie from {@code source} once. Changes applied while loading win over the loaded rows, which may
+     * have been read before those changes were committed.
+     */
+    void loadOnce(Consumer<Consumer<Suggestion>> source) {
+        if (loaded) {
+            return;
+        }
+
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            source.accept(this::addIfAbsent);
+
+            lock.writeLock().lock();
+            try {
+                removedWhileLoading = null;
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    void put(Suggestion suggestion) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(suggestion.getTopicId());
+            addLocked(suggestion);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(UUID topicId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(topicId);
+            if (removedWhileLoading != null) {
+                removedWhileLoading.add(topicId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void adjustRating(UUID topicId, int delta) {
+        lock.writeLock().lock();
+        try {
+            Suggestion current = topics.get(topicId);
+            if (current != null) {
+                removeLocked(topicId);
+                addLocked(new Suggestion(topicId, current.getTitle(), current.getRating() + delta));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} distinct topics with a word starting with {@code prefix}, highest rated first.
+     */
+    List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            return collectBest(node, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = SEPARATOR.matcher(text.toLowerCase(Locale.ROOT)).replaceAll(" ").stripLeading();
+        return normalized.length() > MAX_KEY_LENGTH ? normalized.substring(0, MAX_KEY_LENGTH) : normalized;
+    }
+
+    private void addIfAbsent(Suggestion suggestion) {
+        lock.writeLock().lock();
+        try {
+            if (!topics.containsKey(suggestion.getTopicId())
+                    && !removedWhileLoading.contains(suggestion.getTopicId())) {
+                addLocked(suggestion);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addLocked(Suggestion suggestion) {
+        topics.put(suggestion.getTopicId(), suggestion);
+        for (String key : keys(suggestion.getTitle())) {
+            List<Node> path = path(key, true);
+            Node last = path.get(path.size() - 1);
+            if (last.entries == null) {
+                last.entries = new HashMap<>();
+            }
+            last.entries.put(suggestion.getTopicId(), suggestion);
+            refreshBest(path);
+        }
+    }
+
+    private void removeLocked(UUID topicId) {
+        Suggestion removed = topics.remove(topicId);
+        if (removed == null) {
+            return;
+        }
+
+        for (String key : keys(removed.getTitle())) {
+            List<Node> path = path(key, false);
+            if (path.size() != key.length() + 1) {
+                continue;
+            }
+            Node last = path.get(path.size() - 1);
+            if (last.entries != null) {
+                last.entries.remove(topicId);
+                if (last.entries.isEmpty()) {
+                    last.entries = null;
+                }
+            }
+            prune(path, key);
+            refreshBest(path);
+        }
+    }
+
+    /**
+     * The nodes from the root along {@code key}, stopping early when a node is missing and {@code create} is false.
+     */
+    private List<Node> path(String key, boolean create) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                if (!create) {
+                    break;
+                }
+                child = node.addChild(key.charAt(i));
+            }
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    private void prune(List<Node> path, String key) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            if (node.entries != null || node.keys.length > 0) {
+                return;
+            }
+            path.get(i - 1).removeChild(key.charAt(i - 1));
+            path.remove(i);
+        }
+    }
+
+    private void refreshBest(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            path.get(i).refreshBest();
+        }
+    }
+
+    private List<Suggestion> collectBest(Node start, int limit) {
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(Comparator.comparingInt(Candidate::weight).reversed()
+                .thenComparing(candidate -> candidate.suggestion == null)
+                .thenComparing(candidate -> candidate.suggestion == null ? "" : candidate.suggestion.getTitle()));
+        queue.add(new Candidate(start.best, start, null));
+
+        Set<UUID> seen = new LinkedHashSet<>();
+        List<Suggestion> suggestions = new ArrayList<>();
+        while (!queue.isEmpty() && suggestions.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.suggestion != null) {
+                if (seen.add(candidate.suggestion.getTopicId())) {
+                    suggestions.add(candidate.suggestion);
+                }
+                continue;
+            }
+
+            Node node = candidate.node;
+            if (node.entries != null) {
+                node.entries.values().forEach(entry -> queue.add(new Candidate(entry.getRating(), null, entry)));
+            }
+            for (Node child : node.children) {
+                queue.add(new Candidate(child.best, child, null));
+            }
+        }
+        return suggestions;
+    }
+
+    private static Set<String> keys(String title) {
+        String normalized = normalize(title);
+        Set<String> keys = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                keys.add(normalized.substring(i).stripTrailing());
+            }
+        }
+        keys.remove("");
+        return keys;
+    }
+
+    private record Candidate(int weight, Node node, Suggestion suggestion) {
+    }
+
+    /**
+     * Children are kept in sorted parallel arrays rather than maps, a node rarely has more than a few.
+     */
+    private static class Node {
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private Map<UUID, Suggestion> entries;
+        private int best = Integer.MIN_VALUE;
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node addChild(char key) {
+            int insertion = -Arrays.binarySearch(keys, key) - 1;
+            Node child = new Node();
+
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertion);
+            System.arraycopy(children, 0, newChildren, 0, insertion);
+            newKeys[insertion] = key;
+            newChildren[insertion] = child;
+            System.arraycopy(keys, insertion, newKeys, insertion + 1, keys.length - insertion);
+            System.arraycopy(children, insertion, newChildren, insertion + 1, children.length - insertion);
+
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index < 0) {
+                return;
+            }
+
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+
+            keys = newKeys;
+            children = newChildren;
+        }
+
+        void refreshBest() {
+            int max = Integer.MIN_VALUE;
+            if (entries != null) {
+                for (Suggestion entry : entries.values()) {
+                    max = Math.max(max, entry.getRating());
+                }
+            }
+            for (Node child : children) {
+                max = Math.max(max, child.best);
+            }
+            best = max;
+        }
+
+    }
+
+}
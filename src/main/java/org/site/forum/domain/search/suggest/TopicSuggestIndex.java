@@ -0,0 +1,122 @@
+package org.site.forum.domain.search.suggest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.site.forum.common.AfterCommit;
+import org.site.forum.domain.search.dao.TopicSearchDao;
+import org.site.forum.domain.topic.entity.Topic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * In-memory title tries for search-as-you-type, one per community. A community's trie is loaded from the
+ * database on its first suggestion request and kept up to date by topic and rating changes afterwards, which are
+ * applied after commit. At most {@code forum.search.suggest.maximum-communities} tries are kept, and a trie nobody
+ * asked for within {@code forum.search.suggest.idle-timeout} is dropped. The community of every topic in a loaded
+ * trie is remembered, so a change touches only the trie holding the topic.
+ */
+@Component
+public class TopicSuggestIndex {
+
+    private final TopicSearchDao topicSearchDao;
+    private final Cache<UUID, TitleTrie> tries;
+    private final Map<UUID, UUID> topicCommunities = new ConcurrentHashMap<>();
+
+    public TopicSuggestIndex(@Value("${forum.search.suggest.maximum-communities}") long maximumCommunities,
+                             @Value("${forum.search.suggest.idle-timeout}") Duration idleTimeout,
+                             TopicSearchDao topicSearchDao) {
+        this.topicSearchDao = topicSearchDao;
+        this.tries = Caffeine.newBuilder()
+                .maximumSize(maximumCommunities)
+                .expireAfterAccess(idleTimeout)
+                .<UUID, TitleTrie>evictionListener((communityId, trie, cause) ->
+                        topicCommunities.values().removeIf(communityId::equals))
+                .build();
+    }
+
+    public boolean isCached(UUID communityId) {
+        return tries.getIfPresent(communityId) != null;
+    }
+
+    public List<Suggestion> suggest(UUID communityId, String prefix, int limit) {
+        TitleTrie trie = tries.get(communityId, id -> new TitleTrie());
+        trie.loadOnce(consumer -> topicSearchDao.streamIndexedTitles(communityId, topic -> {
+            topicCommunities.put(topic.getId(), communityId);
+            consumer.accept(new Suggestion(topic.getId(), topic.getTitle(), topic.getRating()));
+        }));
+
+        return trie.suggest(prefix, limit);
+    }
+
+    /**
+     * Tries that are not loaded yet are skipped, they will read the committed title when they load.
+     */
+    public void index(Topic topic) {
+        if (topic.getCommunity() == null) {
+            return;
+        }
+
+        UUID communityId = topic.getCommunity().getId();
+        Suggestion suggestion = new Suggestion(topic.getId(), topic.getTitle(),
+                topic.getRating() != null ? topic.getRating() : 0);
+        AfterCommit.run(() -> {
+            UUID previous = topicCommunities.get(topic.getId());
+            if (previous != null && !previous.equals(communityId)) {
+                topicCommunities.remove(topic.getId(), previous);
+                ifCached(previous, trie -> trie.remove(topic.getId()));
+            }
+            ifCached(communityId, trie -> {
+                trie.put(suggestion);
+                topicCommunities.put(topic.getId(), communityId);
+            });
+        });
+    }
+
+    public void remove(UUID topicId) {
+        AfterCommit.run(() -> {
+            List<TitleTrie> loading = loadingTries();
+            UUID communityId = topicCommunities.remove(topicId);
+            applyToTrieOf(communityId, loading, trie -> trie.remove(topicId));
+        });
+    }
+
+    public void adjustRating(UUID topicId, int delta) {
+        AfterCommit.run(() -> {
+            List<TitleTrie> loading = loadingTries();
+            UUID communityId = topicCommunities.get(topicId);
+            applyToTrieOf(communityId, loading, trie -> trie.adjustRating(topicId, delta));
+        });
+    }
+
+    private void ifCached(UUID communityId, Consumer<TitleTrie> change) {
+        TitleTrie trie = tries.getIfPresent(communityId);
+        if (trie != null) {
+            change.accept(trie);
+        }
+    }
+
+    /**
+     * A topic with no known community can still be on its way into a trie that is loading. The loading tries are
+     * taken before the lookup, so a trie that registers the topic after it has not finished loading yet.
+     */
+    private void applyToTrieOf(UUID communityId, List<TitleTrie> loading, Consumer<TitleTrie> change) {
+        if (communityId != null) {
+            ifCached(communityId, change);
+        } else {
+            loading.forEach(change);
+        }
+    }
+
+    private List<TitleTrie> loadingTries() {
+        return tries.asMap().values().stream()
+                .filter(trie -> !trie.isLoaded())
+                .toList();
+    }
+
+}
@@ -0,0 +1,80 @@
+package org.site.forum.domain.topic.buffer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.site.forum.common.HyperLogLog;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-topic {@link HyperLogLog} sketches of the readers seen since the last flush by
+ * {@link org.site.forum.domain.topic.job.TopicViewFlushJob}. Uses the same lock swap as {@link TopicViewBuffer};
+ * updates of one sketch are serialized on the sketch itself. Sketches start sparse, so a topic with a handful of
+ * readers in an interval costs a few bytes rather than 4 KB of dense registers.
+ */
+@Component
+public class TopicReaderBuffer {
+
+    public static final String DEPTH_METRIC = "forum.topics.readers.buffer.depth";
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Map<UUID, HyperLogLog> sketches = new ConcurrentHashMap<>();
+
+    public TopicReaderBuffer(MeterRegistry meterRegistry) {
+        Gauge.builder(DEPTH_METRIC, this, TopicReaderBuffer::depth)
+                .description("Topics with reader sketches waiting to be flushed")
+                .register(meterRegistry);
+    }
+
+    public void record(UUID topicId, String readerId) {
+        lock.readLock().lock();
+        try {
+            HyperLogLog sketch = sketches.computeIfAbsent(topicId, id -> new HyperLogLog());
+            synchronized (sketch) {
+                sketch.add(readerId);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<UUID, HyperLogLog> drain() {
+        Map<UUID, HyperLogLog> drained;
+
+        lock.writeLock().lock();
+        try {
+            drained = sketches;
+            sketches = new ConcurrentHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return drained;
+    }
+
+    /**
+     * Merges back sketches whose flush failed into those recorded in the meantime.
+     */
+    public void restore(Map<UUID, HyperLogLog> failed) {
+        lock.readLock().lock();
+        try {
+            failed.forEach((topicId, restored) -> {
+                HyperLogLog sketch = sketches.computeIfAbsent(topicId, id -> new HyperLogLog());
+                synchronized (sketch) {
+                    sketch.merge(restored);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int depth() {
+        return sketches.size();
+    }
+
+}
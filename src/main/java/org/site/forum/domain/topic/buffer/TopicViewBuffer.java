@@ -0,0 +1,74 @@
+package org.site.forum.domain.topic.buffer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory view counts waiting to be written by {@link org.site.forum.domain.topic.job.TopicViewFlushJob}.
+ * Each topic counts into a striped {@link LongAdder}, so concurrent readers of a popular topic do not contend.
+ * Recording only takes the shared side of the lock; draining takes the exclusive side to swap the counters out.
+ */
+@Component
+public class TopicViewBuffer {
+
+    public static final String DEPTH_METRIC = "forum.topics.views.buffer.depth";
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Map<UUID, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public TopicViewBuffer(MeterRegistry meterRegistry) {
+        Gauge.builder(DEPTH_METRIC, this, TopicViewBuffer::depth)
+                .description("Topics with views waiting to be flushed")
+                .register(meterRegistry);
+    }
+
+    public void record(UUID topicId) {
+        lock.readLock().lock();
+        try {
+            counters.computeIfAbsent(topicId, id -> new LongAdder()).increment();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<UUID, Long> drain() {
+        Map<UUID, LongAdder> drained;
+
+        lock.writeLock().lock();
+        try {
+            drained = counters;
+            counters = new ConcurrentHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<UUID, Long> views = new HashMap<>();
+        drained.forEach((topicId, counter) -> views.put(topicId, counter.sum()));
+        return views;
+    }
+
+    /**
+     * Adds back views whose flush failed on top of those recorded in the meantime.
+     */
+    public void restore(Map<UUID, Long> views) {
+        lock.readLock().lock();
+        try {
+            views.forEach((topicId, count) -> counters.computeIfAbsent(topicId, id -> new LongAdder()).add(count));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int depth() {
+        return counters.size();
+    }
+
+}
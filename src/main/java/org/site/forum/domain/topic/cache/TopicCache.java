@@ -0,0 +1,48 @@
+package org.site.forum.domain.topic.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.site.forum.common.AfterCommit;
+import org.site.forum.domain.topic.dto.response.TopicResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of assembled topic responses. Invalidation inside a transaction is repeated after commit,
+ * so a reader cannot put the pre-commit state back into the cache.
+ */
+@Component
+public class TopicCache {
+
+    public static final String CACHE_NAME = "topics";
+
+    private final Cache<UUID, TopicResponseDto> cache;
+
+    public TopicCache(@Value("${forum.cache.topics.maximum-size}") long maximumSize,
+                      @Value("${forum.cache.topics.ttl}") Duration ttl,
+                      MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public TopicResponseDto get(UUID topicId, Function<UUID, TopicResponseDto> loader) {
+        return cache.get(topicId, loader);
+    }
+
+    public void invalidate(UUID topicId) {
+        cache.invalidate(topicId);
+
+        AfterCommit.run(() -> cache.invalidate(topicId));
+    }
+
+}
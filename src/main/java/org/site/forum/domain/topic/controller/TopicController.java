@@ -12,6 +12,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import java.util.List;
 import java.util.UUID;
@@ -49,12 +50,26 @@ public class TopicController {
     @GetMapping("/{id}")
     @Operation(
             summary = "Get topic by ID",
-            description = "Retrieves a specific topic by its UUID"
+            description = "Retrieves a specific topic by its UUID. Responds with 304 Not Modified when the If-None-Match " +
+                    "header matches the current ETag of the topic. The ETag is weak: it follows the content, rating " +
+                    "and counts of the topic, while views, uniqueReaders and the author's name may move on without " +
+                    "changing it. uniqueReaders is an estimate of the distinct authenticated readers with a standard " +
+                    "error of about 1.6%."
     )
     public ResponseEntity<TopicResponseDto> getTopic(
             @Parameter(description = "UUID of the topic", required = true)
-            @PathVariable UUID id) {
-        return ResponseEntity.ok(topicService.getTopic(id));
+            @PathVariable UUID id,
+            WebRequest webRequest) {
+
+        String eTag = topicService.getTopicETag(id);
+        if (eTag != null) {
+            topicService.recordView(id);
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+        }
+
+        return ResponseEntity.ok().eTag(eTag).body(topicService.getTopic(id));
     }
 
     @DeleteMapping("/{id}")
@@ -1,16 +1,31 @@
 package org.site.forum.domain.topic.dao;
 
+import org.site.forum.common.KeysetCursor;
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
+import org.site.forum.domain.topic.dto.projection.TopicVersion;
 import org.site.forum.domain.topic.entity.Topic;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TopicDao {
 
     Topic saveTopic(Topic topic);
     Topic getTopic(UUID id);
+    TopicSummary getTopicDetail(UUID id);
     void deleteTopic(UUID id);
-    Page<Topic> getAllTopicsByUserId(UUID userId, Pageable pageable);
+    Page<TopicSummary> getAllTopicsByUserId(UUID userId, Pageable pageable);
+    List<TopicSummary> getTopicsByUserIdBefore(UUID userId, KeysetCursor before, int limit);
     Topic updateTopic(UUID id, Topic topic);
+    void lockTopic(UUID topicId);
+    Integer adjustRating(UUID topicId, int delta);
+    void adjustCommentCount(UUID topicId, int delta);
+    Optional<TopicVersion> getTopicVersion(UUID topicId);
+    Optional<Long> getCommentWatermark(UUID topicId);
+    List<UUID> getTopicIdsAfter(UUID afterId, int limit);
+    int reconcileCommentCounts(Collection<UUID> topicIds);
 
 }
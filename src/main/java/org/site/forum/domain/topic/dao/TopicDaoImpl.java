@@ -1,16 +1,23 @@
 package org.site.forum.domain.topic.dao;
 
 import lombok.AllArgsConstructor;
+import org.site.forum.common.KeysetCursor;
 import org.site.forum.common.exception.InvalidTopicIdException;
 import org.site.forum.common.exception.InvalidUserIdException;
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
+import org.site.forum.domain.topic.dto.projection.TopicVersion;
 import org.site.forum.domain.topic.entity.Topic;
 import org.site.forum.domain.topic.integrity.TopicDataIntegrity;
 import org.site.forum.domain.topic.repository.TopicRepository;
 import org.site.forum.domain.user.repository.UserRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.site.forum.domain.comment.dao.CommentDaoImpl.USER_WITH_THE_SPECIFIED_ID_DOES_NOT_EXIST;
@@ -35,7 +42,16 @@ public class TopicDaoImpl implements TopicDao {
 
     @Override
     public Topic getTopic(UUID id) {
-        return topicRepository.findById(id).orElseThrow(() ->
+        return topicRepository.findWithAuthorById(id).orElseThrow(() ->
+                new InvalidTopicIdException(TOPIC_WITH_ID_NOT_FOUND));
+    }
+
+    /**
+     * The full topic as a row, with the author's name and the view counters joined in.
+     */
+    @Override
+    public TopicSummary getTopicDetail(UUID id) {
+        return topicRepository.findDetailById(id).orElseThrow(() ->
                 new InvalidTopicIdException(TOPIC_WITH_ID_NOT_FOUND));
     }
 
@@ -49,10 +65,20 @@ public class TopicDaoImpl implements TopicDao {
     }
 
     @Override
-    public Page<Topic> getAllTopicsByUserId(UUID userId, Pageable pageable) {
+    public Page<TopicSummary> getAllTopicsByUserId(UUID userId, Pageable pageable) {
         checkIfUserExists(userId);
 
-        return topicRepository.findAllTopicsByAuthorId(userId, pageable);
+        return topicRepository.findSummariesByAuthorId(userId, pageable);
+    }
+
+    /**
+     * The user's live topics, newest first, starting below {@code before} or at the newest when it is null.
+     */
+    @Override
+    public List<TopicSummary> getTopicsByUserIdBefore(UUID userId, KeysetCursor before, int limit) {
+        return before == null
+                ? topicRepository.findFirstSummariesByAuthorId(userId, Limit.of(limit))
+                : topicRepository.findSummariesByAuthorIdBefore(userId, before.getCreatedAt(), before.getId(), Limit.of(limit));
     }
 
     private void checkIfUserExists(UUID userId) {
@@ -75,4 +101,53 @@ public class TopicDaoImpl implements TopicDao {
         return topicRepository.save(existingTopic);
     }
 
+    /**
+     * Takes the same row lock as the rating and counter updates, up front, so that whatever the caller reads next
+     * cannot change before it commits.
+     */
+    @Override
+    public void lockTopic(UUID topicId) {
+        topicRepository.lockById(topicId);
+    }
+
+    @Override
+    public Integer adjustRating(UUID topicId, int delta) {
+        topicRepository.adjustRating(topicId, delta);
+        return topicRepository.findRatingById(topicId);
+    }
+
+    @Override
+    public void adjustCommentCount(UUID topicId, int delta) {
+        topicRepository.adjustCommentCount(topicId, delta);
+    }
+
+    @Override
+    public Optional<TopicVersion> getTopicVersion(UUID topicId) {
+        return topicRepository.findVersionById(topicId);
+    }
+
+    @Override
+    public Optional<Long> getCommentWatermark(UUID topicId) {
+        return topicRepository.findCommentWatermarkById(topicId);
+    }
+
+    @Override
+    public List<UUID> getTopicIdsAfter(UUID afterId, int limit) {
+        return topicRepository.findIdsAfter(afterId, limit);
+    }
+
+    /**
+     * Locks the batch first, so that the recount reads every committed comment and concurrent adjustments wait for it
+     * instead of being overwritten by a count taken before they committed.
+     */
+    @Override
+    public int reconcileCommentCounts(Collection<UUID> topicIds) {
+        if (topicIds.isEmpty()) {
+            return 0;
+        }
+
+        topicRepository.lockByIds(topicIds);
+        return topicRepository.reconcileCommentCounts(topicIds);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package org.site.forum.domain.topic.dao;
+
+import org.site.forum.common.HyperLogLog;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface TopicViewDao {
+
+    void addViews(Map<UUID, Long> viewsByTopicId);
+    Map<UUID, HyperLogLog> findReaderSketchesForUpdate(Collection<UUID> topicIds);
+    void saveReaderSketches(Map<UUID, HyperLogLog> sketchesByTopicId);
+
+}
@@ -0,0 +1,107 @@
+package org.site.forum.domain.topic.dao;
+
+import lombok.AllArgsConstructor;
+import org.site.forum.common.HyperLogLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@AllArgsConstructor
+public class TopicViewDaoImpl implements TopicViewDao {
+
+    /**
+     * Adds all deltas in one statement. Views of topics deleted since they were counted are dropped by the join,
+     * and rows are locked in topic id order so that concurrent flushes cannot deadlock.
+     */
+    private static final String UPSERT_VIEWS = """
+            INSERT INTO topic_views (topic_id, views)
+            SELECT d.topic_id, d.views
+            FROM unnest(?::uuid[], ?::bigint[]) AS d(topic_id, views)
+            JOIN topics t ON t.id = d.topic_id
+            ORDER BY d.topic_id
+            ON CONFLICT (topic_id) DO UPDATE SET views = topic_views.views + EXCLUDED.views
+            """;
+    private static final String INSERT_MISSING = """
+            INSERT INTO topic_views (topic_id)
+            SELECT t.id FROM topics t WHERE t.id = ANY(?::uuid[])
+            ORDER BY t.id
+            ON CONFLICT (topic_id) DO NOTHING
+            """;
+    private static final String SELECT_SKETCHES_FOR_UPDATE = """
+            SELECT topic_id, reader_sketch FROM topic_views
+            WHERE topic_id = ANY(?::uuid[])
+            ORDER BY topic_id
+            FOR UPDATE
+            """;
+    private static final String UPDATE_SKETCH = "UPDATE topic_views SET reader_sketch = ?, readers = ? WHERE topic_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addViews(Map<UUID, Long> viewsByTopicId) {
+        if (viewsByTopicId.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<UUID, Long>> views = new ArrayList<>(viewsByTopicId.entrySet());
+        UUID[] topicIds = views.stream().map(Map.Entry::getKey).toArray(UUID[]::new);
+        Long[] counts = views.stream().map(Map.Entry::getValue).toArray(Long[]::new);
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPSERT_VIEWS);
+            statement.setArray(1, connection.createArrayOf("uuid", topicIds));
+            statement.setArray(2, connection.createArrayOf("bigint", counts));
+            return statement;
+        });
+    }
+
+    /**
+     * Locks the stored sketches of the given topics, creating empty rows first so that a topic read for the first
+     * time is locked too. Topics without a stored sketch map to an empty one; deleted topics are left out.
+     */
+    @Override
+    public Map<UUID, HyperLogLog> findReaderSketchesForUpdate(Collection<UUID> topicIds) {
+        Map<UUID, HyperLogLog> sketches = new HashMap<>();
+        if (topicIds.isEmpty()) {
+            return sketches;
+        }
+
+        UUID[] ids = topicIds.toArray(UUID[]::new);
+
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_MISSING);
+            statement.setArray(1, connection.createArrayOf("uuid", ids));
+            return statement;
+        });
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_SKETCHES_FOR_UPDATE);
+            statement.setArray(1, connection.createArrayOf("uuid", ids));
+            return statement;
+        }, (ResultSet rs) -> {
+            byte[] sketch = rs.getBytes("reader_sketch");
+            sketches.put(rs.getObject("topic_id", UUID.class),
+                    sketch != null ? HyperLogLog.fromBytes(sketch) : new HyperLogLog());
+        });
+
+        return sketches;
+    }
+
+    @Override
+    public void saveReaderSketches(Map<UUID, HyperLogLog> sketchesByTopicId) {
+        List<Map.Entry<UUID, HyperLogLog>> sketches = new ArrayList<>(sketchesByTopicId.entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_SKETCH, sketches, sketches.size(), (ps, sketch) -> {
+            ps.setBytes(1, sketch.getValue().toBytes());
+            ps.setLong(2, sketch.getValue().estimate());
+            ps.setObject(3, sketch.getKey());
+        });
+    }
+
+}
@@ -0,0 +1,30 @@
+package org.site.forum.domain.topic.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Row of a topic, selected directly with the author's name and view counters joined in, so that reads never hydrate
+ * {@link org.site.forum.domain.topic.entity.Topic} entities. Listing queries cut the content to a preview.
+ */
+@Getter
+@AllArgsConstructor
+public class TopicSummary {
+
+    private final UUID id;
+    private final String title;
+    private final String content;
+    private final UUID authorId;
+    private final String authorName;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime deletedAt;
+    private final Boolean isEnabled;
+    private final Integer rating;
+    private final int commentCount;
+    private final long views;
+    private final long uniqueReaders;
+
+}
@@ -0,0 +1,16 @@
+package org.site.forum.domain.topic.dto.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface TopicVersion {
+
+    UUID getId();
+    LocalDateTime getUpdatedAt();
+    LocalDateTime getDeletedAt();
+    Boolean getEnabled();
+    Integer getRating();
+    Integer getCommentCount();
+    Long getFileCount();
+
+}
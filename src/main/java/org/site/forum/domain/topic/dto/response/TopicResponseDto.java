@@ -27,6 +27,9 @@ public class TopicResponseDto {
     private LocalDateTime deletedAt;
     private Boolean isEnabled;
     private Integer rating;
+    private Integer commentCount;
+    private Long views;
+    private Long uniqueReaders;
     private List<FileResponseDto> files;
 
 }
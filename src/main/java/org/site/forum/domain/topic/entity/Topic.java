@@ -1,11 +1,15 @@
 package org.site.forum.domain.topic.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,6 +23,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@NamedEntityGraph(name = Topic.WITH_AUTHOR, attributeNodes = @NamedAttributeNode("author"))
 @Builder
 @Getter
 @Setter
@@ -27,6 +32,8 @@ import java.util.UUID;
 @Table(name = "topics")
 public class Topic {
 
+    public static final String WITH_AUTHOR = "Topic.withAuthor";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -37,14 +44,22 @@ public class Topic {
     private LocalDateTime updatedAt;
     private LocalDateTime deletedAt;
     private Boolean isEnabled;
+
+    @Column(updatable = false)
     private Integer rating;
 
+    @Column(insertable = false, updatable = false)
+    private int commentCount;
+
+    @Column(insertable = false, updatable = false)
+    private Double hotScore;
+
     @JsonBackReference
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User author;
 
     @JsonBackReference
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Community community;
 
 }
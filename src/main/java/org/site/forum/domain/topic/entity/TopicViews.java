@@ -0,0 +1,28 @@
+package org.site.forum.domain.topic.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import java.util.UUID;
+
+/**
+ * Read-only view of the counters in topic_views, so that the topic DTO queries can join them. The rows are written
+ * in batches by {@link org.site.forum.domain.topic.dao.TopicViewDao}, never through this entity.
+ */
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor
+@Table(name = "topic_views")
+public class TopicViews {
+
+    @Id
+    private UUID topicId;
+
+    private long views;
+    private long readers;
+
+}
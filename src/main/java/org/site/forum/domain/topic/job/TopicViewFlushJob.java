@@ -0,0 +1,89 @@
+package org.site.forum.domain.topic.job;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.site.forum.common.HyperLogLog;
+import org.site.forum.domain.topic.buffer.TopicReaderBuffer;
+import org.site.forum.domain.topic.buffer.TopicViewBuffer;
+import org.site.forum.domain.topic.dao.TopicViewDao;
+import org.site.forum.domain.topic.service.TopicReaderFlushService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Writes the buffered view counts and reader sketches every flush interval, so a crash loses at most the views of
+ * one interval.
+ */
+@Component
+public class TopicViewFlushJob {
+
+    public static final String FLUSH_METRIC = "forum.topics.views.flush";
+    public static final String READERS_FLUSH_METRIC = "forum.topics.readers.flush";
+
+    private final TopicViewBuffer topicViewBuffer;
+    private final TopicReaderBuffer topicReaderBuffer;
+    private final TopicViewDao topicViewDao;
+    private final TopicReaderFlushService topicReaderFlushService;
+    private final Timer flushTimer;
+    private final Timer readersFlushTimer;
+
+    public TopicViewFlushJob(TopicViewBuffer topicViewBuffer, TopicReaderBuffer topicReaderBuffer,
+                             TopicViewDao topicViewDao, TopicReaderFlushService topicReaderFlushService,
+                             MeterRegistry meterRegistry) {
+        this.topicViewBuffer = topicViewBuffer;
+        this.topicReaderBuffer = topicReaderBuffer;
+        this.topicViewDao = topicViewDao;
+        this.topicReaderFlushService = topicReaderFlushService;
+        this.flushTimer = Timer.builder(FLUSH_METRIC)
+                .description("Time taken to write buffered topic views")
+                .register(meterRegistry);
+        this.readersFlushTimer = Timer.builder(READERS_FLUSH_METRIC)
+                .description("Time taken to merge buffered reader sketches")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${forum.topics.views.flush-interval}",
+            initialDelayString = "${forum.topics.views.flush-interval}")
+    public void flushViews() {
+        Map<UUID, Long> views = topicViewBuffer.drain();
+        if (views.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushTimer.record(() -> topicViewDao.addViews(views));
+        } catch (RuntimeException e) {
+            topicViewBuffer.restore(views);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${forum.topics.views.flush-interval}",
+            initialDelayString = "${forum.topics.views.flush-interval}")
+    public void flushReaders() {
+        Map<UUID, HyperLogLog> sketches = topicReaderBuffer.drain();
+        if (sketches.isEmpty()) {
+            return;
+        }
+
+        try {
+            readersFlushTimer.record(() -> topicReaderFlushService.flush(sketches));
+        } catch (RuntimeException e) {
+            topicReaderBuffer.restore(sketches);
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        try {
+            flushViews();
+        } finally {
+            flushReaders();
+        }
+    }
+
+}
@@ -1,8 +1,10 @@
 package org.site.forum.domain.topic.mapper;
 
 import lombok.AllArgsConstructor;
+import org.site.forum.domain.file.dto.projection.FileRow;
 import org.site.forum.domain.file.entity.File;
 import org.site.forum.domain.file.mapper.FileMapper;
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
 import org.site.forum.domain.topic.dto.request.TopicRequestDto;
 import org.site.forum.domain.topic.dto.response.TopicResponseDto;
 import org.site.forum.domain.topic.entity.Topic;
@@ -29,10 +31,30 @@ public class TopicMapper {
                 .deletedAt(topic.getDeletedAt())
                 .isEnabled(topic.getIsEnabled())
                 .rating(topic.getRating())
+                .commentCount(topic.getCommentCount())
                 .files(fileMapper.toDto(files))
                 .build();
     }
 
+    public TopicResponseDto toSummaryDto(TopicSummary topic, List<FileRow> files) {
+        return TopicResponseDto.builder()
+                .id(topic.getId())
+                .title(topic.getTitle())
+                .content(topic.getContent())
+                .authorId(topic.getAuthorId())
+                .authorName(topic.getAuthorName())
+                .createdAt(topic.getCreatedAt())
+                .updatedAt(topic.getUpdatedAt())
+                .deletedAt(topic.getDeletedAt())
+                .isEnabled(topic.getIsEnabled())
+                .rating(topic.getRating())
+                .commentCount(topic.getCommentCount())
+                .views(topic.getViews())
+                .uniqueReaders(topic.getUniqueReaders())
+                .files(fileMapper.toRowDto(files))
+                .build();
+    }
+
     public Topic toEntity(TopicRequestDto topicRequestDto, User user) {
         return Topic.builder()
                 .title(topicRequestDto.getTitle())
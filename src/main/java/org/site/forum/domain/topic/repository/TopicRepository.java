@@ -1,16 +1,107 @@
 package org.site.forum.domain.topic.repository;
 
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
+import org.site.forum.domain.topic.dto.projection.TopicVersion;
 import org.site.forum.domain.topic.entity.Topic;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.site.forum.common.constant.PageConstant.CONTENT_PREVIEW_LENGTH;
+
 @Repository
 public interface TopicRepository extends JpaRepository<Topic, UUID>, JpaSpecificationExecutor<Topic> {
 
-    Page<Topic> findAllTopicsByAuthorId(UUID authorId, Pageable pageable);
+    @EntityGraph(Topic.WITH_AUTHOR)
+    Optional<Topic> findWithAuthorById(UUID id);
+
+    @Query("SELECT new org.site.forum.domain.topic.dto.projection.TopicSummary(t.id, t.title, t.content, a.id, a.name, " +
+            "t.createdAt, t.updatedAt, t.deletedAt, t.isEnabled, t.rating, t.commentCount, COALESCE(v.views, 0), " +
+            "COALESCE(v.readers, 0)) FROM Topic t LEFT JOIN t.author a LEFT JOIN TopicViews v ON v.topicId = t.id " +
+            "WHERE t.id = :topicId")
+    Optional<TopicSummary> findDetailById(UUID topicId);
+
+    @Query(value = "SELECT new org.site.forum.domain.topic.dto.projection.TopicSummary(t.id, t.title, " +
+            "SUBSTRING(t.content, 1, " + CONTENT_PREVIEW_LENGTH + "), a.id, a.name, t.createdAt, t.updatedAt, " +
+            "t.deletedAt, t.isEnabled, t.rating, t.commentCount, COALESCE(v.views, 0), COALESCE(v.readers, 0)) " +
+            "FROM Topic t JOIN t.author a LEFT JOIN TopicViews v ON v.topicId = t.id WHERE a.id = :authorId",
+            countQuery = "SELECT COUNT(t) FROM Topic t WHERE t.author.id = :authorId")
+    Page<TopicSummary> findSummariesByAuthorId(UUID authorId, Pageable pageable);
+
+    @Query("SELECT new org.site.forum.domain.topic.dto.projection.TopicSummary(t.id, t.title, " +
+            "SUBSTRING(t.content, 1, " + CONTENT_PREVIEW_LENGTH + "), a.id, a.name, t.createdAt, t.updatedAt, " +
+            "t.deletedAt, t.isEnabled, t.rating, t.commentCount, COALESCE(v.views, 0), COALESCE(v.readers, 0)) " +
+            "FROM Topic t JOIN t.author a LEFT JOIN TopicViews v ON v.topicId = t.id " +
+            "WHERE a.id = :authorId AND t.deletedAt IS NULL ORDER BY t.createdAt DESC, t.id DESC")
+    List<TopicSummary> findFirstSummariesByAuthorId(UUID authorId, Limit limit);
+
+    @Query("SELECT new org.site.forum.domain.topic.dto.projection.TopicSummary(t.id, t.title, " +
+            "SUBSTRING(t.content, 1, " + CONTENT_PREVIEW_LENGTH + "), a.id, a.name, t.createdAt, t.updatedAt, " +
+            "t.deletedAt, t.isEnabled, t.rating, t.commentCount, COALESCE(v.views, 0), COALESCE(v.readers, 0)) " +
+            "FROM Topic t JOIN t.author a LEFT JOIN TopicViews v ON v.topicId = t.id " +
+            "WHERE a.id = :authorId AND t.deletedAt IS NULL " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TopicSummary> findSummariesByAuthorIdBefore(UUID authorId, LocalDateTime createdAt, UUID id, Limit limit);
+
+    @Query(value = "SELECT id FROM topics WHERE id = :topicId FOR NO KEY UPDATE", nativeQuery = true)
+    Optional<UUID> lockById(UUID topicId);
+
+    @Modifying
+    @Query(value = "UPDATE topics SET rating = COALESCE(rating, 0) + :delta WHERE id = :topicId", nativeQuery = true)
+    void adjustRating(UUID topicId, int delta);
+
+    @Query("SELECT t.rating FROM Topic t WHERE t.id = :topicId")
+    Integer findRatingById(UUID topicId);
+
+    @Modifying
+    @Query(value = "UPDATE topics SET comment_count = comment_count + :delta, comment_watermark = comment_watermark + 1 " +
+            "WHERE id = :topicId", nativeQuery = true)
+    void adjustCommentCount(UUID topicId, int delta);
+
+    @Query(value = """
+            SELECT t.id AS "id",
+                   t.updated_at AS "updatedAt",
+                   t.deleted_at AS "deletedAt",
+                   t.is_enabled AS "enabled",
+                   t.rating AS "rating",
+                   t.comment_count AS "commentCount",
+                   (SELECT COUNT(*) FROM files f WHERE f.topic_id = t.id) AS "fileCount"
+            FROM topics t
+            WHERE t.id = :topicId
+            """, nativeQuery = true)
+    Optional<TopicVersion> findVersionById(UUID topicId);
+
+    @Query(value = "SELECT comment_watermark FROM topics WHERE id = :topicId", nativeQuery = true)
+    Optional<Long> findCommentWatermarkById(UUID topicId);
+
+    @Query(value = "SELECT id FROM topics WHERE id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<UUID> findIdsAfter(UUID afterId, int limit);
+
+    @Query(value = "SELECT id FROM topics WHERE id IN :topicIds ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<UUID> lockByIds(Collection<UUID> topicIds);
+
+    @Modifying
+    @Query(value = """
+            UPDATE topics t
+            SET comment_count = actual.comment_count,
+                comment_watermark = t.comment_watermark + 1
+            FROM (SELECT b.id, (SELECT COUNT(*) FROM comments c WHERE c.topic_id = b.id AND c.is_enabled) AS comment_count
+                  FROM topics b
+                  WHERE b.id IN :topicIds) actual
+            WHERE t.id = actual.id AND t.comment_count <> actual.comment_count
+            """, nativeQuery = true)
+    int reconcileCommentCounts(Collection<UUID> topicIds);
 
 }
@@ -0,0 +1,9 @@
+package org.site.forum.domain.topic.service;
+
+import org.site.forum.common.HyperLogLog;
+import java.util.Map;
+import java.util.UUID;
+
+public interface TopicReaderFlushService {
+    void flush(Map<UUID, HyperLogLog> sketches);
+}
@@ -0,0 +1,32 @@
+package org.site.forum.domain.topic.service;
+
+import lombok.AllArgsConstructor;
+import org.site.forum.common.HyperLogLog;
+import org.site.forum.domain.topic.dao.TopicViewDao;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Merges buffered reader sketches into the stored ones under row locks and stores the new estimates with them.
+ */
+@Service
+@AllArgsConstructor
+@Transactional
+public class TopicReaderFlushServiceImpl implements TopicReaderFlushService {
+
+    private final TopicViewDao topicViewDao;
+
+    @Override
+    public void flush(Map<UUID, HyperLogLog> sketches) {
+        if (sketches.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, HyperLogLog> stored = topicViewDao.findReaderSketchesForUpdate(sketches.keySet());
+        stored.forEach((topicId, sketch) -> sketch.merge(sketches.get(topicId)));
+        topicViewDao.saveReaderSketches(stored);
+    }
+
+}
@@ -10,6 +10,8 @@ public interface TopicService {
 
     TopicResponseDto saveTopic(TopicRequestDto topicRequestDto, List<MultipartFile> files);
     TopicResponseDto getTopic(UUID id);
+    String getTopicETag(UUID id);
+    void recordView(UUID id);
     void deleteTopic(UUID id);
     TopicResponseDto updateTopic(UUID id, TopicRequestDto topicRequestDto, List<MultipartFile> files);
 
@@ -3,6 +3,7 @@ package org.site.forum.domain.topic.service;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
+import org.site.forum.common.ETagUtils;
 import org.site.forum.common.exception.InvalidTopicIdException;
 import org.site.forum.common.exception.UnauthorizedAccessException;
 import org.site.forum.config.auth.AuthenticationService;
@@ -10,12 +11,19 @@ import org.site.forum.domain.community.entity.Community;
 import org.site.forum.domain.community.repository.CommunityRepository;
 import org.site.forum.domain.file.dao.FileDao;
 import org.site.forum.domain.file.service.FileService;
+import org.site.forum.domain.search.cache.SearchResultCache;
+import org.site.forum.domain.search.index.TopicSearchIndex;
+import org.site.forum.domain.search.suggest.TopicSuggestIndex;
+import org.site.forum.domain.topic.buffer.TopicReaderBuffer;
+import org.site.forum.domain.topic.buffer.TopicViewBuffer;
+import org.site.forum.domain.topic.cache.TopicCache;
 import org.site.forum.domain.topic.dao.TopicDao;
 import org.site.forum.domain.topic.dto.request.TopicRequestDto;
 import org.site.forum.domain.topic.dto.response.TopicResponseDto;
 import org.site.forum.domain.topic.entity.Topic;
 import org.site.forum.domain.topic.integrity.TopicDataIntegrity;
 import org.site.forum.domain.topic.mapper.TopicMapper;
+import org.site.forum.domain.user.cache.UserProfileCache;
 import org.site.forum.domain.user.entity.User;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -36,6 +44,13 @@ public class TopicServiceImpl implements TopicService {
     private final FileDao fileDao;
     private final TopicDataIntegrity topicDataIntegrity;
     private final CommunityRepository communityRepository;
+    private final TopicCache topicCache;
+    private final TopicSearchIndex topicSearchIndex;
+    private final TopicSuggestIndex topicSuggestIndex;
+    private final SearchResultCache searchResultCache;
+    private final TopicViewBuffer topicViewBuffer;
+    private final TopicReaderBuffer topicReaderBuffer;
+    private final UserProfileCache userProfileCache;
 
     @Override
     public TopicResponseDto saveTopic(TopicRequestDto topicRequestDto, List<MultipartFile> files) {
@@ -49,11 +64,15 @@ public class TopicServiceImpl implements TopicService {
         Topic topic = topicMapper.toEntity(topicRequestDto, user);
         topic.setCommunity(community);
         topic = topicDao.saveTopic(topic);
+        topicSearchIndex.index(topic);
+        topicSuggestIndex.index(topic);
 
         if (files != null && !files.isEmpty()) {
             fileService.uploadFiles(files, topic);
         }
 
+        searchResultCache.invalidateCommunity(community.getId());
+        userProfileCache.invalidate(user.getId());
         return topicMapper.toDto(topic, fileDao.findFilesByTopicId(topic.getId()));
     }
 
@@ -62,7 +81,31 @@ public class TopicServiceImpl implements TopicService {
     public TopicResponseDto getTopic(UUID id) {
         topicDataIntegrity.validateTopicId(id);
 
-        return topicMapper.toDto(topicDao.getTopic(id), fileDao.findFilesByTopicId(id));
+        return topicCache.get(id, topicId -> topicMapper.toSummaryDto(topicDao.getTopicDetail(topicId),
+                fileDao.findFilesByTopicIds(List.of(topicId)).getOrDefault(topicId, List.of())));
+    }
+
+    /**
+     * Weak, because views, unique readers and the author's name can change without changing the topic's version.
+     */
+    @Override
+    public String getTopicETag(UUID id) {
+        topicDataIntegrity.validateTopicId(id);
+
+        return topicDao.getTopicVersion(id)
+                .map(version -> ETagUtils.weakETag(version.getId(), version.getUpdatedAt(), version.getDeletedAt(),
+                        version.getEnabled(), version.getRating(), version.getCommentCount(), version.getFileCount()))
+                .orElse(null);
+    }
+
+    /**
+     * Counts a view, and the reader when authenticated, in memory only. Both reach the database and the topic
+     * response with the next flush.
+     */
+    @Override
+    public void recordView(UUID id) {
+        topicViewBuffer.record(id);
+        authenticationService.getAuthenticatedSubject().ifPresent(subject -> topicReaderBuffer.record(id, subject));
     }
 
     @Override
@@ -81,9 +124,17 @@ public class TopicServiceImpl implements TopicService {
         }
 
         topicDao.deleteTopic(id);
+        topicCache.invalidate(id);
+        topicSearchIndex.remove(id);
+        topicSuggestIndex.remove(id);
+        searchResultCache.invalidateCommunityOf(topic);
+        if (topic.getAuthor() != null) {
+            userProfileCache.invalidate(topic.getAuthor().getId());
+        }
     }
 
     @Override
+    @Transactional
     public TopicResponseDto updateTopic(UUID id, TopicRequestDto topicRequestDto, List<MultipartFile> files) {
         topicDataIntegrity.validateTopicId(id);
         topicDataIntegrity.validateTopicRequestDto(topicRequestDto);
@@ -96,6 +147,11 @@ public class TopicServiceImpl implements TopicService {
             fileService.uploadFiles(files, topic);
         }
 
+        topicCache.invalidate(id);
+        topicSearchIndex.index(topic);
+        topicSuggestIndex.index(topic);
+        searchResultCache.invalidateCommunityOf(topic);
+        userProfileCache.invalidate(user.getId());
         return topicMapper.toDto(topic, fileDao.findFilesByTopicId(topic.getId()));
     }
 
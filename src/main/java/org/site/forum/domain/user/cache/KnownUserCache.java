@@ -0,0 +1,74 @@
+package org.site.forum.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.site.forum.common.AfterCommit;
+import org.site.forum.common.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Users known to be stored with their current name, so that authenticated writes can skip the user lookup.
+ * A Bloom filter answers for users this instance has never stored without touching the bounded map behind it.
+ * The filter is replaced once it has taken its expected number of users; the users it forgets that way only cost
+ * one more upsert.
+ */
+@Component
+public class KnownUserCache {
+
+    public static final String CACHE_NAME = "known-users";
+
+    private final Cache<UUID, Optional<String>> namesById;
+    private final long bloomExpectedInsertions;
+    private final double bloomFalsePositiveRate;
+    private final AtomicLong bloomInsertions = new AtomicLong();
+    private volatile BloomFilter bloomFilter;
+
+    public KnownUserCache(@Value("${forum.cache.known-users.maximum-size}") long maximumSize,
+                          @Value("${forum.cache.known-users.ttl}") Duration ttl,
+                          @Value("${forum.cache.known-users.bloom.expected-insertions}") long bloomExpectedInsertions,
+                          @Value("${forum.cache.known-users.bloom.false-positive-rate}") double bloomFalsePositiveRate,
+                          MeterRegistry meterRegistry) {
+        this.namesById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.bloomExpectedInsertions = bloomExpectedInsertions;
+        this.bloomFalsePositiveRate = bloomFalsePositiveRate;
+        this.bloomFilter = new BloomFilter(bloomExpectedInsertions, bloomFalsePositiveRate);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, namesById, CACHE_NAME);
+    }
+
+    /**
+     * Whether the user is stored with exactly this name.
+     */
+    public boolean isKnown(UUID userId, String name) {
+        return bloomFilter.mightContain(userId) && Optional.ofNullable(name).equals(namesById.getIfPresent(userId));
+    }
+
+    /**
+     * Remembers the user once the surrounding transaction commits, so that a rolled back upsert is retried.
+     */
+    public void remember(UUID userId, String name) {
+        AfterCommit.run(() -> store(userId, name));
+    }
+
+    private void store(UUID userId, String name) {
+        if (bloomInsertions.incrementAndGet() > bloomExpectedInsertions) {
+            bloomInsertions.set(0);
+            bloomFilter = new BloomFilter(bloomExpectedInsertions, bloomFalsePositiveRate);
+        }
+
+        bloomFilter.add(userId);
+        namesById.put(userId, Optional.ofNullable(name));
+    }
+
+}
@@ -0,0 +1,48 @@
+package org.site.forum.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.site.forum.common.AfterCommit;
+import org.site.forum.domain.user.dto.UserResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of user profiles. The user's own writes invalidate it, again after commit; changes made by
+ * others to the user's topics, such as comment counts and views, show up once the entry expires.
+ */
+@Component
+public class UserProfileCache {
+
+    public static final String CACHE_NAME = "user-profiles";
+
+    private final Cache<UUID, UserResponseDto> cache;
+
+    public UserProfileCache(@Value("${forum.cache.user-profiles.maximum-size}") long maximumSize,
+                            @Value("${forum.cache.user-profiles.ttl}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public UserResponseDto get(UUID userId, Function<UUID, UserResponseDto> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void invalidate(UUID userId) {
+        cache.invalidate(userId);
+
+        AfterCommit.run(() -> cache.invalidate(userId));
+    }
+
+}
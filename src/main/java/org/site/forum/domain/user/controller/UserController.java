@@ -5,10 +5,13 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.site.forum.common.PageUtils;
+import org.site.forum.domain.comment.dto.response.CursorPageResponseDto;
 import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
 import org.site.forum.domain.topic.dto.response.TopicResponseDto;
+import org.site.forum.domain.user.dto.ActivityItemDto;
 import org.site.forum.domain.user.dto.UserResponseDto;
 import org.site.forum.domain.user.integrity.UserDataIntegrity;
+import org.site.forum.domain.user.service.UserActivityService;
 import org.site.forum.domain.user.service.UserService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -27,6 +30,7 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
+    private final UserActivityService userActivityService;
     private final UserDataIntegrity userDataIntegrity;
 
     @GetMapping("/me/comments")
@@ -62,7 +66,9 @@ public class UserController {
     @GetMapping("/{id}")
     @Operation(
             summary = "Get user by ID",
-            description = "Retrieve user profile information by their UUID"
+            description = "Retrieve a user's profile: topic and comment counts, total rating received, last activity " +
+                    "and the most recent topics and comments. The full lists are paged under /users/{id}/topics and " +
+                    "/users/{id}/comments. Counts exclude deleted topics and comments and may lag by up to a minute."
     )
     public ResponseEntity<UserResponseDto> getUserById(
             @Parameter(description = "UUID of the user", required = true)
@@ -108,4 +114,22 @@ public class UserController {
         return ResponseEntity.ok(userService.getUserTopics(id, pageRequest));
     }
 
+    @GetMapping("/{id}/activity")
+    @Operation(
+            summary = "Get user's activity",
+            description = "Retrieve the topics and comments of a specific user as one timeline, newest first. " +
+                    "Pass the returned nextCursor as 'after' to continue; deleted topics and comments are left out"
+    )
+    public ResponseEntity<CursorPageResponseDto<ActivityItemDto>> getUserActivity(
+            @Parameter(description = "UUID of the user", required = true)
+            @PathVariable UUID id,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Number of items per page")
+            @RequestParam(required = false) Integer pageSize) {
+
+        userDataIntegrity.validateUserId(id);
+        return ResponseEntity.ok(userActivityService.getActivityByUserId(id, after, pageSize));
+    }
+
 }
@@ -1,5 +1,6 @@
 package org.site.forum.domain.user.dao;
 
+import org.site.forum.domain.user.dto.projection.UserActivityTotals;
 import org.site.forum.domain.user.entity.User;
 import java.util.Optional;
 import java.util.UUID;
@@ -8,5 +9,7 @@ public interface UserDao {
 
     User saveUser(User user);
     Optional<User> getUserById(UUID id);
+    void upsertUser(User user);
+    UserActivityTotals getActivityTotals(UUID userId);
 
 }
@@ -3,6 +3,7 @@ package org.site.forum.domain.user.dao;
 import lombok.AllArgsConstructor;
 import org.site.forum.common.exception.InvalidUserIdException;
 import org.site.forum.common.exception.UserAlreadyExistsException;
+import org.site.forum.domain.user.dto.projection.UserActivityTotals;
 import org.site.forum.domain.user.entity.User;
 import org.site.forum.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
@@ -34,6 +35,20 @@ public class UserDaoImpl implements UserDao {
         return userRepository.findById(id);
     }
 
+    @Override
+    public void upsertUser(User user) {
+        if (user.getId() == null) {
+            throw new InvalidUserIdException(USER_ID_CANNOT_BE_NULL);
+        }
+
+        userRepository.upsert(user.getId(), user.getName());
+    }
+
+    @Override
+    public UserActivityTotals getActivityTotals(UUID userId) {
+        return userRepository.findActivityTotals(userId);
+    }
+
     private void checkIfUserExistsByUuid(User user) {
         if (userRepository.existsById(user.getId())) {
             throw new UserAlreadyExistsException(USER_ALREADY_EXISTS);
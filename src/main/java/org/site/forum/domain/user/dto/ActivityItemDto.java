@@ -0,0 +1,29 @@
+package org.site.forum.domain.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
+import org.site.forum.domain.topic.dto.response.TopicResponseDto;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ActivityItemDto {
+
+    public static final String TYPE_TOPIC = "TOPIC";
+    public static final String TYPE_COMMENT = "COMMENT";
+
+    private String type;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSSSSS")
+    private LocalDateTime createdAt;
+    private TopicResponseDto topic;
+    private ParentCommentResponseDto comment;
+
+}
@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
 import org.site.forum.domain.topic.dto.response.TopicResponseDto;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,6 +19,11 @@ import java.util.UUID;
 public class UserResponseDto {
 
     private UUID id;
+    private String name;
+    private long topicCount;
+    private long commentCount;
+    private long receivedRating;
+    private LocalDateTime lastActivityAt;
     private List<TopicResponseDto> topics;
     private List<ParentCommentResponseDto> comments;
 
@@ -0,0 +1,12 @@
+package org.site.forum.domain.user.dto.projection;
+
+import java.time.LocalDateTime;
+
+public interface UserActivityTotals {
+
+    Long getTopicCount();
+    Long getCommentCount();
+    Long getReceivedRating();
+    LocalDateTime getLastActivityAt();
+
+}
@@ -1,9 +1,13 @@
 package org.site.forum.domain.user.repository;
 
 import org.jetbrains.annotations.NotNull;
+import org.site.forum.domain.user.dto.projection.UserActivityTotals;
 import org.site.forum.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.UUID;
 
 @Repository
@@ -11,4 +15,34 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     boolean existsById(@NotNull UUID id);
 
+    /**
+     * Inserts the user, or refreshes the stored name when it differs. Concurrent first requests of the same user
+     * both succeed, and an unchanged name writes nothing.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO users (id, name) VALUES (:id, :name)
+            ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name WHERE users.name IS DISTINCT FROM EXCLUDED.name
+            """, nativeQuery = true)
+    void upsert(UUID id, String name);
+
+    /**
+     * Profile totals over the user's live topics and comments, both read from partial indexes.
+     */
+    @Query(value = """
+            SELECT t.topic_count AS "topicCount",
+                   c.comment_count AS "commentCount",
+                   t.received_rating AS "receivedRating",
+                   GREATEST(t.last_topic_at, c.last_comment_at) AS "lastActivityAt"
+            FROM (SELECT COUNT(*) AS topic_count, COALESCE(SUM(rating), 0) AS received_rating,
+                         MAX(created_at) AS last_topic_at
+                  FROM topics
+                  WHERE author_id = :userId AND deleted_at IS NULL) t,
+                 (SELECT COUNT(*) AS comment_count, MAX(created_at) AS last_comment_at
+                  FROM comments
+                  WHERE user_id = :userId AND is_enabled) c
+            """, nativeQuery = true)
+    UserActivityTotals findActivityTotals(UUID userId);
+
 }
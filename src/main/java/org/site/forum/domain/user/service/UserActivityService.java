@@ -0,0 +1,11 @@
+package org.site.forum.domain.user.service;
+
+import org.site.forum.domain.comment.dto.response.CursorPageResponseDto;
+import org.site.forum.domain.user.dto.ActivityItemDto;
+import java.util.UUID;
+
+public interface UserActivityService {
+
+    CursorPageResponseDto<ActivityItemDto> getActivityByUserId(UUID userId, String after, Integer pageSize);
+
+}
@@ -0,0 +1,121 @@
+package org.site.forum.domain.user.service;
+
+import lombok.AllArgsConstructor;
+import org.site.forum.common.KWayMerge;
+import org.site.forum.common.KeysetCursor;
+import org.site.forum.common.MergedKeysetCursor;
+import org.site.forum.common.PageUtils;
+import org.site.forum.common.exception.InvalidUserIdException;
+import org.site.forum.domain.comment.dao.CommentDao;
+import org.site.forum.domain.comment.dto.response.CursorPageResponseDto;
+import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
+import org.site.forum.domain.file.dao.FileDao;
+import org.site.forum.domain.file.dto.projection.FileRow;
+import org.site.forum.domain.topic.dao.TopicDao;
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
+import org.site.forum.domain.topic.mapper.TopicMapper;
+import org.site.forum.domain.user.dao.UserDao;
+import org.site.forum.domain.user.dto.ActivityItemDto;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.site.forum.domain.comment.dao.CommentDaoImpl.USER_WITH_THE_SPECIFIED_ID_DOES_NOT_EXIST;
+
+/**
+ * A user's topics and comments as one timeline, newest first. Both streams are read by keyset from their own index,
+ * at most one row past the page size each, and merged; the cursor keeps the position of each stream separately.
+ */
+@Service
+@AllArgsConstructor
+@Transactional
+public class UserActivityServiceImpl implements UserActivityService {
+
+    private static final int TOPICS = 0;
+    private static final int COMMENTS = 1;
+    private static final Comparator<ActivityRow> NEWEST_FIRST = Comparator.comparing(ActivityRow::createdAt).reversed();
+
+    private final UserDao userDao;
+    private final TopicDao topicDao;
+    private final CommentDao commentDao;
+    private final FileDao fileDao;
+    private final TopicMapper topicMapper;
+
+    @Override
+    public CursorPageResponseDto<ActivityItemDto> getActivityByUserId(UUID userId, String after, Integer pageSize) {
+        int limit = PageUtils.validatePageSize(pageSize);
+        MergedKeysetCursor cursor = MergedKeysetCursor.decode(after, 2);
+        checkIfUserExists(userId);
+
+        List<ActivityRow> topics = topicDao.getTopicsByUserIdBefore(userId, cursor.get(TOPICS), limit + 1).stream()
+                .map(ActivityRow::of)
+                .toList();
+        List<ActivityRow> comments = commentDao.getCommentsByUserIdBefore(userId, cursor.get(COMMENTS), limit + 1).stream()
+                .map(ActivityRow::of)
+                .toList();
+
+        List<ActivityRow> page = KWayMerge.merge(List.of(topics, comments), NEWEST_FIRST, limit);
+        boolean hasNext = topics.size() + comments.size() > page.size();
+
+        return CursorPageResponseDto.<ActivityItemDto>builder()
+                .content(toItems(page))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? nextCursor(cursor, page).encode() : null)
+                .build();
+    }
+
+    private List<ActivityItemDto> toItems(List<ActivityRow> page) {
+        Map<UUID, List<FileRow>> filesByTopicId = fileDao.findFilesByTopicIds(page.stream()
+                .filter(row -> row.topic() != null)
+                .map(ActivityRow::id)
+                .toList());
+
+        return page.stream()
+                .map(row -> row.topic() != null
+                        ? ActivityItemDto.builder()
+                                .type(ActivityItemDto.TYPE_TOPIC)
+                                .createdAt(row.createdAt())
+                                .topic(topicMapper.toSummaryDto(row.topic(), filesByTopicId.getOrDefault(row.id(), List.of())))
+                                .build()
+                        : ActivityItemDto.builder()
+                                .type(ActivityItemDto.TYPE_COMMENT)
+                                .createdAt(row.createdAt())
+                                .comment(row.comment())
+                                .build())
+                .toList();
+    }
+
+    private MergedKeysetCursor nextCursor(MergedKeysetCursor cursor, List<ActivityRow> page) {
+        KeysetCursor[] positions = {cursor.get(TOPICS), cursor.get(COMMENTS)};
+        for (ActivityRow row : page) {
+            positions[row.topic() != null ? TOPICS : COMMENTS] = new KeysetCursor(row.createdAt(), row.id());
+        }
+
+        return new MergedKeysetCursor(Arrays.asList(positions));
+    }
+
+    private void checkIfUserExists(UUID userId) {
+        if (userDao.getUserById(userId).isEmpty()) {
+            throw new InvalidUserIdException(USER_WITH_THE_SPECIFIED_ID_DOES_NOT_EXIST);
+        }
+    }
+
+    private record ActivityRow(LocalDateTime createdAt, UUID id, TopicSummary topic, ParentCommentResponseDto comment) {
+
+        static ActivityRow of(TopicSummary topic) {
+            return new ActivityRow(topic.getCreatedAt(), topic.getId(), topic, null);
+        }
+
+        static ActivityRow of(ParentCommentResponseDto comment) {
+            return new ActivityRow(comment.getCreatedAt(), comment.getId(), null, comment);
+        }
+
+    }
+
+}
@@ -9,8 +9,10 @@ import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
 import org.site.forum.domain.comment.mapper.CommentMapper;
 import org.site.forum.domain.file.dao.FileDao;
 import org.site.forum.domain.topic.dao.TopicDao;
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
 import org.site.forum.domain.topic.dto.response.TopicResponseDto;
 import org.site.forum.domain.topic.mapper.TopicMapper;
+import org.site.forum.domain.user.cache.UserProfileCache;
 import org.site.forum.domain.user.dao.UserDao;
 import org.site.forum.domain.user.dto.UserResponseDto;
 import org.site.forum.domain.user.entity.User;
@@ -19,8 +21,10 @@ import org.site.forum.domain.user.mapper.UserMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import java.util.List;
 import java.util.UUID;
 
+import static org.site.forum.common.constant.UserConstant.PROFILE_RECENT_ITEMS;
 import static org.site.forum.domain.user.integrity.UserDataIntegrityImpl.USER_CANNOT_BE_NULL;
 
 @Service
@@ -37,6 +41,7 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final CommentMapper commentMapper;
     private final TopicMapper topicMapper;
+    private final UserProfileCache userProfileCache;
 
     @Override
     public void saveUser(User user) {
@@ -59,17 +64,15 @@ public class UserServiceImpl implements UserService {
 
         userDataIntegrity.validateUser(user);
 
-        var topics = topicDao.getAllTopicsByUserId(user.getId(), pageRequest);
-
-        return topics.map(topic -> topicMapper.toDto(topic, fileDao.findFilesByTopicId(topic.getId())));
+        return toTopicResponseDtos(topicDao.getAllTopicsByUserId(user.getId(), pageRequest));
     }
 
+    /**
+     * The user's totals and most recent items. Both are bounded, however much the user has written.
+     */
     @Override
     public UserResponseDto getUserById(UUID userId) {
-        var user = userDao.getUserById(userId)
-                .orElseThrow(() -> new InvalidUserException(USER_CANNOT_BE_NULL));
-
-        return userMapper.toUserResponseDto(user);
+        return userProfileCache.get(userId, this::loadUserProfile);
     }
 
     @Override
@@ -80,8 +83,27 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Page<TopicResponseDto> getUserTopics(UUID userId, PageRequest pageRequest) {
-        return topicDao.getAllTopicsByUserId(userId, pageRequest)
-                .map(topic -> topicMapper.toDto(topic, fileDao.findFilesByTopicId(topic.getId())));
+        return toTopicResponseDtos(topicDao.getAllTopicsByUserId(userId, pageRequest));
+    }
+
+    private UserResponseDto loadUserProfile(UUID userId) {
+        var user = userDao.getUserById(userId)
+                .orElseThrow(() -> new InvalidUserException(USER_CANNOT_BE_NULL));
+
+        var recentTopics = topicDao.getTopicsByUserIdBefore(userId, null, PROFILE_RECENT_ITEMS);
+        var filesByTopicId = fileDao.findFilesByTopicIds(recentTopics.stream().map(TopicSummary::getId).toList());
+
+        return userMapper.toUserResponseDto(user, userDao.getActivityTotals(userId),
+                recentTopics.stream()
+                        .map(topic -> topicMapper.toSummaryDto(topic, filesByTopicId.getOrDefault(topic.getId(), List.of())))
+                        .toList(),
+                commentDao.getCommentsByUserIdBefore(userId, null, PROFILE_RECENT_ITEMS));
+    }
+
+    private Page<TopicResponseDto> toTopicResponseDtos(Page<TopicSummary> topics) {
+        var filesByTopicId = fileDao.findFilesByTopicIds(topics.map(TopicSummary::getId).toList());
+
+        return topics.map(topic -> topicMapper.toSummaryDto(topic, filesByTopicId.getOrDefault(topic.getId(), List.of())));
     }
 
 }
\ No newline at end of file
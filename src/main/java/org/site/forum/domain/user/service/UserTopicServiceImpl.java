@@ -3,12 +3,14 @@ package org.site.forum.domain.user.service;
 import lombok.AllArgsConstructor;
 import org.site.forum.domain.file.dao.FileDao;
 import org.site.forum.domain.topic.dao.TopicDao;
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
 import org.site.forum.domain.topic.dto.response.TopicResponseDto;
 import org.site.forum.domain.topic.mapper.TopicMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -23,7 +25,9 @@ public class UserTopicServiceImpl implements UserTopicService {
     @Override
     public Page<TopicResponseDto> getTopicsByUserId(UUID userId, PageRequest pageRequest) {
         var topics = topicDao.getAllTopicsByUserId(userId, pageRequest);
-        return topics.map(topic -> topicMapper.toDto(topic, fileDao.findFilesByTopicId(topic.getId())));
+        var filesByTopicId = fileDao.findFilesByTopicIds(topics.map(TopicSummary::getId).toList());
+
+        return topics.map(topic -> topicMapper.toSummaryDto(topic, filesByTopicId.getOrDefault(topic.getId(), List.of())));
     }
 
 }
@@ -0,0 +1,49 @@
+package org.site.forum.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTests {
+
+    @Test
+    void testAddedValuesAreAlwaysReported() {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        List<UUID> added = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID value = UUID.randomUUID();
+            bloomFilter.add(value);
+            added.add(value);
+        }
+
+        added.forEach(value -> assertTrue(bloomFilter.mightContain(value)));
+    }
+
+    @Test
+    void testEmptyFilterContainsNothing() {
+        assertFalse(new BloomFilter(100, 0.01).mightContain(UUID.randomUUID()));
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearTheConfiguredRate() {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.add(UUID.randomUUID());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (bloomFilter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+}
@@ -0,0 +1,106 @@
+package org.site.forum.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HyperLogLogTests {
+
+    @Test
+    void testSmallCountsAreNearlyExact() {
+        HyperLogLog sketch = sketchOf(0, 100);
+
+        assertTrue(Math.abs(sketch.estimate() - 100) <= 1, "Estimate was " + sketch.estimate());
+    }
+
+    @Test
+    void testRepeatedReadersAreCountedOnce() {
+        HyperLogLog sketch = sketchOf(0, 50);
+        sketch.merge(sketchOf(0, 50));
+
+        for (int i = 0; i < 50; i++) {
+            sketch.add("reader-" + i);
+        }
+
+        assertTrue(Math.abs(sketch.estimate() - 50) <= 1, "Estimate was " + sketch.estimate());
+    }
+
+    @Test
+    void testLargeCountsStayWithinThreeStandardErrors() {
+        int readers = 200_000;
+
+        long estimate = sketchOf(0, readers).estimate();
+
+        assertTrue(Math.abs(estimate - readers) <= readers * 0.05, "Estimate was " + estimate);
+    }
+
+    @Test
+    void testMergeEstimatesTheUnion() {
+        HyperLogLog sketch = sketchOf(0, 30_000);
+        sketch.merge(sketchOf(20_000, 50_000));
+
+        long estimate = sketch.estimate();
+
+        assertTrue(Math.abs(estimate - 50_000) <= 50_000 * 0.05, "Estimate was " + estimate);
+    }
+
+    @Test
+    void testBytesRoundTrip() {
+        HyperLogLog sketch = sketchOf(0, 10_000);
+
+        HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+
+        assertEquals(HyperLogLog.REGISTERS, sketch.toBytes().length);
+        assertEquals(sketch.estimate(), restored.estimate());
+    }
+
+    @Test
+    void testFewReadersAreStoredSparse() {
+        HyperLogLog sketch = sketchOf(0, 20);
+
+        byte[] bytes = sketch.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        assertTrue(sketch.isSparse());
+        assertEquals(20 * Integer.BYTES, bytes.length);
+        assertTrue(restored.isSparse());
+        assertEquals(20, restored.estimate());
+    }
+
+    @Test
+    void testSparseSketchTurnsDenseOnceAsLargeAndEstimatesAlike() {
+        HyperLogLog dense = HyperLogLog.fromBytes(new byte[HyperLogLog.REGISTERS]);
+        HyperLogLog sparse = new HyperLogLog();
+        for (int i = 0; i < 700; i++) {
+            dense.add("reader-" + i);
+            sparse.add("reader-" + i);
+        }
+
+        assertTrue(sparse.isSparse());
+        assertEquals(dense.estimate(), sparse.estimate());
+
+        sparse.merge(sketchOf(700, 5_000));
+        dense.merge(sketchOf(700, 5_000));
+
+        assertFalse(sparse.isSparse());
+        assertArrayEquals(dense.toBytes(), sparse.toBytes());
+    }
+
+    @Test
+    void testRejectsSketchesOfAnotherPrecision() {
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[16]));
+    }
+
+    private HyperLogLog sketchOf(int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.add("reader-" + i);
+        }
+        return sketch;
+    }
+
+}
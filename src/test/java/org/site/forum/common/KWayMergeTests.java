@@ -0,0 +1,41 @@
+package org.site.forum.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KWayMergeTests {
+
+    @Test
+    void testStreamsAreInterleavedInOrder() {
+        List<Integer> merged = KWayMerge.merge(List.of(List.of(9, 6, 2), List.of(8, 7, 1), List.of(5)),
+                Comparator.reverseOrder(), 10);
+
+        assertEquals(List.of(9, 8, 7, 6, 5, 2, 1), merged);
+    }
+
+    @Test
+    void testMergeStopsAtTheLimit() {
+        List<Integer> merged = KWayMerge.merge(List.of(List.of(1, 3, 5), List.of(2, 4, 6)), Comparator.naturalOrder(), 4);
+
+        assertEquals(List.of(1, 2, 3, 4), merged);
+    }
+
+    @Test
+    void testEqualItemsComeFromTheEarlierStreamFirst() {
+        List<String> merged = KWayMerge.merge(List.of(List.of("b1"), List.of("a1", "b2")),
+                Comparator.comparing(item -> item.charAt(0)), 3);
+
+        assertEquals(List.of("a1", "b1", "b2"), merged);
+    }
+
+    @Test
+    void testEmptyStreamsMergeToNothing() {
+        assertTrue(KWayMerge.merge(List.of(List.<Integer>of(), List.<Integer>of()), Comparator.naturalOrder(), 5).isEmpty());
+    }
+
+}
@@ -0,0 +1,44 @@
+package org.site.forum.common;
+
+import org.junit.jupiter.api.Test;
+import org.site.forum.common.exception.InvalidPageException;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MergedKeysetCursorTests {
+
+    @Test
+    void testPositionsSurviveEncoding() {
+        KeysetCursor position = new KeysetCursor(LocalDateTime.of(2026, 1, 2, 3, 4, 5, 6000), UUID.randomUUID());
+
+        MergedKeysetCursor decoded = MergedKeysetCursor.decode(
+                new MergedKeysetCursor(Arrays.asList(null, position)).encode(), 2);
+
+        assertNull(decoded.get(0));
+        assertEquals(position.getCreatedAt(), decoded.get(1).getCreatedAt());
+        assertEquals(position.getId(), decoded.get(1).getId());
+    }
+
+    @Test
+    void testMissingTokenStartsEveryStream() {
+        MergedKeysetCursor decoded = MergedKeysetCursor.decode(null, 2);
+
+        assertNull(decoded.get(0));
+        assertNull(decoded.get(1));
+    }
+
+    @Test
+    void testTokenForAnotherStreamCountIsRejected() {
+        String token = new MergedKeysetCursor(Arrays.asList(null, null, null)).encode();
+
+        assertThrows(InvalidPageException.class, () -> MergedKeysetCursor.decode(token, 2));
+        assertThrows(InvalidPageException.class, () -> MergedKeysetCursor.decode("not-a-cursor.x", 2));
+    }
+
+}
@@ -0,0 +1,115 @@
+package org.site.forum.config.auth;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.site.forum.domain.user.entity.User;
+import org.site.forum.domain.user.mapper.UserMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the identity and role checks of a request against the plain JWT token and against the converted token.
+ * Opt-in, run with {@code mvn test -Dtest=AuthenticationBenchmarkTests -Dforum.benchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "forum.benchmark", matches = "true")
+class AuthenticationBenchmarkTests {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AuthenticationBenchmarkTests.class);
+    private static final int CHECKS_PER_REQUEST = 4;
+    private static final int REQUESTS = 200_000;
+    private static final int WARMUP_RUNS = 5;
+    private static final int MEASURED_RUNS = 15;
+
+    private final JwtAuthConverter jwtAuthConverter = new JwtAuthConverter();
+    private final AuthenticationService authenticationService =
+            new AuthenticationService(new UserMapper(), null, null);
+
+    private Jwt jwt;
+    private long sink;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtAuthConverter, "principleAttribute", "preferred_username");
+        ReflectionTestUtils.setField(jwtAuthConverter, "resourceId", "client");
+
+        jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject(UUID.randomUUID().toString())
+                .claim("name", "Benchmark User")
+                .claim("preferred_username", "benchmark")
+                .claim("scope", "openid profile email")
+                .claim(RoleUtils.REALM_ACCESS, Map.of(RoleUtils.ROLES, List.of("offline_access", "uma_authorization")))
+                .claim(RoleUtils.RESOURCE_ACCESS, Map.of(
+                        "account", Map.of(RoleUtils.ROLES, List.of("manage-account", "view-profile")),
+                        "client", Map.of(RoleUtils.ROLES, List.of("user"))))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void benchmarkConvertedTokenAgainstPlainJwtToken() {
+        JwtAuthenticationToken plain = new JwtAuthenticationToken(jwt, List.of(), "benchmark");
+        AbstractAuthenticationToken converted = jwtAuthConverter.convert(jwt);
+
+        double plainChecks = medianNanosPerRequest(() -> checks(plain));
+        double convertedChecks = medianNanosPerRequest(() -> checks(converted));
+        double conversion = medianNanosPerRequest(() -> sink += jwtAuthConverter.convert(jwt).hashCode());
+
+        LOGGER.info("Authentication benchmark, {} identity and role checks per request, median of {} runs",
+                CHECKS_PER_REQUEST, MEASURED_RUNS);
+        LOGGER.info("  checks on plain JWT token: {} ns per request", plainChecks);
+        LOGGER.info("  checks on converted token: {} ns per request", convertedChecks);
+        LOGGER.info("  conversion:                {} ns per request", conversion);
+
+        assertTrue(convertedChecks < plainChecks, "The converted token should make the request's checks cheaper");
+    }
+
+    private void checks(AbstractAuthenticationToken token) {
+        SecurityContextHolder.getContext().setAuthentication(token);
+        for (int check = 0; check < CHECKS_PER_REQUEST; check++) {
+            User user = authenticationService.getAuthenticatedUser();
+            sink += user.getId().getLeastSignificantBits() + (authenticationService.isAdmin() ? 1 : 0);
+        }
+    }
+
+    private double medianNanosPerRequest(Runnable request) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run(request);
+        }
+
+        long[] durations = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            durations[i] = run(request);
+        }
+
+        Arrays.sort(durations);
+        return (double) durations[MEASURED_RUNS / 2] / REQUESTS;
+    }
+
+    private long run(Runnable request) {
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            request.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+}
@@ -0,0 +1,93 @@
+package org.site.forum.config.auth;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.site.forum.domain.user.cache.KnownUserCache;
+import org.site.forum.domain.user.dao.UserDao;
+import org.site.forum.domain.user.entity.User;
+import org.site.forum.domain.user.mapper.UserMapper;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticationServiceTests {
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private UserDao userDao;
+
+    @Mock
+    private KnownUserCache knownUserCache;
+
+    @InjectMocks
+    private AuthenticationService authenticationService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User(UUID.randomUUID(), "test", null, null);
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "none").subject(user.getId().toString()).build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+        lenient().when(userMapper.toUser(jwt)).thenReturn(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testConvertedTokenIsReadWithoutTheMapper() {
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "none").subject(user.getId().toString()).build();
+        SecurityContextHolder.getContext().setAuthentication(new ForumAuthenticationToken(
+                jwt, List.of(), "test", user.getId(), "test", ForumAuthenticationToken.ROLE_CLIENT_ADMIN));
+
+        User authenticated = authenticationService.getAuthenticatedUser();
+
+        assertEquals(user.getId(), authenticated.getId());
+        assertEquals("test", authenticated.getName());
+        assertTrue(authenticationService.isAdmin());
+        verify(userMapper, never()).toUser(jwt);
+    }
+
+    @Test
+    void testKnownUserIsNotWritten() {
+        when(knownUserCache.isKnown(user.getId(), "test")).thenReturn(true);
+
+        assertEquals(user, authenticationService.getAuthenticatedAndPersistedUser());
+
+        verify(userDao, never()).upsertUser(user);
+        verify(userDao, never()).getUserById(user.getId());
+    }
+
+    @Test
+    void testUnknownUserIsUpsertedAndRemembered() {
+        when(knownUserCache.isKnown(user.getId(), "test")).thenReturn(false);
+
+        authenticationService.getAuthenticatedAndPersistedUser();
+
+        verify(userDao).upsertUser(user);
+        verify(knownUserCache).remember(user.getId(), "test");
+        verify(userDao, never()).getUserById(user.getId());
+    }
+
+}
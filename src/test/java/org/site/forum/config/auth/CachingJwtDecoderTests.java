@@ -0,0 +1,120 @@
+package org.site.forum.config.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTests {
+
+    @Mock
+    private JwtDecoder delegate;
+
+    private MutableClock clock;
+    private CachingJwtDecoder cachingJwtDecoder;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        cachingJwtDecoder = new CachingJwtDecoder(delegate, 100, new SimpleMeterRegistry(), clock);
+    }
+
+    @Test
+    void testRepeatedTokenIsVerifiedOnce() {
+        Jwt jwt = jwt(Duration.ofMinutes(5));
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        cachingJwtDecoder.decode("token");
+
+        assertSame(jwt, cachingJwtDecoder.decode("token"));
+        verify(delegate, times(1)).decode("token");
+    }
+
+    @Test
+    void testTokenIsVerifiedAgainOnceExpired() {
+        when(delegate.decode("token")).thenReturn(jwt(Duration.ofMinutes(5)));
+        cachingJwtDecoder.decode("token");
+
+        clock.advance(Duration.ofMinutes(5).plusSeconds(1));
+        cachingJwtDecoder.decode("token");
+
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    void testRejectedTokenIsNotKept() {
+        when(delegate.decode("token")).thenThrow(new BadJwtException("bad signature"));
+
+        assertThrows(BadJwtException.class, () -> cachingJwtDecoder.decode("token"));
+        assertThrows(BadJwtException.class, () -> cachingJwtDecoder.decode("token"));
+
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    void testTokenWithoutExpiryIsNotKept() {
+        when(delegate.decode("token")).thenReturn(jwt(null));
+
+        cachingJwtDecoder.decode("token");
+        cachingJwtDecoder.decode("token");
+
+        verify(delegate, times(2)).decode("token");
+    }
+
+    private Jwt jwt(Duration lifetime) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("subject")
+                .issuedAt(clock.instant())
+                .expiresAt(lifetime != null ? clock.instant().plus(lifetime) : null)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+    }
+
+}
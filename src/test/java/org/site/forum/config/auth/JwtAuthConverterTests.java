@@ -0,0 +1,91 @@
+package org.site.forum.config.auth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtAuthConverterTests {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private JwtAuthConverter jwtAuthConverter;
+
+    @BeforeEach
+    void setUp() {
+        jwtAuthConverter = new JwtAuthConverter();
+        ReflectionTestUtils.setField(jwtAuthConverter, "principleAttribute", "preferred_username");
+        ReflectionTestUtils.setField(jwtAuthConverter, "resourceId", "client");
+    }
+
+    @Test
+    void testTokenCarriesParsedIdentity() {
+        ForumAuthenticationToken token = convert(jwt(userId.toString()).build());
+
+        assertEquals(userId, token.getUserId());
+        assertEquals("Test User", token.getDisplayName());
+        assertEquals("test", token.getName());
+        assertFalse(token.isAdmin());
+    }
+
+    @Test
+    void testRealmAdminSetsAdminBit() {
+        ForumAuthenticationToken token = convert(jwt(userId.toString())
+                .claim(RoleUtils.REALM_ACCESS, Map.of(RoleUtils.ROLES, List.of(RoleUtils.ADMIN)))
+                .build());
+
+        assertEquals(ForumAuthenticationToken.ROLE_ADMIN, token.getRoles());
+        assertTrue(token.isAdmin());
+    }
+
+    @Test
+    void testClientAdminOfAnyResourceSetsClientAdminBit() {
+        ForumAuthenticationToken token = convert(jwt(userId.toString())
+                .claim(RoleUtils.RESOURCE_ACCESS, Map.of("other", Map.of(RoleUtils.ROLES, List.of(RoleUtils.CLIENT_ADMIN))))
+                .build());
+
+        assertEquals(ForumAuthenticationToken.ROLE_CLIENT_ADMIN, token.getRoles());
+        assertTrue(token.isAdmin());
+    }
+
+    @Test
+    void testClientRoleOfConfiguredResourceIsGrantedAsAuthority() {
+        ForumAuthenticationToken token = convert(jwt(userId.toString())
+                .claim(RoleUtils.RESOURCE_ACCESS, Map.of("client", Map.of(RoleUtils.ROLES, List.of(RoleUtils.ADMIN))))
+                .build());
+
+        assertTrue(token.getAuthorities().stream().anyMatch(a -> RoleUtils.ROLE_ADMIN.equals(a.getAuthority())));
+        assertEquals(ForumAuthenticationToken.ROLE_ADMIN, token.getRoles());
+    }
+
+    @Test
+    void testNonUuidSubjectFallsBackToPlainJwtToken() {
+        AbstractAuthenticationToken token = jwtAuthConverter.convert(jwt("service-account").build());
+
+        assertFalse(token instanceof ForumAuthenticationToken);
+        assertEquals("test", token.getName());
+    }
+
+    private ForumAuthenticationToken convert(Jwt jwt) {
+        return assertInstanceOf(ForumAuthenticationToken.class, jwtAuthConverter.convert(jwt));
+    }
+
+    private Jwt.Builder jwt(String subject) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .subject(subject)
+                .claim("name", "Test User")
+                .claim("preferred_username", "test");
+    }
+
+}
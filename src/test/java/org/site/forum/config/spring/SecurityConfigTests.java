@@ -0,0 +1,135 @@
+package org.site.forum.config.spring;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exercises the resource-server decoder against locally generated signing keys; the JWK set endpoint is replaced by
+ * an in-memory retriever.
+ */
+class SecurityConfigTests {
+
+    private static final String ISSUER = "http://localhost:8181/realms/forum";
+
+    private final SecurityConfig securityConfig = new SecurityConfig(null);
+    private final AtomicInteger jwkSetFetches = new AtomicInteger();
+
+    private volatile JWKSet publishedKeys;
+    private RSAKey signingKey;
+
+    @BeforeEach
+    void setUp() throws JOSEException {
+        signingKey = new RSAKeyGenerator(2048).keyID("first").generate();
+        publishedKeys = new JWKSet(signingKey.toPublicJWK());
+    }
+
+    @Test
+    void testTokenSignedWithPublishedKeyIsAccepted() throws Exception {
+        JwtDecoder jwtDecoder = jwtDecoder(Duration.ofMinutes(5), Duration.ofSeconds(30));
+
+        assertEquals("subject", jwtDecoder.decode(sign(signingKey, ISSUER)).getSubject());
+    }
+
+    @Test
+    void testTokenSignedWithUnknownKeyIsRejected() throws Exception {
+        JwtDecoder jwtDecoder = jwtDecoder(Duration.ofMinutes(5), Duration.ofSeconds(30));
+        RSAKey otherKey = new RSAKeyGenerator(2048).keyID("first").generate();
+
+        assertThrows(JwtException.class, () -> jwtDecoder.decode(sign(otherKey, ISSUER)));
+    }
+
+    @Test
+    void testTokenFromAnotherIssuerIsRejected() throws Exception {
+        JwtDecoder jwtDecoder = jwtDecoder(Duration.ofMinutes(5), Duration.ofSeconds(30));
+
+        assertThrows(JwtException.class, () -> jwtDecoder.decode(sign(signingKey, "http://localhost:8181/realms/other")));
+    }
+
+    @Test
+    void testKeySetIsFetchedOnceForManyRequests() throws Exception {
+        JwtDecoder jwtDecoder = jwtDecoder(Duration.ofMinutes(5), Duration.ofSeconds(30));
+
+        for (int i = 0; i < 20; i++) {
+            jwtDecoder.decode(sign(signingKey, ISSUER));
+        }
+
+        assertEquals(1, jwkSetFetches.get());
+    }
+
+    @Test
+    void testRotatedKeyIsPickedUp() throws Exception {
+        JwtDecoder jwtDecoder = jwtDecoder(Duration.ofMinutes(5), Duration.ofSeconds(30));
+        jwtDecoder.decode(sign(signingKey, ISSUER));
+
+        RSAKey rotatedKey = new RSAKeyGenerator(2048).keyID("second").generate();
+        publishedKeys = new JWKSet(List.of(signingKey.toPublicJWK(), rotatedKey.toPublicJWK()));
+
+        assertEquals("subject", jwtDecoder.decode(sign(rotatedKey, ISSUER)).getSubject());
+    }
+
+    @Test
+    void testKeySetIsRefreshedAheadOfExpiryWithoutRequests() throws Exception {
+        JwtDecoder jwtDecoder = jwtDecoder(Duration.ofSeconds(3), Duration.ofMillis(1500));
+        jwtDecoder.decode(sign(signingKey, ISSUER));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (jwkSetFetches.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertTrue(jwkSetFetches.get() >= 2, "The key set should have been refreshed in the background");
+    }
+
+    private JwtDecoder jwtDecoder(Duration ttl, Duration refreshAhead) throws Exception {
+        ResourceRetriever retriever = url -> {
+            jwkSetFetches.incrementAndGet();
+            return new Resource(publishedKeys.toString(), "application/json");
+        };
+        JWKSource<SecurityContext> jwkSource = securityConfig.jwkSource(
+                new URL(ISSUER + "/protocol/openid-connect/certs"), ttl, Duration.ofSeconds(1), refreshAhead,
+                Duration.ofMillis(500), retriever);
+
+        return securityConfig.jwtDecoder(jwkSource, ISSUER, 100, new SimpleMeterRegistry());
+    }
+
+    private String sign(RSAKey key, String issuer) throws JOSEException {
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+                new JWTClaimsSet.Builder()
+                        .subject("subject")
+                        .issuer(issuer)
+                        .issueTime(new Date())
+                        .expirationTime(Date.from(Instant.now().plus(Duration.ofMinutes(5))))
+                        .build());
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+
+}
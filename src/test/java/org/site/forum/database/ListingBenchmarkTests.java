@@ -0,0 +1,187 @@
+package org.site.forum.database;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.site.forum.domain.file.dao.FileDaoImpl;
+import org.site.forum.domain.file.entity.File;
+import org.site.forum.domain.file.integrity.FileDataIntegrityImpl;
+import org.site.forum.domain.file.mapper.FileMapper;
+import org.site.forum.domain.file.service.ImageModerationService;
+import org.site.forum.domain.search.dao.TopicSearchDao;
+import org.site.forum.domain.search.dao.TopicSearchDaoImpl;
+import org.site.forum.domain.search.mapper.PaginatedResponseMapper;
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
+import org.site.forum.domain.topic.entity.Topic;
+import org.site.forum.domain.topic.mapper.TopicMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares a community listing page built from hydrated entities with the projection query the listings use.
+ * Opt-in, run with {@code mvn test -Dtest=ListingBenchmarkTests -Dforum.benchmark=true [-Dforum.benchmark.page-size=50]}.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TopicSearchDaoImpl.class, PaginatedResponseMapper.class, TopicMapper.class, FileMapper.class, FileDaoImpl.class,
+        FileDataIntegrityImpl.class})
+@EnabledIfSystemProperty(named = "forum.benchmark", matches = "true")
+class ListingBenchmarkTests {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ListingBenchmarkTests.class);
+    private static final int USERS = 1_000;
+    private static final int TOPICS = 20_000;
+    private static final int PAGE_SIZE = Integer.getInteger("forum.benchmark.page-size", 50);
+    private static final int PAGES = 20;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 15;
+
+    @Autowired
+    private TopicSearchDao topicSearchDao;
+
+    @Autowired
+    private PaginatedResponseMapper paginatedResponseMapper;
+
+    @Autowired
+    private TopicMapper topicMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ImageModerationService imageModerationService;
+
+    private UUID communityId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, name)
+                SELECT gen_random_uuid(), 'benchmark' || n FROM generate_series(1, ?) n
+                """, USERS);
+        jdbcTemplate.update("""
+                INSERT INTO communities (id, title, created_at, is_enabled)
+                VALUES (gen_random_uuid(), 'benchmark', now(), true)
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO topics (id, title, content, author_id, community_id, created_at, is_enabled, rating)
+                SELECT gen_random_uuid(), 'Topic ' || n, repeat(md5(n::text) || ' ', 100), u.id, c.id,
+                       now() - n * interval '1 second', true, n % 1000
+                FROM generate_series(1, ?) n
+                JOIN (SELECT id, row_number() OVER () - 1 AS rn FROM users WHERE name LIKE 'benchmark%') u
+                  ON u.rn = n % ?
+                CROSS JOIN (SELECT id FROM communities WHERE title = 'benchmark') c
+                """, TOPICS, USERS);
+        jdbcTemplate.update("""
+                INSERT INTO files (id, minio_object_name, content_type, topic_id)
+                SELECT gen_random_uuid(), 'object', 'image/png', id FROM topics
+                """);
+        jdbcTemplate.execute("ANALYZE users, communities, topics, files");
+
+        communityId = jdbcTemplate.queryForObject("SELECT id FROM communities WHERE title = 'benchmark'", UUID.class);
+    }
+
+    @Test
+    void benchmarkProjectionAgainstEntities() {
+        Result entities = measure(this::entityPage);
+        Result projection = measure(this::projectionPage);
+
+        LOGGER.info("Listing benchmark over {} topics, page of {}, median of {} runs of {} pages",
+                TOPICS, PAGE_SIZE, MEASURED_RUNS, PAGES);
+        LOGGER.info("  entities:   {} ms, {} KB allocated per page", entities.millis(), entities.allocatedBytes() / 1024);
+        LOGGER.info("  projection: {} ms, {} KB allocated per page", projection.millis(), projection.allocatedBytes() / 1024);
+
+        assertTrue(projection.allocatedBytes() < entities.allocatedBytes(),
+                "Projection pages should allocate less than hydrated entity pages");
+    }
+
+    /**
+     * The listing as it was built before the projections: topics and their files loaded as entities, each pulling
+     * in its author and community, then mapped to DTOs.
+     */
+    private void entityPage(int page) {
+        List<Topic> topics = entityManager
+                .createQuery("SELECT t FROM Topic t WHERE t.community.id = :communityId ORDER BY t.rating DESC, t.id",
+                        Topic.class)
+                .setParameter("communityId", communityId)
+                .setFirstResult(page * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+        Map<UUID, List<File>> filesByTopicId = entityManager
+                .createQuery("SELECT f FROM File f WHERE f.topic.id IN :topicIds", File.class)
+                .setParameter("topicIds", topics.stream().map(Topic::getId).toList())
+                .getResultStream()
+                .collect(Collectors.groupingBy(file -> file.getTopic().getId()));
+
+        topics.forEach(topic -> topicMapper.toDto(topic, filesByTopicId.getOrDefault(topic.getId(), List.of())));
+    }
+
+    private void projectionPage(int page) {
+        PageRequest pageable = PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "rating"));
+        List<TopicSummary> topics = topicSearchDao.findByLike(communityId, null, pageable);
+
+        paginatedResponseMapper.toDto(new PageImpl<>(topics, pageable, TOPICS));
+    }
+
+    private Result measure(PageLoader loader) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            loadPages(loader);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long[] durations = new long[MEASURED_RUNS];
+        long[] allocations = new long[MEASURED_RUNS];
+
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            loadPages(loader);
+            durations[i] = (System.nanoTime() - start) / PAGES;
+            allocations[i] = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / PAGES;
+        }
+
+        Arrays.sort(durations);
+        Arrays.sort(allocations);
+        return new Result(durations[MEASURED_RUNS / 2] / 1_000_000.0, allocations[MEASURED_RUNS / 2]);
+    }
+
+    private void loadPages(PageLoader loader) {
+        for (int page = 0; page < PAGES; page++) {
+            loader.load(page);
+            entityManager.clear();
+        }
+    }
+
+    private interface PageLoader {
+
+        void load(int page);
+
+    }
+
+    private record Result(double millis, long allocatedBytes) {
+    }
+
+}
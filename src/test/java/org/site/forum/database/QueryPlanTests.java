@@ -0,0 +1,368 @@
+package org.site.forum.database;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.site.forum.domain.comment.repository.CommentRepository;
+import org.site.forum.domain.file.repository.FileRepository;
+import org.site.forum.domain.file.service.ImageModerationService;
+import org.site.forum.domain.rating.repository.RatingRepository;
+import org.site.forum.domain.search.dao.TopicSearchDao;
+import org.site.forum.domain.search.dao.TopicSearchDaoImpl;
+import org.site.forum.domain.search.entity.TopicSearchCriteria;
+import org.site.forum.domain.topic.repository.TopicRepository;
+import org.site.forum.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.site.forum.common.constant.SearchConstant.DEFAULT_SIMILARITY_THRESHOLD;
+import static org.site.forum.common.constant.SearchConstant.DEFAULT_SORT_BY;
+import static org.site.forum.common.constant.SearchConstant.SEARCH_MODE_FULL_TEXT;
+import static org.site.forum.common.constant.SearchConstant.SEARCH_MODE_FUZZY;
+import static org.site.forum.common.constant.SearchConstant.SORT_BY_HOT;
+import static org.site.forum.common.constant.SearchConstant.SORT_BY_RANK;
+import static org.site.forum.common.constant.SearchConstant.SORT_BY_SIMILARITY;
+
+/**
+ * Seeds enough rows for the planner to prefer indexes, then EXPLAINs the statements that the repositories and
+ * DAOs actually send. Any sequential scan in those plans fails the test.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TopicSearchDaoImpl.class, QueryPlanTests.StatementRecorderConfig.class})
+class QueryPlanTests {
+
+    private static final int USERS = 2_000;
+    private static final int COMMUNITIES = 20;
+    private static final int TOPICS = 20_000;
+    private static final int ROOT_COMMENTS = 40_000;
+    private static final String SEARCH = "c4ca4238";
+    private static final Pageable PAGE = PageRequest.of(0, 10);
+    private static final Pageable COUNTED_PAGE = PageRequest.of(0, 1);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Autowired
+    private TopicSearchDao topicSearchDao;
+
+    @MockitoBean
+    private ImageModerationService imageModerationService;
+
+    private UUID topicId;
+    private UUID commentId;
+    private UUID userId;
+    private UUID communityId;
+    private LocalDateTime createdAt;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO users (id, name)
+                SELECT gen_random_uuid(), 'user' || n FROM generate_series(1, ?) n
+                """, USERS);
+        jdbcTemplate.update("""
+                INSERT INTO communities (id, title, created_at, is_enabled)
+                SELECT gen_random_uuid(), 'community' || n, now(), true FROM generate_series(1, ?) n
+                """, COMMUNITIES);
+        jdbcTemplate.update("""
+                INSERT INTO topics (id, title, content, author_id, community_id, created_at, is_enabled, rating)
+                SELECT gen_random_uuid(), md5(n::text), 'content', u.id, c.id,
+                       now() - n * interval '1 minute', true, (n % 200) - 100
+                FROM generate_series(1, ?) n
+                JOIN (SELECT id, row_number() OVER () - 1 AS rn FROM users) u ON u.rn = n % ?
+                JOIN (SELECT id, row_number() OVER () - 1 AS rn FROM communities) c ON c.rn = n % ?
+                """, TOPICS, USERS, COMMUNITIES);
+        jdbcTemplate.update("""
+                INSERT INTO files (id, minio_object_name, content_type, topic_id)
+                SELECT gen_random_uuid(), 'object', 'image/png', id FROM topics
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO topic_views (topic_id, views, readers)
+                SELECT id, 1, 1 FROM topics
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO ratings (id, topic_id, user_id, rating_value)
+                SELECT gen_random_uuid(), id, author_id, 1 FROM topics
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO comments (id, text, created_at, is_enabled, user_id, topic_id)
+                SELECT gen_random_uuid(), 'comment', now() - n * interval '1 second', true, t.author_id, t.id
+                FROM generate_series(1, ?) n
+                JOIN (SELECT id, author_id, row_number() OVER () - 1 AS rn FROM topics) t ON t.rn = n % ?
+                """, ROOT_COMMENTS, TOPICS);
+        jdbcTemplate.update("""
+                INSERT INTO comments (id, text, created_at, is_enabled, user_id, topic_id, parent_comment_id)
+                SELECT gen_random_uuid(), 'reply', c.created_at + n * interval '1 second', true, c.user_id, c.topic_id, c.id
+                FROM comments c, generate_series(1, 2) n
+                """);
+        jdbcTemplate.execute("ANALYZE users, communities, topics, topic_views, files, ratings, comments");
+        for (String ginIndex : List.of("idx_topics_search_vector", "idx_topics_title_trgm", "idx_topics_content_trgm")) {
+            jdbcTemplate.queryForObject("SELECT gin_clean_pending_list(?::regclass)", Long.class, ginIndex);
+        }
+
+        Map<String, Object> comment = jdbcTemplate.queryForMap("""
+                SELECT c.id, c.topic_id, c.user_id, c.created_at, t.community_id
+                FROM comments c JOIN topics t ON t.id = c.topic_id
+                WHERE c.parent_comment_id IS NULL AND c.text = 'comment'
+                LIMIT 1
+                """);
+        commentId = (UUID) comment.get("id");
+        topicId = (UUID) comment.get("topic_id");
+        userId = (UUID) comment.get("user_id");
+        communityId = (UUID) comment.get("community_id");
+        createdAt = ((java.sql.Timestamp) comment.get("created_at")).toLocalDateTime();
+    }
+
+    @Test
+    void testParentCommentsByTopicUseIndex() {
+        assertNoSeqScan(() -> {
+            commentRepository.findAllParentCommentsByTopicId(topicId, COUNTED_PAGE);
+            commentRepository.findFirstParentCommentsByTopicId(topicId, PAGE);
+            commentRepository.findParentCommentsByTopicIdAfter(topicId, createdAt, commentId, PAGE);
+        });
+    }
+
+    @Test
+    void testRepliesByParentUseIndex() {
+        assertNoSeqScan(() -> {
+            commentRepository.findAllRepliesByParentCommentId(commentId, COUNTED_PAGE);
+            commentRepository.findFirstRepliesByParentCommentId(commentId, PAGE);
+            commentRepository.findRepliesByParentCommentIdAfter(commentId, createdAt, commentId, PAGE);
+        });
+    }
+
+    @Test
+    void testReplyTreeUsesIndex() {
+        assertNoSeqScan(() -> commentRepository.findReplyTree(commentId, 5, 200));
+    }
+
+    @Test
+    void testCommentsAndTopicsByUserUseIndex() {
+        assertNoSeqScan(() -> {
+            commentRepository.findAllCommentsByUserId(userId, COUNTED_PAGE);
+            commentRepository.findFirstByUserId(userId, Limit.of(10));
+            commentRepository.findByUserIdBefore(userId, createdAt, commentId, Limit.of(10));
+            topicRepository.findSummariesByAuthorId(userId, COUNTED_PAGE);
+            topicRepository.findFirstSummariesByAuthorId(userId, Limit.of(10));
+            topicRepository.findSummariesByAuthorIdBefore(userId, createdAt, topicId, Limit.of(10));
+            userRepository.findActivityTotals(userId);
+        });
+    }
+
+    @Test
+    void testFilesAndRatingsByTopicUseIndex() {
+        assertNoSeqScan(() -> {
+            fileRepository.findFilesByTopicId(topicId);
+            fileRepository.findFileRowsByTopicIdIn(List.of(topicId, UUID.randomUUID()));
+            fileRepository.countFilesByTopicId(topicId);
+            ratingRepository.findByTopicIdAndUserId(topicId, userId);
+        });
+    }
+
+    @Test
+    void testSearchSortsUseIndex() {
+        for (String sortBy : List.of(DEFAULT_SORT_BY, "title", SORT_BY_HOT)) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                Pageable page = PageRequest.of(0, 20, Sort.by(direction, sortBy));
+                assertNoSeqScan(() -> {
+                    topicSearchDao.findByLike(communityId, null, page);
+                    topicSearchDao.findByLike(null, null, page);
+                });
+            }
+        }
+    }
+
+    @Test
+    void testFullTextSearchUsesIndex() {
+        TopicSearchCriteria criteria = TopicSearchCriteria.builder().search(SEARCH).mode(SEARCH_MODE_FULL_TEXT).build();
+        assertNoSeqScan(() -> {
+            topicSearchDao.findByFullText(null, SEARCH, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, SORT_BY_RANK)));
+            topicSearchDao.countMatches(null, criteria);
+            topicSearchDao.countMatches(communityId, criteria);
+            topicSearchDao.countMatchesUpTo(null, criteria, 1000);
+        });
+    }
+
+    @Test
+    void testFuzzySearchUsesIndex() {
+        TopicSearchCriteria criteria = TopicSearchCriteria.builder()
+                .search(SEARCH)
+                .mode(SEARCH_MODE_FUZZY)
+                .similarityThreshold(DEFAULT_SIMILARITY_THRESHOLD)
+                .build();
+        assertNoSeqScan(() -> {
+            topicSearchDao.findBySimilarity(null, SEARCH, DEFAULT_SIMILARITY_THRESHOLD,
+                    PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, SORT_BY_SIMILARITY)));
+            topicSearchDao.countMatches(null, criteria);
+        });
+    }
+
+    /**
+     * Runs the queries and EXPLAINs every statement they sent, with the parameters they were bound with.
+     */
+    private void assertNoSeqScan(Runnable queries) {
+        List<StatementRecorder.RecordedStatement> statements = statementRecorder.record(queries);
+        assertFalse(statements.isEmpty(), "No statements were recorded");
+
+        for (StatementRecorder.RecordedStatement statement : statements) {
+            String plan = String.join("\n", jdbcTemplate.execute(statement::explain));
+            assertFalse(plan.contains("Seq Scan"), () -> "Sequential scan planned for:\n" + statement.sql() + "\n" + plan);
+        }
+    }
+
+    @TestConfiguration
+    static class StatementRecorderConfig {
+
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+
+    }
+
+    /**
+     * Wraps the data source so that, while recording, every prepared statement is kept together with its bind calls.
+     * A recorded statement can then be prepared again behind EXPLAIN with exactly the same parameters.
+     */
+    static class StatementRecorder implements BeanPostProcessor {
+
+        private final List<RecordedStatement> statements = new ArrayList<>();
+        private boolean recording;
+
+        List<RecordedStatement> record(Runnable queries) {
+            statements.clear();
+            recording = true;
+            try {
+                queries.run();
+            } finally {
+                recording = false;
+            }
+            return List.copyOf(statements);
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return recordingConnection(super.getConnection());
+                }
+
+                @Override
+                public Connection getConnection(String username, String password) throws SQLException {
+                    return recordingConnection(super.getConnection(username, password));
+                }
+            };
+        }
+
+        private Connection recordingConnection(Connection connection) {
+            return proxy(Connection.class, connection, (method, args, result) -> {
+                if (recording && method.getName().equals("prepareStatement")) {
+                    RecordedStatement statement = new RecordedStatement((String) args[0], new ArrayList<>());
+                    statements.add(statement);
+                    return proxy(PreparedStatement.class, (PreparedStatement) result, (bindMethod, bindArgs, bindResult) -> {
+                        if (bindMethod.getName().startsWith("set") && bindArgs != null && bindArgs.length > 1
+                                && bindArgs[0] instanceof Integer) {
+                            statement.binds().add(new Bind(bindMethod, bindArgs));
+                        }
+                        return bindResult;
+                    });
+                }
+                return result;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, Interceptor interceptor) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                try {
+                    return interceptor.after(method, args, method.invoke(target, args));
+                } catch (InvocationTargetException exception) {
+                    throw exception.getCause();
+                }
+            });
+        }
+
+        private interface Interceptor {
+
+            Object after(Method method, Object[] args, Object result);
+
+        }
+
+        private record Bind(Method method, Object[] args) {
+        }
+
+        record RecordedStatement(String sql, List<Bind> binds) {
+
+            List<String> explain(Connection connection) throws SQLException {
+                try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                    for (Bind bind : binds) {
+                        bind.method().invoke(statement, bind.args());
+                    }
+
+                    List<String> plan = new ArrayList<>();
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            plan.add(resultSet.getString(1));
+                        }
+                    }
+                    return plan;
+                } catch (ReflectiveOperationException exception) {
+                    throw new SQLException(exception);
+                }
+            }
+
+        }
+
+    }
+
+}
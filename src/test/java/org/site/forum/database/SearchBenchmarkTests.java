@@ -0,0 +1,141 @@
+package org.site.forum.database;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.site.forum.domain.file.dao.FileDaoImpl;
+import org.site.forum.domain.file.integrity.FileDataIntegrityImpl;
+import org.site.forum.domain.file.mapper.FileMapper;
+import org.site.forum.domain.file.service.ImageModerationService;
+import org.site.forum.domain.search.cache.SearchCountCache;
+import org.site.forum.domain.search.cache.SearchResultCache;
+import org.site.forum.domain.search.dao.TopicSearchDaoImpl;
+import org.site.forum.domain.search.entity.TopicSearchCriteria;
+import org.site.forum.domain.search.integrity.SearchDataIntegrityImpl;
+import org.site.forum.domain.search.mapper.PaginatedResponseMapper;
+import org.site.forum.domain.search.service.SearchService;
+import org.site.forum.domain.search.service.SearchServiceImpl;
+import org.site.forum.domain.topic.mapper.TopicMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.site.forum.common.constant.SearchConstant.SEARCH_MODE_FULL_TEXT;
+import static org.site.forum.common.constant.SearchConstant.SEARCH_MODE_LIKE;
+
+/**
+ * Compares the LIKE and full-text search paths on a generated dataset. Opt-in, run with
+ * {@code mvn test -Dtest=SearchBenchmarkTests -Dforum.benchmark=true [-Dforum.benchmark.topics=1000000]}.
+ */
+@DataJpaTest(properties = {"forum.cache.search-counts.maximum-size=0", "forum.cache.search-results.maximum-size=0"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SearchServiceImpl.class, SearchDataIntegrityImpl.class, TopicSearchDaoImpl.class,
+        PaginatedResponseMapper.class, TopicMapper.class, FileMapper.class, FileDaoImpl.class, FileDataIntegrityImpl.class,
+        SearchCountCache.class, SearchResultCache.class, SearchBenchmarkTests.MetricsConfig.class})
+@EnabledIfSystemProperty(named = "forum.benchmark", matches = "true")
+class SearchBenchmarkTests {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchBenchmarkTests.class);
+    private static final int TOPICS = Integer.getInteger("forum.benchmark.topics", 1_000_000);
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 15;
+    private static final String RARE_TERM = "zeppelin";
+    private static final String COMMON_TERM = "garden";
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ImageModerationService imageModerationService;
+
+    private UUID communityId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO users (id, name) VALUES (gen_random_uuid(), 'benchmark')");
+        jdbcTemplate.update("""
+                INSERT INTO communities (id, title, created_at, is_enabled)
+                SELECT gen_random_uuid(), 'benchmark' || n, now(), true FROM generate_series(1, 10) n
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO topics (id, title, content, author_id, community_id, created_at, is_enabled, rating)
+                SELECT gen_random_uuid(),
+                       'Topic ' || md5(n::text),
+                       (ARRAY['garden', 'kitchen', 'bicycle', 'music', 'travel'])[1 + n % 5] || ' notes ' ||
+                       CASE WHEN n % 10000 = 0 THEN ?  ELSE '' END || ' ' || repeat(md5((n * 7)::text) || ' ', 20),
+                       u.id, c.id, now() - n * interval '1 second', true, n % 500
+                FROM generate_series(1, ?) n
+                CROSS JOIN (SELECT id FROM users WHERE name = 'benchmark') u
+                JOIN (SELECT id, row_number() OVER () - 1 AS rn FROM communities WHERE title LIKE 'benchmark%') c
+                  ON c.rn = n % 10
+                """, RARE_TERM, TOPICS);
+        jdbcTemplate.execute("ANALYZE topics");
+
+        communityId = jdbcTemplate.queryForObject(
+                "SELECT id FROM communities WHERE title = 'benchmark1'", UUID.class);
+    }
+
+    @Test
+    void benchmarkFullTextAgainstLike() {
+        double likeRare = medianMillis(SEARCH_MODE_LIKE, RARE_TERM);
+        double fullTextRare = medianMillis(SEARCH_MODE_FULL_TEXT, RARE_TERM);
+        double likeCommon = medianMillis(SEARCH_MODE_LIKE, COMMON_TERM);
+        double fullTextCommon = medianMillis(SEARCH_MODE_FULL_TEXT, COMMON_TERM);
+
+        LOGGER.info("Search benchmark over {} topics, median of {} runs", TOPICS, MEASURED_RUNS);
+        LOGGER.info("  rare term   '{}': like {} ms, fulltext {} ms", RARE_TERM, likeRare, fullTextRare);
+        LOGGER.info("  common term '{}': like {} ms, fulltext {} ms", COMMON_TERM, likeCommon, fullTextCommon);
+
+        assertTrue(fullTextRare < likeRare, "Full-text search should beat LIKE for selective terms");
+    }
+
+    private double medianMillis(String mode, String search) {
+        TopicSearchCriteria criteria = TopicSearchCriteria.builder()
+                .search(search)
+                .mode(mode)
+                .sortBy("rating")
+                .sortDirection("DESC")
+                .build();
+
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            searchService.searchTopics(communityId, criteria);
+        }
+
+        long[] durations = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            searchService.searchTopics(communityId, criteria);
+            durations[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(durations);
+        return durations[MEASURED_RUNS / 2] / 1_000_000.0;
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+}
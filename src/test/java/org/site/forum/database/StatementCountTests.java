@@ -0,0 +1,245 @@
+package org.site.forum.database;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.site.forum.config.auth.AuthenticationService;
+import org.site.forum.domain.comment.dao.CommentDaoImpl;
+import org.site.forum.domain.comment.entity.Comment;
+import org.site.forum.domain.comment.integrity.CommentDataIntegrityImpl;
+import org.site.forum.domain.comment.mapper.CommentMapper;
+import org.site.forum.domain.comment.service.handler.CommentQueryHandler;
+import org.site.forum.domain.community.entity.Community;
+import org.site.forum.domain.file.dao.FileDaoImpl;
+import org.site.forum.domain.file.entity.File;
+import org.site.forum.domain.file.integrity.FileDataIntegrityImpl;
+import org.site.forum.domain.file.mapper.FileMapper;
+import org.site.forum.domain.file.service.FileService;
+import org.site.forum.domain.file.service.ImageModerationService;
+import org.site.forum.domain.search.cache.SearchResultCache;
+import org.site.forum.domain.search.index.TopicSearchIndex;
+import org.site.forum.domain.search.suggest.TopicSuggestIndex;
+import org.site.forum.domain.topic.buffer.TopicReaderBuffer;
+import org.site.forum.domain.topic.buffer.TopicViewBuffer;
+import org.site.forum.domain.topic.cache.TopicCache;
+import org.site.forum.domain.topic.dao.TopicDaoImpl;
+import org.site.forum.domain.topic.entity.Topic;
+import org.site.forum.domain.topic.integrity.TopicDataIntegrityImpl;
+import org.site.forum.domain.topic.mapper.TopicMapper;
+import org.site.forum.domain.topic.service.TopicService;
+import org.site.forum.domain.topic.service.TopicServiceImpl;
+import org.site.forum.domain.user.cache.UserProfileCache;
+import org.site.forum.domain.user.entity.User;
+import org.site.forum.domain.user.service.UserCommentService;
+import org.site.forum.domain.user.service.UserCommentServiceImpl;
+import org.site.forum.domain.user.service.UserTopicService;
+import org.site.forum.domain.user.service.UserTopicServiceImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.site.forum.constants.TestConstants.CONTENT;
+import static org.site.forum.constants.TestConstants.TITLE;
+
+/**
+ * Counts the SQL statements behind each read endpoint. Every comment and reply is written by a different user,
+ * so a relation that is loaded per row instead of by the endpoint's fetch plan pushes the count past its budget.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "forum.cache.topics.maximum-size=0",
+        "forum.cache.topics.ttl=PT1M"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TopicServiceImpl.class, TopicDaoImpl.class, TopicDataIntegrityImpl.class, TopicMapper.class, TopicCache.class,
+        FileDaoImpl.class, FileDataIntegrityImpl.class, FileMapper.class, CommentQueryHandler.class,
+        CommentDaoImpl.class, CommentDataIntegrityImpl.class, CommentMapper.class, UserCommentServiceImpl.class,
+        UserTopicServiceImpl.class, StatementCountTests.MetricsConfig.class})
+class StatementCountTests {
+
+    private static final int COMMENT_COUNT = 20;
+    private static final int REPLIES_PER_COMMENT = 3;
+    private static final PageRequest PAGE = PageRequest.of(0, 10);
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private CommentQueryHandler commentQueryHandler;
+
+    @Autowired
+    private UserCommentService userCommentService;
+
+    @Autowired
+    private UserTopicService userTopicService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private AuthenticationService authenticationService;
+
+    @MockitoBean
+    private FileService fileService;
+
+    @MockitoBean
+    private TopicSearchIndex topicSearchIndex;
+
+    @MockitoBean
+    private TopicSuggestIndex topicSuggestIndex;
+
+    @MockitoBean
+    private SearchResultCache searchResultCache;
+
+    @MockitoBean
+    private TopicViewBuffer topicViewBuffer;
+
+    @MockitoBean
+    private TopicReaderBuffer topicReaderBuffer;
+
+    @MockitoBean
+    private UserProfileCache userProfileCache;
+
+    @MockitoBean
+    private ImageModerationService imageModerationService;
+
+    private Statistics statistics;
+    private User author;
+    private Topic topic;
+    private Comment parentComment;
+
+    @BeforeEach
+    void setUp() {
+        Community community = new Community();
+        community.setTitle(TITLE);
+        community.setIsEnabled(true);
+        entityManager.persist(community);
+
+        author = persistUser();
+        topic = Topic.builder()
+                .title(TITLE)
+                .content(CONTENT)
+                .createdAt(LocalDateTime.now())
+                .isEnabled(true)
+                .rating(0)
+                .author(author)
+                .community(community)
+                .build();
+        entityManager.persist(topic);
+        entityManager.persist(File.builder().minioObjectName("object").contentType("image/png").topic(topic).build());
+
+        List<Comment> parents = new ArrayList<>();
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            Comment parent = persistComment(persistUser(), null, i);
+            parents.add(parent);
+            for (int j = 0; j < REPLIES_PER_COMMENT; j++) {
+                persistComment(persistUser(), parent, j);
+            }
+        }
+        parentComment = parents.get(0);
+
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            persistComment(author, parents.get(i), REPLIES_PER_COMMENT + i);
+        }
+
+        entityManager.flush();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testGetTopic() {
+        assertStatements(2, () -> topicService.getTopic(topic.getId()));
+    }
+
+    @Test
+    void testGetParentComments() {
+        assertStatements(3, () -> commentQueryHandler.getParentComments(topic.getId(), PAGE));
+    }
+
+    @Test
+    void testGetParentCommentsAfter() {
+        assertStatements(2, () -> commentQueryHandler.getParentCommentsAfter(topic.getId(), null, PAGE.getPageSize()));
+    }
+
+    @Test
+    void testGetReplies() {
+        assertStatements(3, () -> commentQueryHandler.getReplies(parentComment.getId(), PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void testGetRepliesAfter() {
+        assertStatements(2, () -> commentQueryHandler.getRepliesAfter(parentComment.getId(), null, 2));
+    }
+
+    @Test
+    void testGetReplyTree() {
+        assertStatements(1, () -> commentQueryHandler.getReply(parentComment.getId(), null, null));
+    }
+
+    @Test
+    void testGetUserComments() {
+        assertStatements(3, () -> userCommentService.getCommentsByUserId(author.getId(), PAGE));
+    }
+
+    @Test
+    void testGetUserTopics() {
+        assertStatements(4, () -> userTopicService.getTopicsByUserId(author.getId(), PAGE));
+    }
+
+    private void assertStatements(long budget, Runnable endpoint) {
+        entityManager.clear();
+        statistics.clear();
+
+        endpoint.run();
+
+        long statements = statistics.getPrepareStatementCount();
+        assertTrue(statements <= budget, "Expected at most " + budget + " statements, but " + statements + " ran");
+        assertEquals(0, statistics.getEntityFetchCount(), "Relations were fetched outside of the fetch plan");
+    }
+
+    private User persistUser() {
+        User user = User.builder().id(UUID.randomUUID()).name("user").build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Comment persistComment(User user, Comment parent, int offsetSeconds) {
+        Comment comment = Comment.builder()
+                .text(CONTENT)
+                .createdAt(LocalDateTime.now().plusSeconds(offsetSeconds))
+                .isEnabled(true)
+                .user(user)
+                .topic(topic)
+                .parentComment(parent)
+                .build();
+        entityManager.persist(comment);
+        return comment;
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+}
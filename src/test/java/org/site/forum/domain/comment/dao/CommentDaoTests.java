@@ -2,9 +2,12 @@ package org.site.forum.domain.comment.dao;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.site.forum.common.KeysetCursor;
 import org.site.forum.common.exception.InvalidCommentException;
 import org.site.forum.common.exception.InvalidTopicIdException;
+import org.site.forum.domain.comment.dto.projection.ReplyTreeRow;
 import org.site.forum.domain.comment.entity.Comment;
+import org.site.forum.domain.comment.mapper.CommentMapper;
 import org.site.forum.domain.file.dao.FileDao;
 import org.site.forum.domain.file.service.ImageModerationService;
 import org.site.forum.domain.topic.dao.TopicDao;
@@ -21,12 +24,17 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.site.forum.constants.TestConstants.CONTENT;
 import static org.site.forum.constants.TestConstants.CREATED_AT;
 import static org.site.forum.constants.TestConstants.TITLE;
@@ -159,5 +167,175 @@ class CommentDaoTests {
         assertEquals("Comment with the specified id does not exist", exception.getMessage());
     }
 
+    @Test
+    void testGetReplyTreeStopsAtMaxDepth(){
+        var root = commentDao.saveComment(comment);
+        var child = commentDao.saveComment(reply(root, CREATED_AT));
+        var grandChild = commentDao.saveComment(reply(child, CREATED_AT));
+        commentDao.saveComment(reply(grandChild, CREATED_AT));
+        commentDao.adjustReplyCount(grandChild.getId(), 1);
+
+        var rows = commentDao.getReplyTree(root.getId(), 2, 100);
+
+        assertEquals(3, rows.size());
+        assertEquals(root.getId(), rows.get(0).getId());
+        assertEquals(child.getId(), rows.get(1).getId());
+        assertEquals(grandChild.getId(), rows.get(2).getId());
+        assertEquals(1, rows.get(2).getReplyCount());
+    }
+
+    @Test
+    void testGetReplyTreeStopsAtMaxNodes(){
+        var root = commentDao.saveComment(comment);
+        var first = commentDao.saveComment(reply(root, CREATED_AT));
+        commentDao.saveComment(reply(root, CREATED_AT.plusMinutes(1)));
+        commentDao.saveComment(reply(first, CREATED_AT));
+        commentDao.adjustReplyCount(root.getId(), 2);
+
+        var rows = commentDao.getReplyTree(root.getId(), 5, 2);
+
+        assertEquals(2, rows.size());
+        assertEquals(2, rows.get(0).getReplyCount());
+        assertEquals(first.getId(), rows.get(1).getId());
+        assertEquals(root.getId(), rows.get(1).getParentCommentId());
+    }
+
+    @Test
+    void testGetReplyTreeCutsADeepLevelInCreationOrder(){
+        var root = commentDao.saveComment(comment);
+        var first = commentDao.saveComment(reply(root, CREATED_AT));
+        var second = commentDao.saveComment(reply(root, CREATED_AT.plusMinutes(1)));
+        for (int i = 0; i < 5; i++) {
+            commentDao.saveComment(reply(first, CREATED_AT.plusMinutes(10 + i)));
+        }
+        var earliestGrandChild = commentDao.saveComment(reply(second, CREATED_AT.plusMinutes(5)));
+
+        var rows = commentDao.getReplyTree(root.getId(), 5, 5);
+
+        assertEquals(5, rows.size());
+        assertEquals(List.of(root.getId(), first.getId(), second.getId()),
+                rows.subList(0, 3).stream().map(ReplyTreeRow::getId).toList());
+        assertEquals(earliestGrandChild.getId(), rows.get(3).getId());
+        assertEquals(first.getId(), rows.get(4).getParentCommentId());
+    }
+
+    @Test
+    void testReplyTreeCursorContinuesAfterTheLastReturnedReply(){
+        var root = commentDao.saveComment(comment);
+        var first = commentDao.saveComment(reply(root, CREATED_AT));
+        commentDao.saveComment(reply(root, CREATED_AT.plusMinutes(1)));
+        var third = commentDao.saveComment(reply(root, CREATED_AT.plusMinutes(2)));
+        commentDao.saveComment(reply(first, CREATED_AT.plusMinutes(3)));
+        commentDao.adjustReplyCount(root.getId(), 3);
+        commentDao.adjustReplyCount(first.getId(), 1);
+
+        var tree = new CommentMapper().toReplyTree(commentDao.getReplyTree(root.getId(), 5, 3));
+        var rest = commentDao.getRepliesByParentAfter(root.getId(), KeysetCursor.decode(tree.getMoreRepliesCursor()), 10);
+
+        assertEquals(2, tree.getReplies().size());
+        assertEquals(List.of(third.getId()), rest.getContent().stream().map(Comment::getId).toList());
+        assertNull(tree.getReplies().get(0).getMoreRepliesCursor());
+        assertEquals(1, tree.getReplies().get(0).getReplyCount());
+    }
+
+    @Test
+    void testGetReplyTreeWhenRootDoesNotExist(){
+        Exception exception = assertThrows(InvalidCommentException.class, () -> commentDao.getReplyTree(UUID.fromString(UUID_CONSTANT), 5, 10));
+        assertEquals("Comment with the specified id does not exist", exception.getMessage());
+    }
+
+    @Test
+    void testReconcileReplyCountsRepairsOnlyDriftedRows(){
+        var root = commentDao.saveComment(comment);
+        var child = commentDao.saveComment(reply(root, CREATED_AT));
+        commentDao.saveComment(reply(root, CREATED_AT));
+
+        var repaired = commentDao.reconcileReplyCounts(List.of(root.getId(), child.getId()));
+        var rows = commentDao.getReplyTree(root.getId(), 0, 1);
+
+        assertEquals(1, repaired);
+        assertEquals(2, rows.get(0).getReplyCount());
+    }
+
+    @Test
+    void testDisableCommentReportsOnlyTheFirstCall(){
+        var saved = commentDao.saveComment(comment);
+
+        assertTrue(commentDao.disableComment(saved.getId(), CONTENT));
+        assertFalse(commentDao.disableComment(saved.getId(), CONTENT));
+    }
+
+    @Test
+    void testGetCommentIdsAfter(){
+        var root = commentDao.saveComment(comment);
+
+        var ids = commentDao.getCommentIdsAfter(new UUID(0L, 0L), Integer.MAX_VALUE);
+
+        assertTrue(ids.contains(root.getId()));
+    }
+
+    @Test
+    void testGetParentCommentsByTopicAfterWalksAllPages(){
+        var first = commentDao.saveComment(comment);
+        var second = commentDao.saveComment(reply(null, CREATED_AT.plusMinutes(1)));
+        var third = commentDao.saveComment(reply(null, CREATED_AT.plusMinutes(1)));
+        commentDao.saveComment(reply(first, CREATED_AT));
+
+        var firstSlice = commentDao.getParentCommentsByTopicAfter(topic.getId(), null, 2);
+        var last = firstSlice.getContent().get(1);
+        var secondSlice = commentDao.getParentCommentsByTopicAfter(topic.getId(),
+                new KeysetCursor(last.getCreatedAt(), last.getId()), 2);
+
+        assertEquals(2, firstSlice.getNumberOfElements());
+        assertTrue(firstSlice.hasNext());
+        assertEquals(first.getId(), firstSlice.getContent().get(0).getId());
+        assertEquals(1, secondSlice.getNumberOfElements());
+        assertFalse(secondSlice.hasNext());
+        assertEquals(Set.of(second.getId(), third.getId()),
+                Set.of(last.getId(), secondSlice.getContent().get(0).getId()));
+    }
+
+    @Test
+    void testGetRepliesByParentAfter(){
+        var root = commentDao.saveComment(comment);
+        var first = commentDao.saveComment(reply(root, CREATED_AT));
+        var second = commentDao.saveComment(reply(root, CREATED_AT.plusMinutes(1)));
+
+        var replies = commentDao.getRepliesByParentAfter(root.getId(), new KeysetCursor(first.getCreatedAt(), first.getId()), 10);
+
+        assertEquals(1, replies.getNumberOfElements());
+        assertEquals(second.getId(), replies.getContent().get(0).getId());
+        assertFalse(replies.hasNext());
+    }
+
+    @Test
+    void testGetParentCommentsByTopicAfterWhenTopicDoesNotExist(){
+        Exception exception = assertThrows(InvalidTopicIdException.class, () -> commentDao.getParentCommentsByTopicAfter(UUID.fromString(UUID_CONSTANT), null, 10));
+        assertEquals("Topic with the specified id does not exist", exception.getMessage());
+    }
+
+    @Test
+    void testAdjustCommentCountAdvancesCommentWatermark() {
+        long before = topicDao.getCommentWatermark(topic.getId()).orElseThrow();
+
+        topicDao.adjustCommentCount(topic.getId(), 1);
+        topicDao.adjustCommentCount(topic.getId(), -1);
+
+        assertEquals(before + 2, topicDao.getCommentWatermark(topic.getId()).orElseThrow());
+        assertEquals(0, topicDao.getTopicVersion(topic.getId()).orElseThrow().getCommentCount());
+        assertEquals(0L, topicDao.getTopicVersion(topic.getId()).orElseThrow().getFileCount());
+        assertTrue(topicDao.getCommentWatermark(UUID.randomUUID()).isEmpty());
+    }
+
+    private Comment reply(Comment parent, LocalDateTime createdAt) {
+        return Comment.builder()
+                .text(CONTENT)
+                .createdAt(createdAt)
+                .isEnabled(true)
+                .user(user)
+                .topic(topic)
+                .parentComment(parent)
+                .build();
+    }
 
 }
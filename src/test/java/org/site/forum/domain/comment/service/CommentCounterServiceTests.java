@@ -0,0 +1,52 @@
+package org.site.forum.domain.comment.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.site.forum.domain.comment.dao.CommentDao;
+import org.site.forum.domain.topic.dao.TopicDao;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentCounterServiceTests {
+
+    @Mock
+    private CommentDao commentDao;
+
+    @Mock
+    private TopicDao topicDao;
+
+    @InjectMocks
+    private CommentCounterServiceImpl counterService;
+
+    @Test
+    void testReconcileReplyCountsContinuesAfterFullBatch() {
+        UUID afterId = UUID.randomUUID();
+        UUID first = UUID.randomUUID();
+        UUID last = UUID.randomUUID();
+        when(commentDao.getCommentIdsAfter(afterId, 2)).thenReturn(List.of(first, last));
+
+        UUID next = counterService.reconcileReplyCounts(afterId, 2);
+
+        assertEquals(last, next);
+        verify(commentDao).reconcileReplyCounts(List.of(first, last));
+    }
+
+    @Test
+    void testReconcileTopicCommentCountsStopsAfterPartialBatch() {
+        UUID afterId = UUID.randomUUID();
+        UUID topicId = UUID.randomUUID();
+        when(topicDao.getTopicIdsAfter(afterId, 2)).thenReturn(List.of(topicId));
+
+        UUID next = counterService.reconcileTopicCommentCounts(afterId, 2);
+
+        assertNull(next);
+        verify(topicDao).reconcileCommentCounts(List.of(topicId));
+    }
+
+}
@@ -9,6 +9,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.site.forum.common.exception.InvalidCommentRequestException;
 import org.site.forum.common.exception.UnauthorizedAccessException;
 import org.site.forum.domain.comment.dto.request.CommentRequestDto;
+import org.site.forum.domain.comment.dto.response.CursorPageResponseDto;
 import org.site.forum.domain.comment.dto.response.ParentCommentResponseDto;
 import org.site.forum.domain.comment.dto.response.ReplyResponseDto;
 import org.site.forum.domain.comment.service.handler.CommentCommandHandler;
@@ -111,11 +112,11 @@ class CommentServiceTests {
 
     @Test
     void testGetCommentByParent() {
-        when(queryHandler.getReply(UUID.fromString(UUID_CONSTANT))).thenReturn(replyResponseDto);
-        ReplyResponseDto result = commentService.getCommentByParent(UUID.fromString(UUID_CONSTANT));
+        when(queryHandler.getReply(UUID.fromString(UUID_CONSTANT), 3, 100)).thenReturn(replyResponseDto);
+        ReplyResponseDto result = commentService.getCommentByParent(UUID.fromString(UUID_CONSTANT), 3, 100);
         assertNotNull(result);
         assertEquals(replyResponseDto, result);
-        verify(queryHandler).getReply(UUID.fromString(UUID_CONSTANT));
+        verify(queryHandler).getReply(UUID.fromString(UUID_CONSTANT), 3, 100);
     }
 
     @Test
@@ -160,6 +161,21 @@ class CommentServiceTests {
         verify(queryHandler).getReplies(UUID.fromString(UUID_CONSTANT), pageable);
     }
 
+    @Test
+    void testGetRepliesByParentAfter() {
+        CursorPageResponseDto<ReplyResponseDto> slice = CursorPageResponseDto.<ReplyResponseDto>builder()
+                .content(Collections.singletonList(replyResponseDto))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("cursor")
+                .build();
+        when(queryHandler.getRepliesAfter(UUID.fromString(UUID_CONSTANT), null, 1)).thenReturn(slice);
+        CursorPageResponseDto<ReplyResponseDto> result = commentService.getRepliesByParentAfter(UUID.fromString(UUID_CONSTANT), null, 1);
+        assertEquals("cursor", result.getNextCursor());
+        assertTrue(result.isHasNext());
+        verify(queryHandler).getRepliesAfter(UUID.fromString(UUID_CONSTANT), null, 1);
+    }
+
     @Test
     void testDeleteCommentWhenUserIsNotAuthorized() {
         doThrow(new UnauthorizedAccessException(CommentCommandHandler.NOT_AUTHORIZED))
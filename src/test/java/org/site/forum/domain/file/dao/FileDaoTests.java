@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.site.forum.common.exception.FileNotFoundException;
+import org.site.forum.domain.file.dto.projection.FileRow;
 import org.site.forum.domain.file.entity.File;
 import org.site.forum.domain.file.integrity.FileDataIntegrityImpl;
 import org.site.forum.domain.file.service.ImageModerationService;
@@ -21,6 +22,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -55,10 +58,12 @@ class FileDaoTests {
 
     @BeforeEach
     void setUp() {
+        // Queries flush the fixture, so the user needs its required name and the managed copy saveUser returns.
         User user = User.builder()
                 .id(UUID.fromString(UUID_CONSTANT))
+                .name("test")
                 .build();
-        userDao.saveUser(user);
+        user = userDao.saveUser(user);
 
         topic = Topic.builder()
                 .title("title")
@@ -124,6 +129,21 @@ class FileDaoTests {
         assertEquals(file.getId(), retrievedFile.get().getId());
     }
 
+    @Test
+    @Transactional
+    void testFindFilesByTopicIds() {
+        Map<UUID, List<FileRow>> filesByTopicId = fileDao.findFilesByTopicIds(List.of(topic.getId(), UUID.randomUUID()));
+
+        assertEquals(1, filesByTopicId.size());
+        assertEquals(1, filesByTopicId.get(topic.getId()).size());
+        assertEquals(file.getId(), filesByTopicId.get(topic.getId()).get(0).getId());
+    }
+
+    @Test
+    void testFindFilesByEmptyTopicIds() {
+        assertTrue(fileDao.findFilesByTopicIds(List.of()).isEmpty());
+    }
+
     @Test
     void testFindNonExistingFile() {
         Exception exception = assertThrows(FileNotFoundException.class, () -> fileDao.getFileById(UUID.randomUUID()));
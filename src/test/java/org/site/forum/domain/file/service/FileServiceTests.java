@@ -20,6 +20,8 @@ import org.site.forum.domain.file.dao.FileDao;
 import org.site.forum.domain.file.entity.File;
 import org.site.forum.domain.file.integrity.FileDataIntegrity;
 import org.site.forum.domain.file.mapper.FileMapper;
+import org.site.forum.domain.search.cache.SearchResultCache;
+import org.site.forum.domain.topic.cache.TopicCache;
 import org.site.forum.domain.topic.entity.Topic;
 import org.site.forum.domain.user.entity.User;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -48,6 +50,8 @@ class FileServiceTests {
     @Mock private FileMapper fileMapper;
     @Mock private FileDao fileDao;
     @Mock private FileDataIntegrity fileDataIntegrity;
+    @Mock private TopicCache topicCache;
+    @Mock private SearchResultCache searchResultCache;
     @InjectMocks private FileServiceImpl fileService;
 
     @BeforeEach
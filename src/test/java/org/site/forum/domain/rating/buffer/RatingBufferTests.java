@@ -0,0 +1,90 @@
+package org.site.forum.domain.rating.buffer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RatingBufferTests {
+
+    private final UUID topicId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    private SimpleMeterRegistry meterRegistry;
+    private RatingBuffer ratingBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ratingBuffer = new RatingBuffer(true, meterRegistry);
+    }
+
+    @Test
+    void testVotesPerUserFoldIntoTheirNetEffect() {
+        ratingBuffer.record(topicId, userId, 1);
+        ratingBuffer.record(topicId, userId, 1);
+        ratingBuffer.record(topicId, userId, -1);
+
+        List<BufferedVote> votes = ratingBuffer.drain();
+
+        assertEquals(List.of(1, -1), votes.stream().map(BufferedVote::getRatingValue).toList());
+    }
+
+    @Test
+    void testRepeatedVotesKeepOneBoundedEntryPerUser() {
+        for (int i = 0; i < 10_001; i++) {
+            ratingBuffer.record(topicId, userId, 1);
+        }
+
+        assertEquals(1, ratingBuffer.depth());
+        assertEquals(List.of(1), ratingBuffer.drain().stream().map(BufferedVote::getRatingValue).toList());
+    }
+
+    @Test
+    void testDrainEmptiesTheBuffer() {
+        ratingBuffer.record(topicId, userId, 1);
+
+        ratingBuffer.drain();
+
+        assertEquals(0, ratingBuffer.depth());
+        assertTrue(ratingBuffer.drain().isEmpty());
+    }
+
+    @Test
+    void testRestoredVotesPrecedeNewerVotes() {
+        ratingBuffer.record(topicId, userId, 1);
+        List<BufferedVote> failed = ratingBuffer.drain();
+        ratingBuffer.record(topicId, userId, -1);
+
+        ratingBuffer.restore(failed);
+
+        assertEquals(List.of(1, -1), ratingBuffer.drain().stream().map(BufferedVote::getRatingValue).toList());
+    }
+
+    @Test
+    void testMetricsReflectConcurrentVotes() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        for (int i = 0; i < 1_000; i++) {
+            UUID voter = UUID.randomUUID();
+            executor.execute(() -> {
+                ratingBuffer.record(topicId, voter, 1);
+                ratingBuffer.record(topicId, voter, -1);
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1_000, meterRegistry.get(RatingBuffer.DEPTH_METRIC).gauge().value());
+        assertEquals(2_000, meterRegistry.get(RatingBuffer.VOTES_METRIC).gauge().value());
+        assertEquals(2_000, ratingBuffer.drain().size());
+    }
+
+}
@@ -0,0 +1,173 @@
+package org.site.forum.domain.rating.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.site.forum.config.auth.AuthenticationService;
+import org.site.forum.domain.file.dao.FileDao;
+import org.site.forum.domain.file.service.ImageModerationService;
+import org.site.forum.domain.rating.buffer.RatingBuffer;
+import org.site.forum.domain.rating.dao.RatingDaoImpl;
+import org.site.forum.domain.rating.integrity.RatingDataIntegrityImpl;
+import org.site.forum.domain.rating.mapper.RatingMapper;
+import org.site.forum.domain.topic.dao.TopicDaoImpl;
+import org.site.forum.domain.search.index.TopicSearchIndex;
+import org.site.forum.domain.search.cache.SearchResultCache;
+import org.site.forum.domain.search.suggest.TopicSuggestIndex;
+import org.site.forum.domain.topic.cache.TopicCache;
+import org.site.forum.domain.topic.entity.Topic;
+import org.site.forum.domain.topic.integrity.TopicDataIntegrityImpl;
+import org.site.forum.domain.topic.repository.TopicRepository;
+import org.site.forum.domain.user.cache.UserProfileCache;
+import org.site.forum.domain.user.entity.User;
+import org.site.forum.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.site.forum.constants.TestConstants.CONTENT;
+import static org.site.forum.constants.TestConstants.TITLE;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({RatingServiceImpl.class, RatingDaoImpl.class, RatingDataIntegrityImpl.class, RatingMapper.class,
+        TopicDaoImpl.class, TopicDataIntegrityImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RatingConcurrencyTests {
+
+    private static final int THREADS = 200;
+    private static final int VOTERS = 300;
+    private static final int REPEATED_VOTES = 51;
+
+    private static final ThreadLocal<User> CURRENT_USER = new ThreadLocal<>();
+
+    @Autowired
+    private RatingService ratingService;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private AuthenticationService authenticationService;
+
+    @MockitoBean
+    private FileDao fileDao;
+
+    @MockitoBean
+    private RatingBuffer ratingBuffer;
+
+    @MockitoBean
+    private TopicCache topicCache;
+
+    @MockitoBean
+    private TopicSearchIndex topicSearchIndex;
+
+    @MockitoBean
+    private TopicSuggestIndex topicSuggestIndex;
+
+    @MockitoBean
+    private SearchResultCache searchResultCache;
+
+    @MockitoBean
+    private UserProfileCache userProfileCache;
+
+    @MockitoBean
+    private ImageModerationService imageModerationService;
+
+    private final List<User> users = new ArrayList<>();
+    private Topic topic;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < VOTERS; i++) {
+            users.add(userRepository.save(User.builder().id(UUID.randomUUID()).name("voter" + i).build()));
+        }
+
+        topic = topicRepository.save(Topic.builder()
+                .title(TITLE)
+                .content(CONTENT)
+                .rating(0)
+                .author(users.get(0))
+                .build());
+
+        when(authenticationService.getAuthenticatedUser()).thenAnswer(invocation -> CURRENT_USER.get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM ratings WHERE topic_id = ?", topic.getId());
+        jdbcTemplate.update("DELETE FROM topics WHERE id = ?", topic.getId());
+        users.forEach(user -> jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId()));
+    }
+
+    @Test
+    void testConcurrentVotesFromDistinctUsersAreAllCounted() throws Exception {
+        vote(users, 1);
+
+        assertEquals(VOTERS, currentRating());
+        assertEquals(VOTERS, ratingRows());
+    }
+
+    @Test
+    void testConcurrentVotesFromOneUserAreAppliedOneAtATime() throws Exception {
+        vote(Collections.nCopies(REPEATED_VOTES, users.get(0)), 1);
+
+        assertEquals(REPEATED_VOTES % 2, currentRating());
+        assertEquals(REPEATED_VOTES % 2, ratingRows());
+    }
+
+    private void vote(List<User> voters, int value) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> votes = new ArrayList<>();
+
+        try {
+            for (User voter : voters) {
+                votes.add(executor.submit(() -> {
+                    CURRENT_USER.set(voter);
+                    start.await();
+                    ratingService.rateTopic(topic.getId(), value);
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> vote : votes) {
+                vote.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int currentRating() {
+        return jdbcTemplate.queryForObject("SELECT rating FROM topics WHERE id = ?", Integer.class, topic.getId());
+    }
+
+    private int ratingRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ratings WHERE topic_id = ?", Integer.class, topic.getId());
+    }
+
+}
@@ -0,0 +1,207 @@
+package org.site.forum.domain.rating.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.site.forum.domain.community.entity.Community;
+import org.site.forum.domain.community.repository.CommunityRepository;
+import org.site.forum.domain.file.service.ImageModerationService;
+import org.site.forum.domain.rating.buffer.BufferedVote;
+import org.site.forum.domain.rating.buffer.RatingBuffer;
+import org.site.forum.domain.rating.dao.RatingBatchDaoImpl;
+import org.site.forum.domain.rating.entity.Rating;
+import org.site.forum.domain.rating.repository.RatingRepository;
+import org.site.forum.domain.search.cache.SearchResultCache;
+import org.site.forum.domain.search.index.TopicSearchIndex;
+import org.site.forum.domain.search.suggest.TopicSuggestIndex;
+import org.site.forum.domain.topic.cache.TopicCache;
+import org.site.forum.domain.topic.entity.Topic;
+import org.site.forum.domain.topic.repository.TopicRepository;
+import org.site.forum.domain.user.cache.UserProfileCache;
+import org.site.forum.domain.user.entity.User;
+import org.site.forum.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.site.forum.constants.TestConstants.CONTENT;
+import static org.site.forum.constants.TestConstants.TITLE;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({RatingFlushServiceImpl.class, RatingBatchDaoImpl.class})
+class RatingFlushServiceTests {
+
+    @Autowired
+    private RatingFlushService ratingFlushService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Autowired
+    private CommunityRepository communityRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private TopicCache topicCache;
+
+    @MockitoBean
+    private TopicSearchIndex topicSearchIndex;
+
+    @MockitoBean
+    private TopicSuggestIndex topicSuggestIndex;
+
+    @MockitoBean
+    private SearchResultCache searchResultCache;
+
+    @MockitoBean
+    private UserProfileCache userProfileCache;
+
+    @MockitoBean
+    private ImageModerationService imageModerationService;
+
+    private User upvoter;
+    private User downvoter;
+    private User newVoter;
+    private Topic topic;
+    private Community community;
+
+    @BeforeEach
+    void setUp() {
+        upvoter = userRepository.save(User.builder().id(UUID.randomUUID()).name("upvoter").build());
+        downvoter = userRepository.save(User.builder().id(UUID.randomUUID()).name("downvoter").build());
+        newVoter = userRepository.save(User.builder().id(UUID.randomUUID()).name("newVoter").build());
+
+        community = new Community();
+        community.setTitle("ratings");
+        community.setIsEnabled(true);
+        community = communityRepository.save(community);
+
+        topic = topicRepository.save(Topic.builder()
+                .title(TITLE)
+                .content(CONTENT)
+                .rating(0)
+                .author(upvoter)
+                .community(community)
+                .build());
+
+        ratingRepository.save(Rating.builder().topic(topic).user(upvoter).ratingValue(1).build());
+        ratingRepository.save(Rating.builder().topic(topic).user(downvoter).ratingValue(-1).build());
+        ratingRepository.flush();
+        jdbcTemplate.update("UPDATE topics SET rating = 0 WHERE id = ?", topic.getId());
+    }
+
+    @Test
+    void testFlushAppliesToggleRulesAndNetDelta() {
+        ratingFlushService.flush(List.of(
+                new BufferedVote(topic.getId(), upvoter.getId(), 1),
+                new BufferedVote(topic.getId(), downvoter.getId(), 1),
+                new BufferedVote(topic.getId(), newVoter.getId(), -1)));
+
+        assertEquals(1, ratingValue(downvoter));
+        assertEquals(-1, ratingValue(newVoter));
+        assertEquals(0, ratingRows(upvoter));
+        assertEquals(-1 + 2 - 1, topicRating());
+    }
+
+    @Test
+    void testRepeatedVotesInOneWindowToggleLikeTheDirectPath() {
+        RatingBuffer ratingBuffer = new RatingBuffer(true, new SimpleMeterRegistry());
+        ratingBuffer.record(topic.getId(), newVoter.getId(), 1);
+        ratingBuffer.record(topic.getId(), newVoter.getId(), 1);
+        ratingBuffer.record(topic.getId(), upvoter.getId(), 1);
+        ratingBuffer.record(topic.getId(), upvoter.getId(), 1);
+        ratingBuffer.record(topic.getId(), downvoter.getId(), 1);
+        ratingBuffer.record(topic.getId(), downvoter.getId(), 1);
+
+        ratingFlushService.flush(ratingBuffer.drain());
+
+        assertEquals(0, ratingRows(newVoter));
+        assertEquals(1, ratingValue(upvoter));
+        assertEquals(0, ratingRows(downvoter));
+        assertEquals(1, topicRating());
+    }
+
+    @Test
+    void testVotesOnRemovedTopicsOrByUnknownUsersAreDropped() {
+        Topic removed = topicRepository.save(Topic.builder()
+                .title(TITLE)
+                .content(CONTENT)
+                .rating(0)
+                .author(upvoter)
+                .community(community)
+                .build());
+        topicRepository.flush();
+        List<BufferedVote> pending = List.of(
+                new BufferedVote(removed.getId(), newVoter.getId(), 1),
+                new BufferedVote(topic.getId(), UUID.randomUUID(), 1),
+                new BufferedVote(topic.getId(), newVoter.getId(), 1));
+        jdbcTemplate.update("DELETE FROM topics WHERE id = ?", removed.getId());
+
+        ratingFlushService.flush(pending);
+
+        assertEquals(1, ratingValue(newVoter));
+        assertEquals(1, topicRating());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ratings WHERE user_id = ?",
+                Integer.class, newVoter.getId()));
+    }
+
+    @Test
+    void testFlushInvalidatesSearchResultsOfRatedCommunities() {
+        ratingFlushService.flush(List.of(new BufferedVote(topic.getId(), newVoter.getId(), 1)));
+
+        assertEquals(1, topicRating());
+        verify(searchResultCache).invalidateCommunities(Set.of(community.getId()));
+    }
+
+    @Test
+    void testFlushInvalidatesProfilesOfRatedAuthors() {
+        ratingFlushService.flush(List.of(new BufferedVote(topic.getId(), newVoter.getId(), 1)));
+
+        verify(userProfileCache).invalidate(upvoter.getId());
+    }
+
+    @Test
+    void testFlushOfUnchangedVoteWritesNothing() {
+        ratingFlushService.flush(List.of(new BufferedVote(topic.getId(), newVoter.getId(), 0)));
+
+        assertEquals(0, ratingRows(newVoter));
+        assertEquals(0, topicRating());
+        verify(searchResultCache, never()).invalidateCommunities(any());
+        verify(userProfileCache, never()).invalidate(any());
+    }
+
+    private int ratingValue(User user) {
+        return jdbcTemplate.queryForObject("SELECT rating_value FROM ratings WHERE topic_id = ? AND user_id = ?",
+                Integer.class, topic.getId(), user.getId());
+    }
+
+    private int ratingRows(User user) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ratings WHERE topic_id = ? AND user_id = ?",
+                Integer.class, topic.getId(), user.getId());
+    }
+
+    private int topicRating() {
+        return jdbcTemplate.queryForObject("SELECT rating FROM topics WHERE id = ?", Integer.class, topic.getId());
+    }
+
+}
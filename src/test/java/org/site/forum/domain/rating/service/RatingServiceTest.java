@@ -6,14 +6,21 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.site.forum.common.exception.RatingConflictException;
 import org.site.forum.common.exception.UserNotFoundException;
 import org.site.forum.config.auth.AuthenticationService;
+import org.site.forum.domain.rating.buffer.RatingBuffer;
 import org.site.forum.domain.rating.dao.RatingDao;
 import org.site.forum.domain.rating.entity.Rating;
 import org.site.forum.domain.rating.integrity.RatingDataIntegrity;
 import org.site.forum.domain.rating.mapper.RatingMapper;
+import org.site.forum.domain.search.index.TopicSearchIndex;
+import org.site.forum.domain.search.cache.SearchResultCache;
+import org.site.forum.domain.search.suggest.TopicSuggestIndex;
+import org.site.forum.domain.topic.cache.TopicCache;
 import org.site.forum.domain.topic.dao.TopicDao;
 import org.site.forum.domain.topic.entity.Topic;
+import org.site.forum.domain.user.cache.UserProfileCache;
 import org.site.forum.domain.user.entity.User;
 
 import java.util.Optional;
@@ -36,6 +43,18 @@ class RatingServiceTest {
     private RatingMapper ratingMapper;
     @Mock
     private RatingDataIntegrity ratingDataIntegrity;
+    @Mock
+    private RatingBuffer ratingBuffer;
+    @Mock
+    private TopicCache topicCache;
+    @Mock
+    private TopicSearchIndex topicSearchIndex;
+    @Mock
+    private TopicSuggestIndex topicSuggestIndex;
+    @Mock
+    private SearchResultCache searchResultCache;
+    @Mock
+    private UserProfileCache userProfileCache;
     @InjectMocks
     private RatingServiceImpl ratingService;
 
@@ -45,15 +64,17 @@ class RatingServiceTest {
     @Test
     void rateTopic_newRating_createsRatingAndUpdatesTopic() {
         Topic topic = Topic.builder().id(topicId).rating(0).build();
-        when(ratingDao.findByPostIdAndUserId(topicId, user.getId())).thenReturn(Optional.empty());
+        when(ratingDao.findByPostIdAndUserIdForUpdate(topicId, user.getId())).thenReturn(Optional.empty());
         when(topicDao.getTopic(topicId)).thenReturn(topic);
         when(authenticationService.getAuthenticatedUser()).thenReturn(user);
         Rating newRating = Rating.builder().ratingValue(1).topic(topic).user(user).build();
         when(ratingMapper.toEntity(topic, user, 1)).thenReturn(newRating);
+        when(ratingDao.saveIfAbsent(newRating)).thenReturn(true);
+        when(topicDao.adjustRating(topicId, 1)).thenReturn(1);
 
         ratingService.rateTopic(topicId, 1);
 
-        verify(ratingDao).save(newRating);
+        verify(ratingDao).saveIfAbsent(newRating);
         assertEquals(1, topic.getRating());
     }
 
@@ -61,9 +82,10 @@ class RatingServiceTest {
     void rateTopic_existingRatingUpdates_updatesRatingAndAdjustsTopic() {
         Topic topic = Topic.builder().id(topicId).rating(1).build();
         Rating existingRating = Rating.builder().ratingValue(1).topic(topic).user(user).build();
-        when(ratingDao.findByPostIdAndUserId(topicId, user.getId())).thenReturn(Optional.of(existingRating));
+        when(ratingDao.findByPostIdAndUserIdForUpdate(topicId, user.getId())).thenReturn(Optional.of(existingRating));
         when(topicDao.getTopic(topicId)).thenReturn(topic);
         when(authenticationService.getAuthenticatedUser()).thenReturn(user);
+        when(topicDao.adjustRating(topicId, -2)).thenReturn(-1);
 
         ratingService.rateTopic(topicId, -1);
 
@@ -71,15 +93,17 @@ class RatingServiceTest {
         verify(ratingDao).save(ratingCaptor.capture());
         assertEquals(-1, ratingCaptor.getValue().getRatingValue());
         assertEquals(-1, topic.getRating());
+        verify(topicSearchIndex).adjustRating(topicId, -2);
     }
 
     @Test
     void rateTopic_existingRatingSameValue_removesRating() {
         Topic topic = Topic.builder().id(topicId).rating(1).build();
         Rating existingRating = Rating.builder().ratingValue(1).topic(topic).user(user).build();
-        when(ratingDao.findByPostIdAndUserId(topicId, user.getId())).thenReturn(Optional.of(existingRating));
+        when(ratingDao.findByPostIdAndUserIdForUpdate(topicId, user.getId())).thenReturn(Optional.of(existingRating));
         when(topicDao.getTopic(topicId)).thenReturn(topic);
         when(authenticationService.getAuthenticatedUser()).thenReturn(user);
+        when(topicDao.adjustRating(topicId, -1)).thenReturn(0);
 
         ratingService.rateTopic(topicId, 1);
 
@@ -91,9 +115,10 @@ class RatingServiceTest {
     void rateTopic_existingRatingSetToZero_removesRating() {
         Topic topic = Topic.builder().id(topicId).rating(1).build();
         Rating existingRating = Rating.builder().ratingValue(1).topic(topic).user(user).build();
-        when(ratingDao.findByPostIdAndUserId(topicId, user.getId())).thenReturn(Optional.of(existingRating));
+        when(ratingDao.findByPostIdAndUserIdForUpdate(topicId, user.getId())).thenReturn(Optional.of(existingRating));
         when(topicDao.getTopic(topicId)).thenReturn(topic);
         when(authenticationService.getAuthenticatedUser()).thenReturn(user);
+        when(topicDao.adjustRating(topicId, -1)).thenReturn(0);
 
         ratingService.rateTopic(topicId, 0);
 
@@ -103,14 +128,46 @@ class RatingServiceTest {
 
     @Test
     void rateTopic_zeroRatingNoExisting_doesNothing() {
-        when(ratingDao.findByPostIdAndUserId(topicId, user.getId())).thenReturn(Optional.empty());
+        when(ratingDao.findByPostIdAndUserIdForUpdate(topicId, user.getId())).thenReturn(Optional.empty());
         when(authenticationService.getAuthenticatedUser()).thenReturn(user);
 
         ratingService.rateTopic(topicId, 0);
 
         verify(ratingDao, never()).save(any());
         verify(ratingDao, never()).delete(any());
-        verify(topicDao, never()).saveTopic(any());
+        verify(topicDao, never()).adjustRating(any(), anyInt());
+    }
+
+    @Test
+    void rateTopic_lostInsert_throwsConflictWithoutRetrying() {
+        Topic topic = Topic.builder().id(topicId).rating(0).build();
+        Rating newRating = Rating.builder().ratingValue(1).topic(topic).user(user).build();
+        when(ratingDao.findByPostIdAndUserIdForUpdate(topicId, user.getId())).thenReturn(Optional.empty());
+        when(topicDao.getTopic(topicId)).thenReturn(topic);
+        when(authenticationService.getAuthenticatedUser()).thenReturn(user);
+        when(ratingMapper.toEntity(topic, user, 1)).thenReturn(newRating);
+        when(ratingDao.saveIfAbsent(newRating)).thenReturn(false);
+
+        assertThrows(RatingConflictException.class, () -> ratingService.rateTopic(topicId, 1));
+
+        verify(topicDao).lockTopic(topicId);
+        verify(ratingDao).saveIfAbsent(newRating);
+        verify(topicDao, never()).adjustRating(any(), anyInt());
+    }
+
+    @Test
+    void rateTopic_bufferEnabled_recordsVoteWithoutTouchingRatings() {
+        Topic topic = Topic.builder().id(topicId).rating(3).build();
+        when(authenticationService.getAuthenticatedUser()).thenReturn(user);
+        when(topicDao.getTopic(topicId)).thenReturn(topic);
+        when(ratingBuffer.isEnabled()).thenReturn(true);
+
+        Topic result = ratingService.rateTopic(topicId, 1);
+
+        assertEquals(topic, result);
+        verify(ratingBuffer).record(topicId, user.getId(), 1);
+        verifyNoInteractions(ratingDao);
+        verify(topicDao, never()).adjustRating(any(), anyInt());
     }
 
     @Test
@@ -8,11 +8,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.site.forum.common.exception.GlobalExceptionHandler;
 import org.site.forum.domain.search.integrity.SearchDataIntegrity;
+import org.site.forum.domain.search.dto.response.TopicSuggestionDto;
 import org.site.forum.domain.search.service.SearchService;
+import org.site.forum.domain.search.service.SuggestService;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +30,9 @@ class SearchControllerTest {
     @Mock
     private SearchService searchService;
 
+    @Mock
+    private SuggestService suggestService;
+
     @InjectMocks
     private SearchController searchController;
 
@@ -52,4 +62,26 @@ class SearchControllerTest {
                         .param("search", "topic"))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void testSuggestTopics_Success() throws Exception {
+        UUID communityId = UUID.fromString(dummyCommunityId);
+        UUID topicId = UUID.randomUUID();
+        when(suggestService.suggestTopics(communityId, "kub", 5))
+                .thenReturn(List.of(new TopicSuggestionDto(topicId, "Kubernetes basics", 3)));
+
+        mockMvc.perform(get("/search/suggest/" + dummyCommunityId)
+                        .param("prefix", "kub")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(topicId.toString()))
+                .andExpect(jsonPath("$[0].title").value("Kubernetes basics"));
+    }
+
+    @Test
+    void testSuggestTopicsInvalidCommunity_BadRequest() throws Exception {
+        mockMvc.perform(get("/search/suggest/not-a-uuid").param("prefix", "kub"))
+                .andExpect(status().isBadRequest());
+    }
+
 }
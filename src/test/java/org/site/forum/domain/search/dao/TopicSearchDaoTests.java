@@ -0,0 +1,233 @@
+package org.site.forum.domain.search.dao;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.site.forum.domain.community.entity.Community;
+import org.site.forum.domain.community.repository.CommunityRepository;
+import org.site.forum.domain.file.service.ImageModerationService;
+import org.site.forum.domain.search.entity.TopicSearchCriteria;
+import org.site.forum.domain.search.index.IndexedTopic;
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
+import org.site.forum.domain.topic.entity.Topic;
+import org.site.forum.domain.topic.repository.TopicRepository;
+import org.site.forum.domain.user.entity.User;
+import org.site.forum.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.site.forum.common.constant.PageConstant.CONTENT_PREVIEW_LENGTH;
+import static org.site.forum.common.constant.SearchConstant.SEARCH_MODE_FULL_TEXT;
+import static org.site.forum.common.constant.SearchConstant.SEARCH_MODE_FUZZY;
+import static org.site.forum.common.constant.SearchConstant.SEARCH_MODE_LIKE;
+import static org.site.forum.common.constant.SearchConstant.SORT_BY_RANK;
+import static org.site.forum.common.constant.SearchConstant.SORT_BY_SIMILARITY;
+import static org.site.forum.constants.TestConstants.UUID_CONSTANT;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TopicSearchDaoImpl.class)
+class TopicSearchDaoTests {
+
+    @Autowired
+    private TopicSearchDao topicSearchDao;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private CommunityRepository communityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private ImageModerationService imageModerationService;
+
+    private User user;
+    private Community community;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().id(UUID.fromString(UUID_CONSTANT)).name("test").build());
+        community = new Community();
+        community.setTitle("search");
+        community.setIsEnabled(true);
+        community = communityRepository.save(community);
+
+        topic("Gardening tips", "How to grow tomatoes on a balcony", 5);
+        topic("Tomatoes", "Tomato varieties and growing tomatoes from seed", 1);
+        topic("Cooking", "A sauce made from fresh tomatoes", 10);
+        topic("Bicycles", "Fixing a flat tyre", 3);
+        topic("Kubernetes basics", "Pods and deployments", 7);
+        topic("Deploying services", "Rolling updates on a kubernetes cluster", 2);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testMatchesStemmedWordsInTitleAndContent() {
+        List<TopicSummary> topics = topicSearchDao.findByFullText(community.getId(), "tomato", PageRequest.of(0, 10, Sort.by("title")));
+
+        assertEquals(3, topicSearchDao.countMatches(community.getId(), criteria(SEARCH_MODE_FULL_TEXT, "tomato", null)));
+        assertEquals(List.of("Cooking", "Gardening tips", "Tomatoes"), titles(topics));
+    }
+
+    @Test
+    void testSortsByRankWithTitleMatchesFirst() {
+        List<TopicSummary> topics = topicSearchDao.findByFullText(community.getId(), "tomatoes",
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, SORT_BY_RANK)));
+
+        assertEquals("Tomatoes", topics.get(0).getTitle());
+    }
+
+    @Test
+    void testSupportsWebSearchSyntax() {
+        assertEquals(List.of("Cooking"), titles(topicSearchDao.findByFullText(community.getId(), "tomatoes -grow",
+                PageRequest.of(0, 10, Sort.by("title")))));
+        assertEquals(List.of("Bicycles", "Cooking"), titles(topicSearchDao.findByFullText(community.getId(),
+                "\"fresh tomatoes\" or tyre", PageRequest.of(0, 10, Sort.by("title")))));
+    }
+
+    @Test
+    void testPagesWithinCommunity() {
+        List<TopicSummary> topics = topicSearchDao.findByFullText(community.getId(), "tomato",
+                PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "rating")));
+
+        assertEquals(List.of("Tomatoes"), titles(topics));
+    }
+
+    @Test
+    void testEmptySearchReturnsWholeCommunity() {
+        List<TopicSummary> topics = topicSearchDao.findByFullText(community.getId(), " ", PageRequest.of(0, 10, Sort.by("rating")));
+
+        assertEquals(6, topicSearchDao.countMatches(community.getId(), criteria(SEARCH_MODE_FULL_TEXT, " ", null)));
+        assertEquals(List.of("Tomatoes", "Deploying services", "Bicycles", "Gardening tips", "Kubernetes basics", "Cooking"),
+                titles(topics));
+    }
+
+    @Test
+    void testReturnsEmptyPageWhenNothingMatches() {
+        List<TopicSummary> topics = topicSearchDao.findByFullText(community.getId(), "submarine", PageRequest.of(0, 10));
+
+        assertTrue(topics.isEmpty());
+        assertEquals(0, topicSearchDao.countMatches(community.getId(), criteria(SEARCH_MODE_FULL_TEXT, "submarine", null)));
+    }
+
+    @Test
+    void testSimilarityToleratesTyposOrderedBySimilarity() {
+        List<TopicSummary> topics = topicSearchDao.findBySimilarity(community.getId(), "kubernets", 0.3,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, SORT_BY_SIMILARITY)));
+
+        assertEquals(List.of("Deploying services", "Kubernetes basics"), titles(topics));
+        assertEquals(2, topicSearchDao.countMatches(community.getId(), criteria(SEARCH_MODE_FUZZY, "kubernets", 0.3)));
+    }
+
+    @Test
+    void testSimilarityThresholdLimitsMatches() {
+        List<TopicSummary> strict = topicSearchDao.findBySimilarity(community.getId(), "kubernets", 0.95, PageRequest.of(0, 10));
+
+        assertTrue(strict.isEmpty());
+        assertEquals(3, topicSearchDao.countMatches(community.getId(), criteria(SEARCH_MODE_FUZZY, "tomatos", 0.3)));
+    }
+
+    @Test
+    void testLikeMatchesTitleOrContentCaseInsensitively() {
+        List<TopicSummary> topics = topicSearchDao.findByLike(community.getId(), "KUBERNETES", PageRequest.of(0, 10, Sort.by("title")));
+
+        assertEquals(List.of("Deploying services", "Kubernetes basics"), titles(topics));
+    }
+
+    @Test
+    void testSummariesJoinAuthorAndTruncateContent() {
+        topic("Long read", "x".repeat(CONTENT_PREVIEW_LENGTH * 2), 0);
+        entityManager.flush();
+
+        TopicSummary summary = topicSearchDao.findByLike(community.getId(), "Long read", PageRequest.of(0, 10)).get(0);
+
+        assertEquals(CONTENT_PREVIEW_LENGTH, summary.getContent().length());
+        assertEquals(user.getId(), summary.getAuthorId());
+        assertEquals("test", summary.getAuthorName());
+    }
+
+    @Test
+    void testCountsLikeMatchesInTitleOrContent() {
+        assertEquals(3, topicSearchDao.countMatches(community.getId(), criteria(SEARCH_MODE_LIKE, "TOMATO", null)));
+        assertEquals(6, topicSearchDao.countMatches(community.getId(), criteria(SEARCH_MODE_LIKE, null, null)));
+    }
+
+    @Test
+    void testCountUpToStopsAtLimit() {
+        assertEquals(2, topicSearchDao.countMatchesUpTo(community.getId(), criteria(SEARCH_MODE_LIKE, "tomato", null), 2));
+        assertEquals(3, topicSearchDao.countMatchesUpTo(community.getId(), criteria(SEARCH_MODE_LIKE, "tomato", null), 10));
+    }
+
+    @Test
+    void testEstimatesMatchesFromPlan() {
+        assertTrue(topicSearchDao.estimateMatches(community.getId(), criteria(SEARCH_MODE_FULL_TEXT, "tomato", null)) >= 1);
+    }
+
+    @Test
+    void testStreamsIndexedTopicsExceptDeletedOnes() {
+        Topic deleted = topicRepository.findAll().stream()
+                .filter(topic -> topic.getTitle().equals("Bicycles"))
+                .findFirst()
+                .orElseThrow();
+        deleted.setDeletedAt(LocalDateTime.now());
+        topicRepository.saveAndFlush(deleted);
+
+        List<IndexedTopic> indexed = new ArrayList<>();
+        topicSearchDao.streamIndexedTopics(indexed::add);
+
+        List<IndexedTopic> inCommunity = indexed.stream()
+                .filter(topic -> community.getId().equals(topic.getCommunityId()))
+                .toList();
+        assertEquals(5, inCommunity.size());
+        assertTrue(inCommunity.stream().noneMatch(topic -> topic.getId().equals(deleted.getId())));
+        assertTrue(inCommunity.stream().anyMatch(topic -> topic.getTitle().equals("Cooking") && topic.getRating() == 10));
+    }
+
+    @Test
+    void testStreamsTitlesOfCommunity() {
+        List<IndexedTopic> titles = new ArrayList<>();
+        topicSearchDao.streamIndexedTitles(community.getId(), titles::add);
+
+        assertEquals(6, titles.size());
+        assertTrue(titles.stream().allMatch(topic -> topic.getContent() == null));
+    }
+
+    private void topic(String title, String content, int rating) {
+        topicRepository.save(Topic.builder()
+                .title(title)
+                .content(content)
+                .rating(rating)
+                .author(user)
+                .community(community)
+                .build());
+    }
+
+    private List<String> titles(List<TopicSummary> topics) {
+        return topics.stream().map(TopicSummary::getTitle).toList();
+    }
+
+    private TopicSearchCriteria criteria(String mode, String search, Double similarityThreshold) {
+        return TopicSearchCriteria.builder().mode(mode).search(search).similarityThreshold(similarityThreshold).build();
+    }
+
+}
@@ -0,0 +1,264 @@
+package org.site.forum.domain.search.index;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvertedIndexTests {
+
+    private static final UUID COMMUNITY_ID = UUID.randomUUID();
+    private static final UUID OTHER_COMMUNITY_ID = UUID.randomUUID();
+
+    @TempDir
+    private Path directory;
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = InvertedIndex.open(directory);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    void testSearchMatchesAllTermsInTitleOrContent() {
+        UUID both = upsert("Kubernetes basics", "Deploying services to a cluster", 0);
+        upsert("Kubernetes networking", "Pods and ingress", 0);
+        upsert("Docker basics", "Images and containers", 0);
+
+        assertEquals(List.of(both), search("kubernetes CLUSTER", IndexSort.RELEVANCE, false).getTopicIds());
+    }
+
+    @Test
+    void testTitleMatchesRankAboveContentMatches() {
+        UUID contentMatch = upsert("Deploying services", "Notes on kubernetes", 0);
+        UUID titleMatch = upsert("Kubernetes basics", "Getting started", 0);
+
+        assertEquals(List.of(titleMatch, contentMatch), search("kubernetes", IndexSort.RELEVANCE, false).getTopicIds());
+    }
+
+    @Test
+    void testSearchIsScopedToCommunity() {
+        UUID inCommunity = upsert("Java streams", "Collectors", 0);
+        index.upsert(new IndexedTopic(UUID.randomUUID(), OTHER_COMMUNITY_ID, "Java records", "Syntax", 0));
+
+        IndexSearchResult result = search("java", IndexSort.RATING, true);
+
+        assertEquals(List.of(inCommunity), result.getTopicIds());
+        assertEquals(1, result.getTotalHits());
+    }
+
+    @Test
+    void testEmptySearchListsCommunityTopicsByRating() {
+        UUID low = upsert("First", "Content", 1);
+        UUID high = upsert("Second", "Content", 5);
+
+        assertEquals(List.of(high, low), search("", IndexSort.RATING, false).getTopicIds());
+    }
+
+    @Test
+    void testUpdateReplacesPreviousVersion() {
+        UUID topicId = upsert("Old title", "Old content", 0);
+        index.flush();
+        index.upsert(new IndexedTopic(topicId, COMMUNITY_ID, "New title", "New content", 0));
+
+        assertEquals(List.of(), search("old", IndexSort.RELEVANCE, false).getTopicIds());
+        assertEquals(List.of(topicId), search("new", IndexSort.RELEVANCE, false).getTopicIds());
+        assertEquals(1, search("title", IndexSort.RELEVANCE, false).getTotalHits());
+    }
+
+    @Test
+    void testRemovedTopicIsNotFound() {
+        UUID removed = upsert("Spring security", "Filters", 0);
+        UUID kept = upsert("Spring data", "Repositories", 0);
+        index.flush();
+
+        index.remove(removed);
+
+        assertEquals(List.of(kept), search("spring", IndexSort.RATING, true).getTopicIds());
+    }
+
+    @Test
+    void testIndexSurvivesReopen() {
+        UUID removed = upsert("Postgres indexes", "GIN and GiST", 0);
+        UUID updated = upsert("Postgres vacuum", "Dead tuples", 0);
+        index.flush();
+        index.remove(removed);
+        index.upsert(new IndexedTopic(updated, COMMUNITY_ID, "Postgres autovacuum", "Dead tuples", 0));
+        index.close();
+
+        index = InvertedIndex.open(directory);
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(updated), search("postgres", IndexSort.RELEVANCE, false).getTopicIds());
+        assertEquals(List.of(updated), search("autovacuum", IndexSort.RELEVANCE, false).getTopicIds());
+    }
+
+    @Test
+    void testTopicRemovedBeforeFlushIsNotWritten() {
+        UUID removed = upsert("Temporary", "Content", 0);
+        index.remove(removed);
+        index.close();
+
+        index = InvertedIndex.open(directory);
+
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void testMergeKeepsOnlyLiveDocuments() throws Exception {
+        UUID removed = upsert("Merge first", "Content", 0);
+        index.flush();
+        UUID kept = upsert("Merge second", "Content", 0);
+        index.flush();
+        index.remove(removed);
+        index.flush();
+
+        assertTrue(index.mergeIfNeeded(1));
+
+        assertEquals(1, index.segmentCount());
+        assertEquals(1, segmentFiles());
+        assertEquals(List.of(kept), search("merge", IndexSort.RELEVANCE, false).getTopicIds());
+
+        index.close();
+        index = InvertedIndex.open(directory);
+        assertEquals(List.of(kept), search("merge", IndexSort.RELEVANCE, false).getTopicIds());
+    }
+
+    @Test
+    void testRatingChangesReorderResults() {
+        UUID first = upsert("Rated first", "Content", 1);
+        UUID second = upsert("Rated second", "Content", 2);
+        index.flush();
+
+        index.adjustRating(first, 5);
+
+        assertEquals(List.of(first, second), search("rated", IndexSort.RATING, false).getTopicIds());
+    }
+
+    @Test
+    void testRebuildReplacesIndexAndKeepsConcurrentChanges() throws Exception {
+        upsert("Stale topic", "Content", 0);
+        index.flush();
+        UUID rebuilt = UUID.randomUUID();
+        UUID concurrent = UUID.randomUUID();
+
+        index.rebuild(consumer -> {
+            consumer.accept(new IndexedTopic(rebuilt, COMMUNITY_ID, "Rebuilt topic", "Content", 0));
+            index.upsert(new IndexedTopic(concurrent, COMMUNITY_ID, "Concurrent topic", "Content", 0));
+        }, 1);
+
+        assertEquals(2, index.size());
+        assertEquals(List.of(), search("stale", IndexSort.RELEVANCE, false).getTopicIds());
+        assertEquals(2, search("topic", IndexSort.RELEVANCE, false).getTotalHits());
+        assertEquals(1, segmentFiles());
+        assertEquals(List.of(concurrent), search("concurrent", IndexSort.RELEVANCE, false).getTopicIds());
+        assertEquals(List.of(rebuilt), search("rebuilt", IndexSort.RELEVANCE, false).getTopicIds());
+    }
+
+    @Test
+    void testPaginationUsesOffsetAndLimit() {
+        for (int i = 0; i < 5; i++) {
+            upsert("Page " + i, "Content", i);
+        }
+
+        IndexSearchResult result = index.search(COMMUNITY_ID, "page", IndexSort.RATING, true, 2, 2);
+
+        assertEquals(5, result.getTotalHits());
+        assertEquals(2, result.getTopicIds().size());
+    }
+
+    @Test
+    void testEmptySearchPageIsTheSortedSliceOfCommunityTopics() {
+        List<UUID> byRating = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            byRating.add(upsert("Topic " + i, "Content", i));
+        }
+        index.flush();
+        index.upsert(new IndexedTopic(UUID.randomUUID(), OTHER_COMMUNITY_ID, "Elsewhere", "Content", 10));
+
+        IndexSearchResult result = index.search(COMMUNITY_ID, "", IndexSort.RATING, true, 2, 2);
+
+        assertEquals(byRating.subList(2, 4), result.getTopicIds());
+        assertEquals(5, result.getTotalHits());
+    }
+
+    @Test
+    void testEmptySearchFollowsTopicsMovedOrRemoved() {
+        UUID moved = upsert("Moved", "Content", 0);
+        UUID removed = upsert("Removed", "Content", 0);
+        UUID kept = upsert("Kept", "Content", 0);
+        index.flush();
+
+        index.upsert(new IndexedTopic(moved, OTHER_COMMUNITY_ID, "Moved", "Content", 0));
+        index.remove(removed);
+
+        assertEquals(List.of(kept), search("", IndexSort.RATING, true).getTopicIds());
+        assertEquals(List.of(moved),
+                index.search(OTHER_COMMUNITY_ID, "", IndexSort.RATING, true, 0, 10).getTopicIds());
+
+        index.close();
+        index = InvertedIndex.open(directory);
+
+        assertEquals(List.of(kept), search("", IndexSort.RATING, true).getTopicIds());
+    }
+
+    @Test
+    void testMergeTakesTheSmallestSegmentsAndKeepsTheirTombstones() throws Exception {
+        UUID deleted = upsert("Deleted topic", "Content", 0);
+        for (int i = 0; i < 20; i++) {
+            upsert("Large segment " + i, "Content", 0);
+        }
+        index.flush();
+        UUID first = upsert("Small first", "Content", 0);
+        index.remove(deleted);
+        index.flush();
+        UUID second = upsert("Small second", "Content", 0);
+        index.flush();
+
+        assertTrue(index.mergeIfNeeded(2));
+
+        assertEquals(2, index.segmentCount());
+        assertEquals(2, segmentFiles());
+        assertEquals(20, search("large", IndexSort.RELEVANCE, false).getTotalHits());
+
+        index.close();
+        index = InvertedIndex.open(directory);
+
+        assertEquals(List.of(), search("deleted", IndexSort.RELEVANCE, false).getTopicIds());
+        assertEquals(Set.of(first, second), Set.copyOf(search("small", IndexSort.RELEVANCE, false).getTopicIds()));
+        assertEquals(22, index.size());
+    }
+
+    private UUID upsert(String title, String content, int rating) {
+        UUID topicId = UUID.randomUUID();
+        index.upsert(new IndexedTopic(topicId, COMMUNITY_ID, title, content, rating));
+        return topicId;
+    }
+
+    private IndexSearchResult search(String search, IndexSort sort, boolean ascending) {
+        return index.search(COMMUNITY_ID, search, sort, ascending, 0, 10);
+    }
+
+    private long segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+package org.site.forum.domain.search.mapper;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.site.forum.domain.file.dao.FileDaoImpl;
+import org.site.forum.domain.file.entity.File;
+import org.site.forum.domain.file.integrity.FileDataIntegrityImpl;
+import org.site.forum.domain.file.mapper.FileMapper;
+import org.site.forum.domain.file.repository.FileRepository;
+import org.site.forum.domain.file.service.ImageModerationService;
+import org.site.forum.domain.search.dto.response.PaginatedResponseDto;
+import org.site.forum.domain.topic.entity.Topic;
+import org.site.forum.domain.topic.mapper.TopicMapper;
+import org.site.forum.domain.topic.repository.TopicRepository;
+import org.site.forum.domain.user.entity.User;
+import org.site.forum.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.site.forum.constants.TestConstants.CONTENT;
+import static org.site.forum.constants.TestConstants.TITLE;
+import static org.site.forum.constants.TestConstants.UUID_CONSTANT;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PaginatedResponseMapper.class, TopicMapper.class, FileMapper.class, FileDaoImpl.class, FileDataIntegrityImpl.class})
+class PaginatedResponseMapperTests {
+
+    private static final int TOPIC_COUNT = 30;
+
+    @Autowired
+    private PaginatedResponseMapper paginatedResponseMapper;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private FileRepository fileRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private ImageModerationService imageModerationService;
+
+    private User user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .id(UUID.fromString(UUID_CONSTANT))
+                .name("test")
+                .build());
+
+        for (int i = 0; i < TOPIC_COUNT; i++) {
+            Topic topic = topicRepository.save(Topic.builder()
+                    .title(TITLE + i)
+                    .content(CONTENT)
+                    .rating(0)
+                    .author(user)
+                    .build());
+
+            fileRepository.save(File.builder()
+                    .minioObjectName("object" + i)
+                    .contentType("image/png")
+                    .topic(topic)
+                    .build());
+        }
+
+        entityManager.flush();
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testStatementCountDoesNotGrowWithPageSize() {
+        long smallPageStatements = countStatementsForPage(5);
+        long largePageStatements = countStatementsForPage(25);
+
+        assertEquals(smallPageStatements, largePageStatements);
+    }
+
+    @Test
+    void testFilesAreAttachedToTheirTopics() {
+        entityManager.clear();
+
+        PaginatedResponseDto response = paginatedResponseMapper.toDto(
+                topicRepository.findSummariesByAuthorId(user.getId(), PageRequest.of(0, 10, Sort.by("title"))));
+
+        assertEquals(10, response.getItems().size());
+        response.getItems().forEach(item -> assertEquals(1, item.getFiles().size()));
+        assertEquals("object0", response.getItems().get(0).getFiles().get(0).getMinioObjectName());
+    }
+
+    private long countStatementsForPage(int pageSize) {
+        entityManager.clear();
+        statistics.clear();
+
+        paginatedResponseMapper.toDto(topicRepository.findSummariesByAuthorId(user.getId(), PageRequest.of(0, pageSize)));
+
+        return statistics.getPrepareStatementCount();
+    }
+
+}
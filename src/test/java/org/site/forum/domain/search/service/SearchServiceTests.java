@@ -0,0 +1,267 @@
+package org.site.forum.domain.search.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.site.forum.common.exception.InvalidTotalModeException;
+import org.site.forum.domain.community.entity.Community;
+import org.site.forum.domain.community.repository.CommunityRepository;
+import org.site.forum.domain.file.dao.FileDaoImpl;
+import org.site.forum.domain.file.integrity.FileDataIntegrityImpl;
+import org.site.forum.domain.file.mapper.FileMapper;
+import org.site.forum.domain.file.service.ImageModerationService;
+import org.site.forum.domain.search.cache.SearchCountCache;
+import org.site.forum.domain.search.cache.SearchResultCache;
+import org.site.forum.domain.search.dao.TopicSearchDao;
+import org.site.forum.domain.search.dao.TopicSearchDaoImpl;
+import org.site.forum.domain.search.dto.response.PaginatedResponseDto;
+import org.site.forum.domain.search.entity.TopicSearchCriteria;
+import org.site.forum.domain.search.integrity.SearchDataIntegrityImpl;
+import org.site.forum.domain.search.mapper.PaginatedResponseMapper;
+import org.site.forum.domain.topic.dto.response.TopicResponseDto;
+import org.site.forum.domain.topic.entity.Topic;
+import org.site.forum.domain.topic.mapper.TopicMapper;
+import org.site.forum.domain.topic.repository.TopicRepository;
+import org.site.forum.domain.user.entity.User;
+import org.site.forum.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.site.forum.common.constant.SearchConstant.MAX_COUNTED_TOTAL;
+import static org.site.forum.common.constant.SearchConstant.SEARCH_MODE_FULL_TEXT;
+import static org.site.forum.common.constant.SearchConstant.SORT_BY_RANK;
+import static org.site.forum.common.constant.SearchConstant.TOTAL_CAPPED;
+import static org.site.forum.common.constant.SearchConstant.TOTAL_ESTIMATED;
+import static org.site.forum.common.constant.SearchConstant.TOTAL_EXACT;
+import static org.site.forum.constants.TestConstants.UUID_CONSTANT;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SearchServiceImpl.class, PaginatedResponseMapper.class, TopicMapper.class, FileMapper.class, FileDaoImpl.class,
+        FileDataIntegrityImpl.class, SearchDataIntegrityImpl.class,
+        TopicSearchDaoImpl.class, SearchCountCache.class, SearchResultCache.class,
+        SearchServiceTests.MetricsConfig.class})
+class SearchServiceTests {
+
+    private static final int TOPIC_COUNT = 25;
+
+    @Autowired
+    private SearchService searchService;
+
+    @MockitoSpyBean
+    private TopicSearchDao topicSearchDao;
+
+    @Autowired
+    private SearchResultCache searchResultCache;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private CommunityRepository communityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private ImageModerationService imageModerationService;
+
+    private Community community;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder().id(UUID.fromString(UUID_CONSTANT)).name("test").build());
+        community = new Community();
+        community.setTitle("search");
+        community.setIsEnabled(true);
+        community = communityRepository.save(community);
+
+        for (int i = 0; i < TOPIC_COUNT; i++) {
+            topicRepository.save(Topic.builder()
+                    .title(String.format("Topic %02d", i))
+                    .content("Growing tomatoes")
+                    .rating(i)
+                    .author(user)
+                    .community(community)
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testReturnsRequestedPage() {
+        PaginatedResponseDto response = search(1, null);
+
+        assertEquals(List.of("Topic 10", "Topic 11", "Topic 12", "Topic 13", "Topic 14",
+                "Topic 15", "Topic 16", "Topic 17", "Topic 18", "Topic 19"), titles(response));
+        assertEquals(TOPIC_COUNT, response.getTotalItems());
+        assertEquals(3, response.getTotalPages());
+        assertEquals(TOTAL_EXACT, response.getTotalMode());
+    }
+
+    @Test
+    void testLaterPagesReuseCachedCount() {
+        search(0, null);
+        search(1, null);
+
+        verify(topicSearchDao, times(1)).countMatches(eq(community.getId()), any());
+    }
+
+    @Test
+    void testShortFirstPageIsNotCounted() {
+        PaginatedResponseDto response = searchService.searchTopics(community.getId(),
+                TopicSearchCriteria.builder().search("Topic 0").limit(20).build());
+
+        assertEquals(10, response.getTotalItems());
+        verify(topicSearchDao, never()).countMatches(any(), any());
+    }
+
+    @Test
+    void testCappedTotalBelowCapIsExact() {
+        PaginatedResponseDto response = search(0, TOTAL_CAPPED);
+
+        assertEquals(TOPIC_COUNT, response.getTotalItems());
+        assertEquals(TOTAL_EXACT, response.getTotalMode());
+    }
+
+    @Test
+    void testCappedTotalStopsAtCap() {
+        doReturn(MAX_COUNTED_TOTAL + 1).when(topicSearchDao).countMatchesUpTo(eq(community.getId()), any(), anyLong());
+
+        PaginatedResponseDto response = search(0, TOTAL_CAPPED);
+
+        assertEquals(MAX_COUNTED_TOTAL, response.getTotalItems());
+        assertEquals(TOTAL_CAPPED, response.getTotalMode());
+        verify(topicSearchDao).countMatchesUpTo(eq(community.getId()), any(), eq(MAX_COUNTED_TOTAL + 1));
+    }
+
+    @Test
+    void testEstimatedTotalUsesPlanner() {
+        PaginatedResponseDto response = search(0, TOTAL_ESTIMATED);
+
+        assertEquals(TOTAL_ESTIMATED, response.getTotalMode());
+        verify(topicSearchDao).estimateMatches(eq(community.getId()), any());
+        verify(topicSearchDao, never()).countMatches(any(), any());
+    }
+
+    @Test
+    void testRepeatedSearchIsServedFromResultCache() {
+        TopicSearchCriteria criteria = TopicSearchCriteria.builder().search("tomatoes").mode(SEARCH_MODE_FULL_TEXT).build();
+
+        searchService.searchTopics(community.getId(), criteria);
+        searchService.searchTopics(community.getId(), criteria);
+
+        verify(topicSearchDao, times(1)).findByFullText(eq(community.getId()), any(), any());
+    }
+
+    @Test
+    void testCommunityInvalidationEvictsCachedResults() {
+        TopicSearchCriteria criteria = TopicSearchCriteria.builder()
+                .search("tomatoes").sortBy("rating").sortDirection("desc").build();
+        assertEquals("Topic 24", titles(searchService.searchTopics(community.getId(), criteria)).get(0));
+
+        topicRepository.save(Topic.builder()
+                .title("Topic 99")
+                .content("Growing tomatoes")
+                .rating(TOPIC_COUNT)
+                .author(userRepository.findById(UUID.fromString(UUID_CONSTANT)).orElseThrow())
+                .community(community)
+                .build());
+        entityManager.flush();
+
+        assertEquals("Topic 24", titles(searchService.searchTopics(community.getId(), criteria)).get(0));
+
+        searchResultCache.invalidateCommunity(community.getId());
+
+        assertEquals("Topic 99", titles(searchService.searchTopics(community.getId(), criteria)).get(0));
+    }
+
+    @Test
+    void testHotSortFavoursRecentTopicsOverOlderHigherRatedOnes() {
+        User author = userRepository.findById(UUID.fromString(UUID_CONSTANT)).orElseThrow();
+        topicRepository.save(Topic.builder().title("Old favourite").content("Growing tomatoes").rating(100)
+                .createdAt(LocalDateTime.now().minusDays(10)).author(author).community(community).build());
+        topicRepository.save(Topic.builder().title("Fresh").content("Growing tomatoes").rating(1)
+                .createdAt(LocalDateTime.now()).author(author).community(community).build());
+        topicRepository.save(Topic.builder().title("Fresh and liked").content("Growing tomatoes").rating(10)
+                .createdAt(LocalDateTime.now()).author(author).community(community).build());
+        entityManager.flush();
+
+        PaginatedResponseDto response = searchService.searchTopics(community.getId(), TopicSearchCriteria.builder()
+                .search("tomatoes").sortBy("hot").limit(3).build());
+
+        assertEquals(List.of("Fresh and liked", "Fresh", "Old favourite"), titles(response));
+    }
+
+    @Test
+    void testRankedSortsDefaultToDescending() {
+        searchService.searchTopics(community.getId(), TopicSearchCriteria.builder()
+                .search("tomatoes").mode(SEARCH_MODE_FULL_TEXT).sortBy(SORT_BY_RANK).build());
+        searchService.searchTopics(community.getId(), TopicSearchCriteria.builder()
+                .search("tomatoes").mode(SEARCH_MODE_FULL_TEXT).sortBy("rating").build());
+
+        ArgumentCaptor<Pageable> pageables = ArgumentCaptor.forClass(Pageable.class);
+        verify(topicSearchDao, times(2)).findByFullText(eq(community.getId()), any(), pageables.capture());
+        assertEquals(Sort.Direction.DESC, pageables.getAllValues().get(0).getSort().getOrderFor(SORT_BY_RANK).getDirection());
+        assertEquals(Sort.Direction.ASC, pageables.getAllValues().get(1).getSort().getOrderFor("rating").getDirection());
+    }
+
+    @Test
+    void testRejectsUnknownTotalMode() {
+        assertThrows(InvalidTotalModeException.class, () -> search(0, "approximate"));
+    }
+
+    private PaginatedResponseDto search(int offset, String totalMode) {
+        return searchService.searchTopics(community.getId(), TopicSearchCriteria.builder()
+                .search("tomatoes")
+                .offset(offset)
+                .limit(10)
+                .sortBy("title")
+                .totalMode(totalMode)
+                .build());
+    }
+
+    private List<String> titles(PaginatedResponseDto response) {
+        return response.getItems().stream().map(TopicResponseDto::getTitle).toList();
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+}
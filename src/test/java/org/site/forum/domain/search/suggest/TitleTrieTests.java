@@ -0,0 +1,105 @@
+package org.site.forum.domain.search.suggest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TitleTrieTests {
+
+    private TitleTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new TitleTrie();
+    }
+
+    @Test
+    void testSuggestsHighestRatedCompletionsFirst() {
+        put("Kubernetes basics", 3);
+        put("Kotlin coroutines", 9);
+        put("Kubernetes networking", 7);
+        put("Java streams", 20);
+
+        assertEquals(List.of("Kotlin coroutines", "Kubernetes networking", "Kubernetes basics"), titles("k", 10));
+        assertEquals(List.of("Kubernetes networking", "Kubernetes basics"), titles("KUBE", 10));
+    }
+
+    @Test
+    void testLimitsNumberOfSuggestions() {
+        for (int i = 0; i < 30; i++) {
+            put("Topic " + i, i);
+        }
+
+        assertEquals(List.of("Topic 29", "Topic 28", "Topic 27"), titles("topic", 3));
+    }
+
+    @Test
+    void testMatchesBeginningOfAnyWordOnce() {
+        put("Deploying to a kubernetes cluster", 1);
+        put("Kubernetes: the kubernetes way", 2);
+
+        assertEquals(List.of("Kubernetes: the kubernetes way", "Deploying to a kubernetes cluster"), titles("kub", 10));
+        assertEquals(List.of("Kubernetes: the kubernetes way"), titles("kubernetes the", 10));
+        assertTrue(titles("ernetes", 10).isEmpty());
+    }
+
+    @Test
+    void testRenameReplacesOldTitle() {
+        UUID topicId = put("Old title", 1);
+
+        trie.put(new Suggestion(topicId, "New title", 1));
+
+        assertTrue(titles("old", 10).isEmpty());
+        assertEquals(List.of("New title"), titles("new", 10));
+    }
+
+    @Test
+    void testRemoveAndRatingChanges() {
+        UUID removed = put("Spring security", 5);
+        UUID boosted = put("Spring data", 1);
+        put("Spring boot", 3);
+
+        trie.remove(removed);
+        trie.adjustRating(boosted, 10);
+
+        assertEquals(List.of("Spring data", "Spring boot"), titles("spring", 10));
+    }
+
+    @Test
+    void testChangesDuringLoadingWinOverLoadedRows() {
+        UUID renamed = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+
+        trie.loadOnce(consumer -> {
+            trie.put(new Suggestion(renamed, "Renamed topic", 1));
+            trie.remove(deleted);
+            consumer.accept(new Suggestion(renamed, "Original topic", 1));
+            consumer.accept(new Suggestion(deleted, "Deleted topic", 1));
+        });
+
+        assertEquals(List.of("Renamed topic"), titles("topic", 10));
+    }
+
+    @Test
+    void testBlankPrefixSuggestsNothing() {
+        put("Anything", 1);
+
+        assertTrue(titles("  ", 10).isEmpty());
+        assertTrue(titles(null, 10).isEmpty());
+    }
+
+    private UUID put(String title, int rating) {
+        UUID topicId = UUID.randomUUID();
+        trie.put(new Suggestion(topicId, title, rating));
+        return topicId;
+    }
+
+    private List<String> titles(String prefix, int limit) {
+        return trie.suggest(prefix, limit).stream().map(Suggestion::getTitle).toList();
+    }
+
+}
@@ -0,0 +1,100 @@
+package org.site.forum.domain.search.suggest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.site.forum.domain.community.entity.Community;
+import org.site.forum.domain.search.dao.TopicSearchDao;
+import org.site.forum.domain.search.index.IndexedTopic;
+import org.site.forum.domain.topic.entity.Topic;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class TopicSuggestIndexTests {
+
+    private static final UUID COMMUNITY_ID = UUID.randomUUID();
+    private static final UUID OTHER_COMMUNITY_ID = UUID.randomUUID();
+
+    @Mock
+    private TopicSearchDao topicSearchDao;
+
+    private TopicSuggestIndex topicSuggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        topicSuggestIndex = new TopicSuggestIndex(100, Duration.ofMinutes(30), topicSearchDao);
+    }
+
+    @Test
+    void testRemoveAndRatingChangesApplyToTheTopicsCommunityOnly() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        stubTitles(COMMUNITY_ID, new IndexedTopic(first, COMMUNITY_ID, "Kafka basics", "", 1),
+                new IndexedTopic(second, COMMUNITY_ID, "Kafka streams", "", 2));
+        stubTitles(OTHER_COMMUNITY_ID, new IndexedTopic(other, OTHER_COMMUNITY_ID, "Kafka connect", "", 1));
+        topicSuggestIndex.suggest(COMMUNITY_ID, "kafka", 10);
+        topicSuggestIndex.suggest(OTHER_COMMUNITY_ID, "kafka", 10);
+
+        topicSuggestIndex.adjustRating(first, 5);
+        topicSuggestIndex.remove(second);
+
+        assertEquals(List.of(first), topicIds(COMMUNITY_ID));
+        assertEquals(6, topicSuggestIndex.suggest(COMMUNITY_ID, "kafka", 10).get(0).getRating());
+        assertEquals(List.of(other), topicIds(OTHER_COMMUNITY_ID));
+    }
+
+    @Test
+    void testTopicMovedToAnotherCommunityLeavesItsPreviousTrie() {
+        UUID topicId = UUID.randomUUID();
+        stubTitles(COMMUNITY_ID, new IndexedTopic(topicId, COMMUNITY_ID, "Kafka basics", "", 0));
+        stubTitles(OTHER_COMMUNITY_ID);
+        topicSuggestIndex.suggest(COMMUNITY_ID, "kafka", 10);
+        topicSuggestIndex.suggest(OTHER_COMMUNITY_ID, "kafka", 10);
+
+        Community community = new Community();
+        community.setId(OTHER_COMMUNITY_ID);
+        topicSuggestIndex.index(Topic.builder().id(topicId).title("Kafka basics").community(community).build());
+
+        assertEquals(List.of(), topicIds(COMMUNITY_ID));
+        assertEquals(List.of(topicId), topicIds(OTHER_COMMUNITY_ID));
+    }
+
+    @Test
+    void testOnlyRequestedCommunitiesAreCached() {
+        stubTitles(COMMUNITY_ID);
+
+        topicSuggestIndex.suggest(COMMUNITY_ID, "kafka", 10);
+
+        assertTrue(topicSuggestIndex.isCached(COMMUNITY_ID));
+        assertFalse(topicSuggestIndex.isCached(OTHER_COMMUNITY_ID));
+    }
+
+    private void stubTitles(UUID communityId, IndexedTopic... topics) {
+        doAnswer(invocation -> {
+            Consumer<IndexedTopic> consumer = invocation.getArgument(1);
+            List.of(topics).forEach(consumer);
+            return null;
+        }).when(topicSearchDao).streamIndexedTitles(eq(communityId), any());
+    }
+
+    private List<UUID> topicIds(UUID communityId) {
+        return topicSuggestIndex.suggest(communityId, "kafka", 10).stream()
+                .map(Suggestion::getTopicId)
+                .toList();
+    }
+
+}
@@ -0,0 +1,77 @@
+package org.site.forum.domain.topic.buffer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopicViewBufferTests {
+
+    private final UUID topicId = UUID.randomUUID();
+
+    private SimpleMeterRegistry meterRegistry;
+    private TopicViewBuffer topicViewBuffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        topicViewBuffer = new TopicViewBuffer(meterRegistry);
+    }
+
+    @Test
+    void testViewsOfOneTopicCollapseIntoOneDelta() {
+        topicViewBuffer.record(topicId);
+        topicViewBuffer.record(topicId);
+
+        assertEquals(Map.of(topicId, 2L), topicViewBuffer.drain());
+    }
+
+    @Test
+    void testDrainEmptiesTheBuffer() {
+        topicViewBuffer.record(topicId);
+
+        topicViewBuffer.drain();
+
+        assertEquals(0, topicViewBuffer.depth());
+        assertTrue(topicViewBuffer.drain().isEmpty());
+    }
+
+    @Test
+    void testRestoreAddsToViewsRecordedSinceTheDrain() {
+        topicViewBuffer.record(topicId);
+        Map<UUID, Long> failed = topicViewBuffer.drain();
+        topicViewBuffer.record(topicId);
+
+        topicViewBuffer.restore(failed);
+
+        assertEquals(2L, topicViewBuffer.drain().get(topicId));
+    }
+
+    @Test
+    void testNoViewIsLostWhileDrainingConcurrently() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        for (int i = 0; i < 10_000; i++) {
+            executor.execute(() -> topicViewBuffer.record(topicId));
+        }
+
+        long drained = 0;
+        while (!executor.isTerminated()) {
+            executor.shutdown();
+            drained += topicViewBuffer.drain().getOrDefault(topicId, 0L);
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        drained += topicViewBuffer.drain().getOrDefault(topicId, 0L);
+
+        assertEquals(10_000, drained);
+        assertEquals(0, meterRegistry.get(TopicViewBuffer.DEPTH_METRIC).gauge().value());
+    }
+
+}
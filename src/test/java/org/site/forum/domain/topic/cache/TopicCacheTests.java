@@ -0,0 +1,81 @@
+package org.site.forum.domain.topic.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.site.forum.domain.topic.dto.response.TopicResponseDto;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopicCacheTests {
+
+    private MeterRegistry meterRegistry;
+    private TopicCache topicCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        topicCache = new TopicCache(100, Duration.ofMinutes(1), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void testRecordsHitsAndMisses() {
+        UUID topicId = UUID.randomUUID();
+
+        topicCache.get(topicId, this::load);
+        topicCache.get(topicId, this::load);
+        topicCache.get(topicId, this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", TopicCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", TopicCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testInvalidateForcesReload() {
+        UUID topicId = UUID.randomUUID();
+
+        topicCache.get(topicId, this::load);
+        topicCache.invalidate(topicId);
+        topicCache.get(topicId, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testInvalidateInsideTransactionIsRepeatedAfterCommit() {
+        UUID topicId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            topicCache.invalidate(topicId);
+            topicCache.get(topicId, this::load);
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertEquals(1, synchronizations.size());
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        topicCache.get(topicId, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    private TopicResponseDto load(UUID topicId) {
+        loads.incrementAndGet();
+        return TopicResponseDto.builder().id(topicId).build();
+    }
+
+}
@@ -0,0 +1,92 @@
+package org.site.forum.domain.topic.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.site.forum.common.exception.GlobalExceptionHandler;
+import org.site.forum.domain.topic.dto.response.TopicResponseDto;
+import org.site.forum.domain.topic.service.TopicService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import java.util.UUID;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TopicControllerTest {
+
+    private static final String ETAG = "W/\"5d41402abc4b2a76b9719d911017c592\"";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private TopicService topicService;
+
+    @InjectMocks
+    private TopicController topicController;
+
+    private final UUID topicId = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(topicController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void testGetTopicReturnsETag() throws Exception {
+        when(topicService.getTopicETag(topicId)).thenReturn(ETAG);
+        when(topicService.getTopic(topicId)).thenReturn(TopicResponseDto.builder().id(topicId).build());
+
+        mockMvc.perform(get("/topics/{id}", topicId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(jsonPath("$.id").value(topicId.toString()));
+    }
+
+    @Test
+    void testGetTopicReturnsNotModifiedWithoutLoadingTopic() throws Exception {
+        when(topicService.getTopicETag(topicId)).thenReturn(ETAG);
+
+        mockMvc.perform(get("/topics/{id}", topicId).header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(content().string(""));
+
+        verify(topicService, never()).getTopic(topicId);
+        verify(topicService).recordView(topicId);
+    }
+
+    @Test
+    void testGetTopicDoesNotRecordViewsOfUnknownTopics() throws Exception {
+        when(topicService.getTopicETag(topicId)).thenReturn(null);
+        when(topicService.getTopic(topicId)).thenReturn(TopicResponseDto.builder().id(topicId).build());
+
+        mockMvc.perform(get("/topics/{id}", topicId));
+
+        verify(topicService, never()).recordView(topicId);
+    }
+
+    @Test
+    void testGetTopicReturnsBodyWhenETagChanged() throws Exception {
+        when(topicService.getTopicETag(topicId)).thenReturn(ETAG);
+        when(topicService.getTopic(topicId)).thenReturn(TopicResponseDto.builder().id(topicId).build());
+
+        mockMvc.perform(get("/topics/{id}", topicId).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG));
+    }
+
+}
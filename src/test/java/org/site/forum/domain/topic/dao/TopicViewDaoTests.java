@@ -0,0 +1,88 @@
+package org.site.forum.domain.topic.dao;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.site.forum.domain.file.service.ImageModerationService;
+import org.site.forum.domain.topic.entity.Topic;
+import org.site.forum.domain.topic.repository.TopicRepository;
+import org.site.forum.domain.user.entity.User;
+import org.site.forum.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.site.forum.constants.TestConstants.CONTENT;
+import static org.site.forum.constants.TestConstants.TITLE;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TopicViewDaoImpl.class)
+class TopicViewDaoTests {
+
+    @Autowired
+    private TopicViewDao topicViewDao;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ImageModerationService imageModerationService;
+
+    private Topic topic;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder().id(UUID.randomUUID()).name("test").build());
+        topic = topicRepository.saveAndFlush(Topic.builder()
+                .title(TITLE)
+                .content(CONTENT)
+                .rating(0)
+                .author(user)
+                .build());
+    }
+
+    @Test
+    void testFlushesAccumulate() {
+        topicViewDao.addViews(Map.of(topic.getId(), 3L));
+        topicViewDao.addViews(Map.of(topic.getId(), 4L));
+
+        assertEquals(7L, views(topic.getId()));
+    }
+
+    @Test
+    void testViewsOfUnknownTopicsAreDropped() {
+        topicViewDao.addViews(Map.of(topic.getId(), 1L, UUID.randomUUID(), 5L));
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM topic_views", Integer.class));
+    }
+
+    @Test
+    void testTopicExposesItsFlushedViews() {
+        topicViewDao.addViews(Map.of(topic.getId(), 2L));
+        entityManager.clear();
+
+        assertEquals(2L, topicRepository.findDetailById(topic.getId()).orElseThrow().getViews());
+    }
+
+    private long views(UUID topicId) {
+        return jdbcTemplate.queryForObject("SELECT views FROM topic_views WHERE topic_id = ?", Long.class, topicId);
+    }
+
+}
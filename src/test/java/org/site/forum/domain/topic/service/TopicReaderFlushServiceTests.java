@@ -0,0 +1,100 @@
+package org.site.forum.domain.topic.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.site.forum.common.HyperLogLog;
+import org.site.forum.domain.file.service.ImageModerationService;
+import org.site.forum.domain.topic.dao.TopicViewDaoImpl;
+import org.site.forum.domain.topic.entity.Topic;
+import org.site.forum.domain.topic.repository.TopicRepository;
+import org.site.forum.domain.user.entity.User;
+import org.site.forum.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.site.forum.constants.TestConstants.CONTENT;
+import static org.site.forum.constants.TestConstants.TITLE;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TopicReaderFlushServiceImpl.class, TopicViewDaoImpl.class})
+class TopicReaderFlushServiceTests {
+
+    @Autowired
+    private TopicReaderFlushService topicReaderFlushService;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ImageModerationService imageModerationService;
+
+    private Topic topic;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder().id(UUID.randomUUID()).name("test").build());
+        topic = topicRepository.saveAndFlush(Topic.builder()
+                .title(TITLE)
+                .content(CONTENT)
+                .rating(0)
+                .author(user)
+                .build());
+    }
+
+    @Test
+    void testFlushesMergeWithTheStoredSketch() {
+        topicReaderFlushService.flush(Map.of(topic.getId(), readers("a", "b")));
+        topicReaderFlushService.flush(Map.of(topic.getId(), readers("b", "c")));
+
+        assertEquals(3L, storedReaders());
+        assertEquals(3L, HyperLogLog.fromBytes(jdbcTemplate.queryForObject(
+                "SELECT reader_sketch FROM topic_views WHERE topic_id = ?", byte[].class, topic.getId())).estimate());
+    }
+
+    @Test
+    void testReadersDoNotTouchViews() {
+        jdbcTemplate.update("INSERT INTO topic_views (topic_id, views) VALUES (?, 5)", topic.getId());
+
+        topicReaderFlushService.flush(Map.of(topic.getId(), readers("a")));
+
+        assertEquals(5L, jdbcTemplate.queryForObject("SELECT views FROM topic_views WHERE topic_id = ?", Long.class,
+                topic.getId()));
+        assertEquals(1L, storedReaders());
+    }
+
+    @Test
+    void testSketchesOfUnknownTopicsAreDropped() {
+        topicReaderFlushService.flush(Map.of(topic.getId(), readers("a"), UUID.randomUUID(), readers("b")));
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM topic_views", Integer.class));
+    }
+
+    private long storedReaders() {
+        return jdbcTemplate.queryForObject("SELECT readers FROM topic_views WHERE topic_id = ?", Long.class,
+                topic.getId());
+    }
+
+    private HyperLogLog readers(String... subjects) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (String subject : subjects) {
+            sketch.add(subject);
+        }
+        return sketch;
+    }
+
+}
@@ -1,26 +1,39 @@
 package org.site.forum.domain.topic.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.site.forum.common.exception.InvalidTopicIdException;
 import org.site.forum.common.exception.UnauthorizedAccessException;
 import org.site.forum.config.auth.AuthenticationService;
 import org.site.forum.domain.file.dao.FileDao;
 import org.site.forum.domain.file.service.FileService;
+import org.site.forum.domain.search.index.TopicSearchIndex;
+import org.site.forum.domain.search.cache.SearchResultCache;
+import org.site.forum.domain.search.suggest.TopicSuggestIndex;
+import org.site.forum.domain.topic.buffer.TopicReaderBuffer;
+import org.site.forum.domain.topic.buffer.TopicViewBuffer;
+import org.site.forum.domain.topic.cache.TopicCache;
 import org.site.forum.domain.topic.dao.TopicDao;
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
+import org.site.forum.domain.topic.dto.projection.TopicVersion;
 import org.site.forum.domain.topic.dto.request.TopicRequestDto;
 import org.site.forum.domain.topic.dto.response.TopicResponseDto;
 import org.site.forum.domain.topic.entity.Topic;
 import org.site.forum.domain.topic.integrity.TopicDataIntegrity;
 import org.site.forum.domain.topic.mapper.TopicMapper;
+import org.site.forum.domain.user.cache.UserProfileCache;
 import org.site.forum.domain.user.entity.User;
 import org.springframework.web.multipart.MultipartFile;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -59,11 +72,33 @@ class TopicServiceTests {
     @Mock
     private AuthenticationService authenticationService;
 
+    @Spy
+    private TopicCache topicCache = new TopicCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    @Mock
+    private TopicSearchIndex topicSearchIndex;
+
+    @Mock
+    private TopicSuggestIndex topicSuggestIndex;
+
+    @Mock
+    private SearchResultCache searchResultCache;
+
+    @Mock
+    private TopicViewBuffer topicViewBuffer;
+
+    @Mock
+    private TopicReaderBuffer topicReaderBuffer;
+
+    @Mock
+    private UserProfileCache userProfileCache;
+
     @InjectMocks
     private TopicServiceImpl topicService;
 
     private User user;
     private Topic topic;
+    private TopicSummary topicSummary;
     private TopicRequestDto topicRequestDto;
     private UUID testTopicId;
 
@@ -80,6 +115,9 @@ class TopicServiceTests {
                 .author(user)
                 .build();
 
+        topicSummary = new TopicSummary(testTopicId, "Test Title", "Test Content", user.getId(), null, null, null,
+                null, true, 0, 0, 0L, 0L);
+
         topicRequestDto = TopicRequestDto.builder()
                 .title("Test Title")
                 .content("Test Content")
@@ -89,14 +127,107 @@ class TopicServiceTests {
     @Test
     void testGetTopic() {
         UUID topicId = UUID.randomUUID();
-        when(topicDao.getTopic(topicId)).thenReturn(topic);
-        when(fileDao.findFilesByTopicId(topicId)).thenReturn(Collections.emptyList());
-        when(topicMapper.toDto(topic, Collections.emptyList())).thenReturn(new TopicResponseDto());
+        when(topicDao.getTopicDetail(topicId)).thenReturn(topicSummary);
+        when(fileDao.findFilesByTopicIds(List.of(topicId))).thenReturn(Collections.emptyMap());
+        when(topicMapper.toSummaryDto(topicSummary, Collections.emptyList())).thenReturn(new TopicResponseDto());
 
         TopicResponseDto response = topicService.getTopic(topicId);
 
         assertNotNull(response);
-        verify(fileDao).findFilesByTopicId(topicId);
+        verify(fileDao).findFilesByTopicIds(List.of(topicId));
+    }
+
+    @Test
+    void testGetTopicIsServedFromCacheOnSecondRead() {
+        UUID topicId = UUID.randomUUID();
+        when(topicDao.getTopicDetail(topicId)).thenReturn(topicSummary);
+        when(fileDao.findFilesByTopicIds(List.of(topicId))).thenReturn(Collections.emptyMap());
+        when(topicMapper.toSummaryDto(topicSummary, Collections.emptyList())).thenReturn(new TopicResponseDto());
+
+        TopicResponseDto first = topicService.getTopic(topicId);
+        TopicResponseDto second = topicService.getTopic(topicId);
+
+        assertSame(first, second);
+        verify(topicDao, times(1)).getTopicDetail(topicId);
+        verify(fileDao, times(1)).findFilesByTopicIds(List.of(topicId));
+    }
+
+    @Test
+    void testDeleteTopicInvalidatesCachedTopic() {
+        UUID topicId = UUID.fromString(UUID_CONSTANT);
+        when(topicDao.getTopicDetail(topicId)).thenReturn(topicSummary);
+        when(fileDao.findFilesByTopicIds(List.of(topicId))).thenReturn(Collections.emptyMap());
+        when(topicMapper.toSummaryDto(topicSummary, Collections.emptyList())).thenReturn(new TopicResponseDto());
+        when(topicDao.getTopic(topicId)).thenReturn(topic);
+        when(authenticationService.getAuthenticatedUser()).thenReturn(user);
+        when(authenticationService.isAdmin()).thenReturn(true);
+
+        topicService.getTopic(topicId);
+        topicService.deleteTopic(topicId);
+        topicService.getTopic(topicId);
+
+        verify(topicCache).invalidate(topicId);
+        verify(fileDao, times(2)).findFilesByTopicIds(List.of(topicId));
+    }
+
+    @Test
+    void testDeleteTopicRemovesTopicFromSearchIndex() {
+        UUID topicId = UUID.fromString(UUID_CONSTANT);
+        when(topicDao.getTopic(topicId)).thenReturn(topic);
+        when(authenticationService.getAuthenticatedUser()).thenReturn(user);
+        when(authenticationService.isAdmin()).thenReturn(true);
+
+        topicService.deleteTopic(topicId);
+
+        verify(topicSearchIndex).remove(topicId);
+        verify(searchResultCache).invalidateCommunityOf(topic);
+    }
+
+    @Test
+    void testRecordViewCountsAuthenticatedReaders() {
+        UUID topicId = UUID.randomUUID();
+        when(authenticationService.getAuthenticatedSubject()).thenReturn(Optional.of(UUID_CONSTANT));
+
+        topicService.recordView(topicId);
+
+        verify(topicViewBuffer).record(topicId);
+        verify(topicReaderBuffer).record(topicId, UUID_CONSTANT);
+    }
+
+    @Test
+    void testRecordViewSkipsReaderOfAnonymousViews() {
+        UUID topicId = UUID.randomUUID();
+        when(authenticationService.getAuthenticatedSubject()).thenReturn(Optional.empty());
+
+        topicService.recordView(topicId);
+
+        verify(topicViewBuffer).record(topicId);
+        verifyNoInteractions(topicReaderBuffer);
+    }
+
+    @Test
+    void testGetTopicETagChangesWithVersion() {
+        UUID topicId = UUID.randomUUID();
+        TopicVersion original = topicVersion(topicId, 1);
+        TopicVersion rated = topicVersion(topicId, 2);
+        when(topicDao.getTopicVersion(topicId)).thenReturn(Optional.of(original), Optional.of(original), Optional.of(rated));
+
+        String first = topicService.getTopicETag(topicId);
+        String unchanged = topicService.getTopicETag(topicId);
+        String changed = topicService.getTopicETag(topicId);
+
+        assertTrue(first.startsWith("W/\"") && first.endsWith("\""));
+        assertEquals(first, unchanged);
+        assertNotEquals(first, changed);
+        verifyNoInteractions(fileDao, topicMapper);
+    }
+
+    @Test
+    void testGetTopicETagIsNullWhenTopicDoesNotExist() {
+        UUID topicId = UUID.randomUUID();
+        when(topicDao.getTopicVersion(topicId)).thenReturn(Optional.empty());
+
+        assertNull(topicService.getTopicETag(topicId));
     }
 
     @Test
@@ -224,6 +355,7 @@ class TopicServiceTests {
         verify(topicDataIntegrity).validateTopicId(topicId);
         verify(topicDataIntegrity).validateTopicRequestDto(topicRequestDto);
         verify(fileService, never()).uploadFiles(any(), any());
+        verify(topicSearchIndex).index(updatedTopic);
     }
 
     @Test
@@ -241,4 +373,13 @@ class TopicServiceTests {
         assertEquals("Not found", exception.getMessage());
     }
 
-}
\ No newline at end of file
+    private TopicVersion topicVersion(UUID topicId, int rating) {
+        TopicVersion version = mock(TopicVersion.class);
+        when(version.getId()).thenReturn(topicId);
+        when(version.getRating()).thenReturn(rating);
+        when(version.getCommentCount()).thenReturn(3);
+        when(version.getFileCount()).thenReturn(1L);
+        return version;
+    }
+
+}
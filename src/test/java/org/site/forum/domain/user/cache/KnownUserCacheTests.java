@@ -0,0 +1,94 @@
+package org.site.forum.domain.user.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KnownUserCacheTests {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private KnownUserCache knownUserCache;
+
+    @BeforeEach
+    void setUp() {
+        knownUserCache = new KnownUserCache(100, Duration.ofHours(1), 2, 0.01, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void testUnseenUserIsNotKnown() {
+        assertFalse(knownUserCache.isKnown(userId, "test"));
+    }
+
+    @Test
+    void testRememberedUserIsKnownUnderItsName() {
+        knownUserCache.remember(userId, "test");
+
+        assertTrue(knownUserCache.isKnown(userId, "test"));
+    }
+
+    @Test
+    void testRenamedUserIsNotKnown() {
+        knownUserCache.remember(userId, "test");
+
+        assertFalse(knownUserCache.isKnown(userId, "renamed"));
+    }
+
+    @Test
+    void testUserWithoutNameIsKnown() {
+        knownUserCache.remember(userId, null);
+
+        assertTrue(knownUserCache.isKnown(userId, null));
+        assertFalse(knownUserCache.isKnown(userId, "test"));
+    }
+
+    @Test
+    void testReplacedFilterForgetsEarlierUsers() {
+        knownUserCache.remember(userId, "test");
+        knownUserCache.remember(UUID.randomUUID(), "other");
+        knownUserCache.remember(UUID.randomUUID(), "another");
+
+        assertFalse(knownUserCache.isKnown(userId, "test"));
+    }
+
+    @Test
+    void testUserIsRememberedOnlyOnceTheTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            knownUserCache.remember(userId, "test");
+
+            assertFalse(knownUserCache.isKnown(userId, "test"));
+
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(knownUserCache.isKnown(userId, "test"));
+    }
+
+    @Test
+    void testUserIsNotRememberedWhenTheTransactionRollsBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            knownUserCache.remember(userId, "test");
+
+            TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertFalse(knownUserCache.isKnown(userId, "test"));
+    }
+
+}
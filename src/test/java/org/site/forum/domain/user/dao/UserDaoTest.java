@@ -82,4 +82,21 @@ class UserDaoTest {
         verify(userRepository, never()).findById(any());
     }
 
+    @Test
+    void upsertUser_WhenIdIsValid_UpsertsIdAndName() {
+        user.setName("test");
+
+        userDao.upsertUser(user);
+
+        verify(userRepository, times(1)).upsert(userId, "test");
+    }
+
+    @Test
+    void upsertUser_WhenIdIsNull_ThrowsInvalidUserIdException() {
+        user.setId(null);
+
+        assertThrows(InvalidUserIdException.class, () -> userDao.upsertUser(user));
+        verify(userRepository, never()).upsert(any(), any());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package org.site.forum.domain.user.dao;
+
+import org.junit.jupiter.api.Test;
+import org.site.forum.domain.file.service.ImageModerationService;
+import org.site.forum.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(UserDaoImpl.class)
+class UserDaoUpsertTests {
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private ImageModerationService imageModerationService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void testUpsertInsertsNewUser() {
+        userDao.upsertUser(new User(userId, "test", null, null));
+
+        assertEquals("test", name());
+    }
+
+    @Test
+    void testRepeatedUpsertKeepsOneRow() {
+        userDao.upsertUser(new User(userId, "test", null, null));
+        userDao.upsertUser(new User(userId, "test", null, null));
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM users WHERE id = ?", Integer.class, userId));
+    }
+
+    @Test
+    void testUpsertRefreshesChangedName() {
+        userDao.upsertUser(new User(userId, "test", null, null));
+        userDao.upsertUser(new User(userId, "renamed", null, null));
+
+        assertEquals("renamed", name());
+    }
+
+    private String name() {
+        return jdbcTemplate.queryForObject("SELECT name FROM users WHERE id = ?", String.class, userId);
+    }
+
+}
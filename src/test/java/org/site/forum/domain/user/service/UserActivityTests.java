@@ -0,0 +1,183 @@
+package org.site.forum.domain.user.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.site.forum.common.exception.InvalidPageException;
+import org.site.forum.common.exception.InvalidUserIdException;
+import org.site.forum.domain.comment.dao.CommentDaoImpl;
+import org.site.forum.domain.comment.dto.response.CursorPageResponseDto;
+import org.site.forum.domain.comment.entity.Comment;
+import org.site.forum.domain.community.entity.Community;
+import org.site.forum.domain.file.dao.FileDaoImpl;
+import org.site.forum.domain.file.integrity.FileDataIntegrityImpl;
+import org.site.forum.domain.file.mapper.FileMapper;
+import org.site.forum.domain.file.service.ImageModerationService;
+import org.site.forum.domain.topic.dao.TopicDaoImpl;
+import org.site.forum.domain.topic.entity.Topic;
+import org.site.forum.domain.topic.integrity.TopicDataIntegrityImpl;
+import org.site.forum.domain.topic.mapper.TopicMapper;
+import org.site.forum.domain.user.dao.UserDaoImpl;
+import org.site.forum.domain.user.dto.ActivityItemDto;
+import org.site.forum.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.site.forum.constants.TestConstants.CONTENT;
+import static org.site.forum.constants.TestConstants.TITLE;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserActivityServiceImpl.class, UserDaoImpl.class, TopicDaoImpl.class, TopicDataIntegrityImpl.class,
+        TopicMapper.class, CommentDaoImpl.class, FileDaoImpl.class, FileDataIntegrityImpl.class, FileMapper.class})
+class UserActivityTests {
+
+    private static final LocalDateTime START = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusDays(1);
+
+    @Autowired
+    private UserActivityService userActivityService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private ImageModerationService imageModerationService;
+
+    private Community community;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        community = new Community();
+        community.setTitle(TITLE);
+        community.setIsEnabled(true);
+        entityManager.persist(community);
+
+        user = User.builder().id(UUID.randomUUID()).name("author").build();
+        entityManager.persist(user);
+    }
+
+    @Test
+    void testPagesWalkTheWholeTimelineNewestFirst() {
+        Topic topic = persistTopic(0, false);
+        for (int i = 1; i <= 10; i++) {
+            persistTopic(i * 3, false);
+            persistComment(topic, i * 3 + (i % 2), true);
+        }
+        persistTopic(40, false);
+        persistComment(topic, 40, true);
+        persistComment(topic, 40, true);
+        flushAndClear();
+
+        List<ActivityItemDto> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponseDto<ActivityItemDto> page = userActivityService.getActivityByUserId(user.getId(), cursor, 4);
+            assertTrue(page.getSize() <= 4);
+            walked.addAll(page.getContent());
+            cursor = page.getNextCursor();
+            assertEquals(cursor != null, page.isHasNext());
+        } while (cursor != null);
+
+        assertEquals(24, walked.size());
+        assertEquals(24, walked.stream().map(this::idOf).distinct().count());
+        for (int i = 1; i < walked.size(); i++) {
+            assertFalse(walked.get(i).getCreatedAt().isAfter(walked.get(i - 1).getCreatedAt()));
+        }
+        assertEquals(ActivityItemDto.TYPE_TOPIC, walked.get(0).getType());
+        assertEquals(ActivityItemDto.TYPE_COMMENT, walked.get(1).getType());
+        assertEquals(START, walked.get(walked.size() - 1).getCreatedAt());
+    }
+
+    @Test
+    void testDeletedTopicsAndCommentsAreLeftOut() {
+        Topic topic = persistTopic(0, false);
+        persistTopic(1, true);
+        persistComment(topic, 2, false);
+        persistComment(topic, 3, true);
+        flushAndClear();
+
+        CursorPageResponseDto<ActivityItemDto> page = userActivityService.getActivityByUserId(user.getId(), null, 10);
+
+        assertEquals(2, page.getSize());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testStatementCountDoesNotGrowWithPageSize() {
+        Topic topic = persistTopic(0, false);
+        for (int i = 1; i <= 60; i++) {
+            persistTopic(i, false);
+            persistComment(topic, i, true);
+        }
+        flushAndClear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        userActivityService.getActivityByUserId(user.getId(), null, 50);
+
+        assertTrue(statistics.getPrepareStatementCount() <= 4,
+                "Expected at most 4 statements, but " + statistics.getPrepareStatementCount() + " ran");
+        assertEquals(0, statistics.getEntityFetchCount());
+    }
+
+    @Test
+    void testMalformedCursorIsRejected() {
+        assertThrows(InvalidPageException.class, () -> userActivityService.getActivityByUserId(user.getId(), "garbage", 10));
+    }
+
+    @Test
+    void testUnknownUserIsRejected() {
+        assertThrows(InvalidUserIdException.class, () -> userActivityService.getActivityByUserId(UUID.randomUUID(), null, 10));
+    }
+
+    private UUID idOf(ActivityItemDto item) {
+        return item.getTopic() != null ? item.getTopic().getId() : item.getComment().getId();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Topic persistTopic(int offsetSeconds, boolean deleted) {
+        Topic topic = Topic.builder()
+                .title(TITLE)
+                .content(CONTENT)
+                .createdAt(START.plusSeconds(offsetSeconds))
+                .deletedAt(deleted ? START.plusSeconds(offsetSeconds) : null)
+                .isEnabled(true)
+                .rating(0)
+                .author(user)
+                .community(community)
+                .build();
+        entityManager.persist(topic);
+        return topic;
+    }
+
+    private void persistComment(Topic topic, int offsetSeconds, boolean enabled) {
+        entityManager.persist(Comment.builder()
+                .text(CONTENT)
+                .createdAt(START.plusSeconds(offsetSeconds))
+                .isEnabled(enabled)
+                .user(user)
+                .topic(topic)
+                .build());
+    }
+
+}
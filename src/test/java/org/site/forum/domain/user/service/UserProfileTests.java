@@ -0,0 +1,191 @@
+package org.site.forum.domain.user.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.site.forum.config.auth.AuthenticationService;
+import org.site.forum.domain.comment.dao.CommentDaoImpl;
+import org.site.forum.domain.comment.entity.Comment;
+import org.site.forum.domain.comment.mapper.CommentMapper;
+import org.site.forum.domain.community.entity.Community;
+import org.site.forum.domain.file.dao.FileDaoImpl;
+import org.site.forum.domain.file.integrity.FileDataIntegrityImpl;
+import org.site.forum.domain.file.mapper.FileMapper;
+import org.site.forum.domain.file.service.ImageModerationService;
+import org.site.forum.domain.topic.dao.TopicDaoImpl;
+import org.site.forum.domain.topic.entity.Topic;
+import org.site.forum.domain.topic.integrity.TopicDataIntegrityImpl;
+import org.site.forum.domain.topic.mapper.TopicMapper;
+import org.site.forum.domain.user.cache.UserProfileCache;
+import org.site.forum.domain.user.dao.UserDaoImpl;
+import org.site.forum.domain.user.dto.UserResponseDto;
+import org.site.forum.domain.user.entity.User;
+import org.site.forum.domain.user.integrity.UserDataIntegrityImpl;
+import org.site.forum.domain.user.mapper.UserMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.site.forum.common.constant.UserConstant.PROFILE_RECENT_ITEMS;
+import static org.site.forum.constants.TestConstants.CONTENT;
+import static org.site.forum.constants.TestConstants.TITLE;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "forum.cache.user-profiles.maximum-size=0",
+        "forum.cache.user-profiles.ttl=PT1M"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({UserServiceImpl.class, UserDaoImpl.class, UserDataIntegrityImpl.class, UserMapper.class, UserProfileCache.class,
+        TopicDaoImpl.class, TopicDataIntegrityImpl.class, TopicMapper.class, CommentDaoImpl.class, CommentMapper.class,
+        FileDaoImpl.class, FileDataIntegrityImpl.class, FileMapper.class, UserProfileTests.MetricsConfig.class})
+class UserProfileTests {
+
+    private static final LocalDateTime START = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusDays(1);
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private AuthenticationService authenticationService;
+
+    @MockitoBean
+    private ImageModerationService imageModerationService;
+
+    private Community community;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        community = new Community();
+        community.setTitle(TITLE);
+        community.setIsEnabled(true);
+        entityManager.persist(community);
+
+        user = User.builder().id(UUID.randomUUID()).name("author").build();
+        entityManager.persist(user);
+    }
+
+    @Test
+    void testTotalsCountOnlyLiveTopicsAndComments() {
+        Topic first = persistTopic(1, 2, false);
+        persistTopic(2, 5, false);
+        persistTopic(3, -1, false);
+        persistTopic(4, 10, true);
+        persistComment(first, 5, true);
+        persistComment(first, 6, true);
+        persistComment(first, 7, false);
+
+        UserResponseDto profile = load();
+
+        assertEquals("author", profile.getName());
+        assertEquals(3, profile.getTopicCount());
+        assertEquals(2, profile.getCommentCount());
+        assertEquals(6, profile.getReceivedRating());
+        assertEquals(START.plusSeconds(6), profile.getLastActivityAt());
+    }
+
+    @Test
+    void testRecentItemsAreBoundedAndNewestFirst() {
+        Topic topic = null;
+        for (int i = 0; i < PROFILE_RECENT_ITEMS + 3; i++) {
+            topic = persistTopic(i, 0, false);
+            persistComment(topic, 100 + i, true);
+        }
+
+        UserResponseDto profile = load();
+
+        assertEquals(PROFILE_RECENT_ITEMS + 3, profile.getTopicCount());
+        assertEquals(PROFILE_RECENT_ITEMS, profile.getTopics().size());
+        assertEquals(PROFILE_RECENT_ITEMS, profile.getComments().size());
+        assertEquals(topic.getId(), profile.getTopics().get(0).getId());
+        assertEquals(START.plusSeconds(100 + PROFILE_RECENT_ITEMS + 2), profile.getComments().get(0).getCreatedAt());
+    }
+
+    @Test
+    void testUserWithoutActivityHasEmptyProfile() {
+        UserResponseDto profile = load();
+
+        assertEquals(0, profile.getTopicCount());
+        assertEquals(0, profile.getCommentCount());
+        assertEquals(0, profile.getReceivedRating());
+        assertNull(profile.getLastActivityAt());
+        assertTrue(profile.getTopics().isEmpty());
+        assertTrue(profile.getComments().isEmpty());
+    }
+
+    @Test
+    void testStatementCountDoesNotGrowWithActivity() {
+        for (int i = 0; i < 50; i++) {
+            persistComment(persistTopic(i, 1, false), 100 + i, true);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        userService.getUserById(user.getId());
+
+        assertTrue(statistics.getPrepareStatementCount() <= 5,
+                "Expected at most 5 statements, but " + statistics.getPrepareStatementCount() + " ran");
+        assertEquals(0, statistics.getEntityFetchCount());
+    }
+
+    private UserResponseDto load() {
+        entityManager.flush();
+        entityManager.clear();
+        return userService.getUserById(user.getId());
+    }
+
+    private Topic persistTopic(int offsetSeconds, int rating, boolean deleted) {
+        Topic topic = Topic.builder()
+                .title(TITLE)
+                .content(CONTENT)
+                .createdAt(START.plusSeconds(offsetSeconds))
+                .deletedAt(deleted ? START.plusSeconds(offsetSeconds) : null)
+                .isEnabled(true)
+                .rating(rating)
+                .author(user)
+                .community(community)
+                .build();
+        entityManager.persist(topic);
+        return topic;
+    }
+
+    private void persistComment(Topic topic, int offsetSeconds, boolean enabled) {
+        entityManager.persist(Comment.builder()
+                .text(CONTENT)
+                .createdAt(START.plusSeconds(offsetSeconds))
+                .isEnabled(enabled)
+                .user(user)
+                .topic(topic)
+                .build());
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+}
@@ -1,10 +1,12 @@
 package org.site.forum.domain.user.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.site.forum.common.exception.InvalidUserException;
 import org.site.forum.common.exception.InvalidUserIdException;
@@ -15,11 +17,14 @@ import org.site.forum.domain.comment.entity.Comment;
 import org.site.forum.domain.comment.mapper.CommentMapper;
 import org.site.forum.domain.file.dao.FileDao;
 import org.site.forum.domain.topic.dao.TopicDao;
+import org.site.forum.domain.topic.dto.projection.TopicSummary;
 import org.site.forum.domain.topic.dto.response.TopicResponseDto;
 import org.site.forum.domain.topic.entity.Topic;
 import org.site.forum.domain.topic.mapper.TopicMapper;
+import org.site.forum.domain.user.cache.UserProfileCache;
 import org.site.forum.domain.user.dao.UserDao;
 import org.site.forum.domain.user.dto.UserResponseDto;
+import org.site.forum.domain.user.dto.projection.UserActivityTotals;
 import org.site.forum.domain.user.entity.User;
 import org.site.forum.domain.user.integrity.UserDataIntegrity;
 import org.site.forum.domain.user.mapper.UserMapper;
@@ -27,7 +32,9 @@ import org.site.forum.domain.user.repository.UserRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -38,8 +45,10 @@ import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.site.forum.common.constant.UserConstant.PROFILE_RECENT_ITEMS;
 import static org.site.forum.constants.TestConstants.CONTENT;
 import static org.site.forum.constants.TestConstants.CREATED_AT;
 import static org.site.forum.constants.TestConstants.TITLE;
@@ -81,12 +90,19 @@ public class UserServiceTest {
     @Mock
     private FileDao fileDao;
 
+    @Mock
+    private UserActivityTotals activityTotals;
+
+    @Spy
+    private UserProfileCache userProfileCache = new UserProfileCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
     private User user;
     private UUID userId;
     private ParentCommentResponseDto parentCommentResponseDto;
     private UserResponseDto userResponseDto;
     private TopicResponseDto topicResponseDto;
     private Topic topic;
+    private TopicSummary topicSummary;
     private Comment comment;
 
     @BeforeEach
@@ -110,6 +126,8 @@ public class UserServiceTest {
                 .author(user)
                 .build();
 
+        topicSummary = new TopicSummary(UUID.randomUUID(), TITLE, CONTENT, userId, null, null, null, null, true, 0, 0, 0, 0);
+
         parentCommentResponseDto = ParentCommentResponseDto.builder()
                 .id(UUID.randomUUID())
                 .text(CONTENT)
@@ -180,8 +198,8 @@ public class UserServiceTest {
 
         when(authenticationService.getAuthenticatedAndPersistedUser()).thenReturn(user);
 
-        when(topicDao.getAllTopicsByUserId(userId, pageable)).thenReturn(new PageImpl<>(List.of(topic)));
-        when(topicMapper.toDto(topic, List.of())).thenReturn(topicResponseDto);
+        when(topicDao.getAllTopicsByUserId(userId, pageable)).thenReturn(new PageImpl<>(List.of(topicSummary)));
+        when(topicMapper.toSummaryDto(topicSummary, List.of())).thenReturn(topicResponseDto);
 
         Page<TopicResponseDto> result = userService.getAuthenticatedUserTopics(pageable);
 
@@ -190,7 +208,7 @@ public class UserServiceTest {
         assertEquals(topicResponseDto, result.getContent().get(0));
 
         verify(topicDao).getAllTopicsByUserId(userId, pageable);
-        verify(topicMapper).toDto(topic, List.of());
+        verify(topicMapper).toSummaryDto(topicSummary, List.of());
     }
 
     @Test
@@ -206,13 +224,19 @@ public class UserServiceTest {
 
         verify(userDataIntegrity).validateUser(null);
         verify(topicDao, never()).getAllTopicsByUserId(any(), any());
-        verify(topicMapper, never()).toDto(any(), any());
+        verify(topicMapper, never()).toSummaryDto(any(), any());
     }
 
     @Test
     void getUserById() {
         when(userDao.getUserById(userId)).thenReturn(Optional.of(user));
-        when(userMapper.toUserResponseDto(user)).thenReturn(userResponseDto);
+        when(userDao.getActivityTotals(userId)).thenReturn(activityTotals);
+        when(topicDao.getTopicsByUserIdBefore(userId, null, PROFILE_RECENT_ITEMS)).thenReturn(List.of(topicSummary));
+        when(commentDao.getCommentsByUserIdBefore(userId, null, PROFILE_RECENT_ITEMS)).thenReturn(List.of(parentCommentResponseDto));
+        when(fileDao.findFilesByTopicIds(List.of(topicSummary.getId()))).thenReturn(Map.of());
+        when(topicMapper.toSummaryDto(topicSummary, List.of())).thenReturn(topicResponseDto);
+        when(userMapper.toUserResponseDto(user, activityTotals, List.of(topicResponseDto), List.of(parentCommentResponseDto)))
+                .thenReturn(userResponseDto);
 
         UserResponseDto result = userService.getUserById(userId);
 
@@ -220,17 +244,31 @@ public class UserServiceTest {
         assertEquals(userId, result.getId());
 
         verify(userDao).getUserById(userId);
-        verify(userMapper).toUserResponseDto(user);
+        verify(userMapper).toUserResponseDto(user, activityTotals, List.of(topicResponseDto), List.of(parentCommentResponseDto));
+    }
+
+    @Test
+    void getUserById_IsServedFromCacheUntilInvalidated() {
+        when(userDao.getUserById(userId)).thenReturn(Optional.of(user));
+        when(userMapper.toUserResponseDto(any(), any(), any(), any())).thenReturn(userResponseDto);
+
+        userService.getUserById(userId);
+        userService.getUserById(userId);
+        userProfileCache.invalidate(userId);
+        userService.getUserById(userId);
+
+        verify(userDao, times(2)).getUserById(userId);
     }
 
     @Test
     void getUserById_WhenUserDoesNotExist_ThrowsInvalidUserException() {
         when(userDao.getUserById(userId)).thenReturn(Optional.empty());
 
+        assertThrows(InvalidUserException.class, () -> userService.getUserById(userId));
         assertThrows(InvalidUserException.class, () -> userService.getUserById(userId));
 
-        verify(userDao).getUserById(userId);
-        verify(userMapper, never()).toUserResponseDto(any());
+        verify(userDao, times(2)).getUserById(userId);
+        verify(userMapper, never()).toUserResponseDto(any(), any(), any(), any());
     }
 
     @Test
@@ -268,8 +306,8 @@ public class UserServiceTest {
     void testGetUserTopics() {
         PageRequest pageable = PageRequest.of(0, 10);
 
-        when(topicDao.getAllTopicsByUserId(userId, pageable)).thenReturn(new PageImpl<>(List.of(topic)));
-        when(topicMapper.toDto(topic, List.of())).thenReturn(topicResponseDto);
+        when(topicDao.getAllTopicsByUserId(userId, pageable)).thenReturn(new PageImpl<>(List.of(topicSummary)));
+        when(topicMapper.toSummaryDto(topicSummary, List.of())).thenReturn(topicResponseDto);
 
         Page<TopicResponseDto> result = userService.getUserTopics(userId, pageable);
 
@@ -278,7 +316,7 @@ public class UserServiceTest {
         assertEquals(topicResponseDto, result.getContent().get(0));
 
         verify(topicDao).getAllTopicsByUserId(userId, pageable);
-        verify(topicMapper).toDto(topic, List.of());
+        verify(topicMapper).toSummaryDto(topicSummary, List.of());
     }
 
     @Test
@@ -292,7 +330,7 @@ public class UserServiceTest {
         assertThrows(InvalidUserIdException.class, () -> userService.getUserTopics(nonExistentUserId, pageable));
 
         verify(topicDao).getAllTopicsByUserId(nonExistentUserId, pageable);
-        verify(topicMapper, never()).toDto(any(), any());
+        verify(topicMapper, never()).toSummaryDto(any(), any());
     }
 
 }
\ No newline at end of file